@@ -11,6 +11,7 @@ import io.vertx.docgen.Source;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.api.service.RouteToEBServiceHandler;
 import io.vertx.ext.web.api.service.ServiceRequest;
+import io.vertx.ext.web.api.service.ServiceRequestMessageCodec;
 import io.vertx.ext.web.api.service.ServiceResponse;
 import io.vertx.ext.web.handler.HttpException;
 import io.vertx.ext.web.validation.ValidationHandler;
@@ -52,6 +53,20 @@ public class ApiCodegenExamples {
       );
   }
 
+  public void mountHandlerLocalOnly(EventBus eventBus, Router router,
+                                    ValidationHandler validationHandler) {
+    router
+      .get("/hello")
+      .handler(validationHandler)
+      .handler(
+        RouteToEBServiceHandler
+          .build(eventBus, "greeters.myapplication", "hello",
+            new DeliveryOptions()
+              .setLocalOnly(true)
+              .setCodecName(ServiceRequestMessageCodec.CODEC_NAME))
+      );
+  }
+
   public void serviceMountExample(EventBus eventBus, Router router,
                                   SchemaRepository repository) {
     router.get("/api/transactions")
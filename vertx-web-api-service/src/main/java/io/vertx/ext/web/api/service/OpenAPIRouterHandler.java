@@ -18,6 +18,7 @@ import io.vertx.core.eventbus.DeliveryOptions;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.api.service.impl.OpenAPIRouterHandlerImpl;
+import io.vertx.ext.web.openapi.router.ResponseValidationOptions;
 import io.vertx.openapi.contract.Operation;
 import io.vertx.openapi.validation.ResponseValidator;
 
@@ -89,6 +90,26 @@ public interface OpenAPIRouterHandler extends Handler<RoutingContext> {
   static OpenAPIRouterHandler create(Vertx vertx, Operation operation, DeliveryOptions deliveryOptions,
                                      BiFunction<Operation, RoutingContext, JsonObject> extraPayloadMapper,
                                      ResponseValidator validator) {
+    return create(vertx, operation, deliveryOptions, extraPayloadMapper, validator, new ResponseValidationOptions());
+  }
+
+  /**
+   * Like {@link #create(Vertx, Operation, DeliveryOptions, BiFunction, ResponseValidator)}, but with
+   * {@link ResponseValidationOptions} to control how responses are validated, e.g. only a sample of the responses,
+   * asynchronously after the response has been sent, or with latency metrics per operation.
+   *
+   * @param vertx              The related Vert.x instance to access the Eventbus
+   * @param operation          The related OpenAPI operation with the "x-vertx-event-bus" extension
+   * @param deliveryOptions    The {@link DeliveryOptions} which will be used by this handler for every eventbus
+   *                           request.
+   * @param extraPayloadMapper A function to extract an extra payload from incoming requests.
+   * @param validator          The ResponseValidator to validate the response received by the Web API Service Proxy
+   * @param validationOptions  The options for the response validation
+   * @return a new OpenAPIRouterHandler
+   */
+  static OpenAPIRouterHandler create(Vertx vertx, Operation operation, DeliveryOptions deliveryOptions,
+                                     BiFunction<Operation, RoutingContext, JsonObject> extraPayloadMapper,
+                                     ResponseValidator validator, ResponseValidationOptions validationOptions) {
     Object ebExtension = operation.getExtensions().get(OPENAPI_EXTENSION);
     Objects.requireNonNull(ebExtension, "No eventbus configuration found for Operation: " + operation.getOperationId());
 
@@ -121,6 +142,7 @@ public interface OpenAPIRouterHandler extends Handler<RoutingContext> {
 
     DeliveryOptions delOpts = Optional.ofNullable(deliveryOptions).orElse(new DeliveryOptions());
     delOpts.addHeader("action", method);
-    return new OpenAPIRouterHandlerImpl(vertx.eventBus(), address, delOpts, extraPayloadMapper, validator);
+    return new OpenAPIRouterHandlerImpl(vertx.eventBus(), address, delOpts, extraPayloadMapper, validator,
+      validationOptions);
   }
 }
@@ -46,6 +46,11 @@ public interface RouteToEBServiceHandler extends Handler<RoutingContext> {
 
   /**
    * Build a new {@code RouteToEBServiceHandler}
+   * <p>
+   * When {@code deliveryOptions} use {@link ServiceRequestMessageCodec#CODEC_NAME} as codec name, {@link ServiceRequest}
+   * and {@link ServiceResponse} are exchanged with {@link ServiceRequestMessageCodec} and
+   * {@link ServiceResponseMessageCodec} instead of being serialized to JSON. The service handlers must then be
+   * generated with this version.
    *
    * @param eventBus Vert.x event bus instance
    * @param address Event bus endpoint address
@@ -0,0 +1,81 @@
+package io.vertx.ext.web.api.service;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.api.service.impl.WireUtils;
+
+import java.util.Map;
+
+/**
+ * {@link MessageCodec} for the messages sent by {@link RouteToEBServiceHandler}.
+ * <p>
+ * The message body is a {@link JsonObject} envelope whose {@code context} entry holds the {@link ServiceRequest}.
+ * Local deliveries hand over the envelope and the {@link ServiceRequest} by reference, without serializing the
+ * request headers or copying the JSON. Clustered deliveries encode the {@link ServiceRequest} with a compact binary
+ * encoding, in this case the codec must be registered on every node of the cluster.
+ */
+public class ServiceRequestMessageCodec implements MessageCodec<JsonObject, JsonObject> {
+
+  /**
+   * Name of this codec
+   */
+  public static final String CODEC_NAME = "vertx-web-api-service.request";
+
+  private static final String CONTEXT = "context";
+
+  @Override
+  public void encodeToWire(Buffer buffer, JsonObject envelope) {
+    Object context = envelope.getValue(CONTEXT);
+    JsonObject rest = new JsonObject();
+    for (Map.Entry<String, Object> entry : envelope) {
+      if (!CONTEXT.equals(entry.getKey())) {
+        rest.put(entry.getKey(), entry.getValue());
+      }
+    }
+    if (context instanceof ServiceRequest) {
+      ServiceRequest request = (ServiceRequest) context;
+      buffer.appendByte((byte) 1);
+      WireUtils.writeJson(buffer, request.getParams());
+      WireUtils.writeHeaders(buffer, request.getHeaders());
+      WireUtils.writeJson(buffer, request.getUser());
+      WireUtils.writeJson(buffer, request.getExtra());
+    } else {
+      buffer.appendByte((byte) 0);
+      WireUtils.writeJson(buffer, (JsonObject) context);
+    }
+    WireUtils.writeJson(buffer, rest);
+  }
+
+  @Override
+  public JsonObject decodeFromWire(int pos, Buffer buffer) {
+    WireUtils.Reader reader = new WireUtils.Reader(buffer, pos);
+    Object context;
+    if (reader.readByte() == 1) {
+      JsonObject params = reader.readJson();
+      context = new ServiceRequest(params, reader.readHeaders(), reader.readJson(), reader.readJson());
+    } else {
+      context = reader.readJson();
+    }
+    JsonObject envelope = reader.readJson();
+    if (context != null) {
+      envelope.put(CONTEXT, context);
+    }
+    return envelope;
+  }
+
+  @Override
+  public JsonObject transform(JsonObject envelope) {
+    return envelope;
+  }
+
+  @Override
+  public String name() {
+    return CODEC_NAME;
+  }
+
+  @Override
+  public byte systemCodecID() {
+    return -1;
+  }
+}
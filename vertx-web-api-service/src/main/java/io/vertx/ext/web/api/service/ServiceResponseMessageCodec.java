@@ -0,0 +1,54 @@
+package io.vertx.ext.web.api.service;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.ext.web.api.service.impl.WireUtils;
+
+/**
+ * {@link MessageCodec} for {@link ServiceResponse} replies.
+ * <p>
+ * Local deliveries hand over the same {@link ServiceResponse} instance, so its payload {@link Buffer} reaches the HTTP
+ * response without being encoded or copied. Clustered deliveries use a compact binary encoding of the status, the
+ * headers and the raw payload bytes.
+ */
+public class ServiceResponseMessageCodec implements MessageCodec<ServiceResponse, ServiceResponse> {
+
+  /**
+   * Name of this codec
+   */
+  public static final String CODEC_NAME = "vertx-web-api-service.response";
+
+  @Override
+  public void encodeToWire(Buffer buffer, ServiceResponse response) {
+    buffer.appendInt(response.getStatusCode() != null ? response.getStatusCode() : -1);
+    WireUtils.writeString(buffer, response.getStatusMessage());
+    WireUtils.writeHeaders(buffer, response.getHeaders());
+    WireUtils.writeBuffer(buffer, response.getPayload());
+  }
+
+  @Override
+  public ServiceResponse decodeFromWire(int pos, Buffer buffer) {
+    WireUtils.Reader reader = new WireUtils.Reader(buffer, pos);
+    int statusCode = reader.readInt();
+    String statusMessage = reader.readString();
+    MultiMap headers = reader.readHeaders();
+    Buffer payload = reader.readBuffer();
+    return new ServiceResponse(statusCode < 0 ? null : statusCode, statusMessage, payload, headers);
+  }
+
+  @Override
+  public ServiceResponse transform(ServiceResponse response) {
+    return response;
+  }
+
+  @Override
+  public String name() {
+    return CODEC_NAME;
+  }
+
+  @Override
+  public byte systemCodecID() {
+    return -1;
+  }
+}
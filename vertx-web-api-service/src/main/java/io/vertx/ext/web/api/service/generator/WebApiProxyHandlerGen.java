@@ -7,6 +7,7 @@ import io.vertx.codegen.processor.type.ParameterizedTypeInfo;
 import io.vertx.codegen.processor.type.TypeInfo;
 import io.vertx.codegen.processor.writer.CodeWriter;
 import io.vertx.ext.web.api.service.ServiceRequest;
+import io.vertx.ext.web.api.service.ServiceResponseMessageCodec;
 import io.vertx.ext.web.api.service.WebApiServiceGen;
 import io.vertx.ext.web.api.service.generator.model.WebApiProxyMethodInfo;
 import io.vertx.ext.web.validation.RequestParameter;
@@ -49,7 +50,7 @@ public class WebApiProxyHandlerGen extends ServiceProxyHandlerGen {
 
   @Override
   public Stream<String> additionalImports() {
-    return Stream.of(ServiceRequest.class.getCanonicalName(), Optional.class.getCanonicalName());
+    return Stream.of(ServiceRequest.class.getCanonicalName(), ServiceResponseMessageCodec.class.getCanonicalName(), Optional.class.getCanonicalName());
   }
 
   @Override
@@ -67,12 +68,14 @@ public class WebApiProxyHandlerGen extends ServiceProxyHandlerGen {
     writer
       .codeln(String.format("case \"%s\": {", m.getName()))
       .indent()
-      .stmt("JsonObject contextSerialized = json.getJsonObject(\"context\")")
+      .stmt("Object contextSerialized = json.getValue(\"context\")")
       .codeln("if (contextSerialized == null)")
       .indent()
       .stmt("throw new IllegalStateException(\"Received action \" + action + \" without ServiceRequest \\\"context\\\"\")")
       .unindent()
-      .stmt("ServiceRequest context = new ServiceRequest(contextSerialized)")
+      // The ServiceRequest is passed by reference when sent with the ServiceRequestMessageCodec
+      .stmt("boolean replyByReference = contextSerialized instanceof ServiceRequest")
+      .stmt("ServiceRequest context = replyByReference ? (ServiceRequest) contextSerialized : new ServiceRequest((JsonObject) contextSerialized)")
       .stmt("JsonObject params = context.getParams()")
       .codeln("try {")
       .indent()
@@ -24,6 +24,7 @@ import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.api.service.OpenAPIRouterHandler;
 import io.vertx.ext.web.api.service.ServiceRequest;
 import io.vertx.ext.web.api.service.ServiceResponse;
+import io.vertx.ext.web.openapi.router.ResponseValidationOptions;
 import io.vertx.ext.web.openapi.router.internal.handler.EventbusHandler;
 import io.vertx.openapi.contract.Operation;
 import io.vertx.openapi.validation.RequestParameter;
@@ -46,7 +47,13 @@ public class OpenAPIRouterHandlerImpl extends EventbusHandler implements OpenAPI
   public OpenAPIRouterHandlerImpl(EventBus eventBus, String address, DeliveryOptions deliveryOptions,
                                   BiFunction<Operation, RoutingContext, JsonObject> extraPayloadMapper
     , ResponseValidator validator) {
-    super(eventBus, address, deliveryOptions, validator);
+    this(eventBus, address, deliveryOptions, extraPayloadMapper, validator, new ResponseValidationOptions());
+  }
+
+  public OpenAPIRouterHandlerImpl(EventBus eventBus, String address, DeliveryOptions deliveryOptions,
+                                  BiFunction<Operation, RoutingContext, JsonObject> extraPayloadMapper,
+                                  ResponseValidator validator, ResponseValidationOptions validationOptions) {
+    super(eventBus, address, deliveryOptions, validator, validationOptions);
     this.extraPayloadMapper = extraPayloadMapper;
   }
 
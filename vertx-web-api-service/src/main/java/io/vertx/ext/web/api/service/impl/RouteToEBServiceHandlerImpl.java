@@ -11,7 +11,9 @@ import io.vertx.ext.auth.User;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.api.service.RouteToEBServiceHandler;
 import io.vertx.ext.web.api.service.ServiceRequest;
+import io.vertx.ext.web.api.service.ServiceRequestMessageCodec;
 import io.vertx.ext.web.api.service.ServiceResponse;
+import io.vertx.ext.web.api.service.ServiceResponseMessageCodec;
 import io.vertx.ext.web.validation.RequestParameters;
 
 import java.util.function.Function;
@@ -21,14 +23,34 @@ public class RouteToEBServiceHandlerImpl implements RouteToEBServiceHandler {
   private final EventBus eventBus;
   private final String address;
   private final DeliveryOptions deliveryOptions;
+  private final boolean passByReference;
   private Function<RoutingContext, JsonObject> extraPayloadMapper;
 
   public RouteToEBServiceHandlerImpl(EventBus eventBus, String address, DeliveryOptions deliveryOptions) {
     this.eventBus = eventBus;
     this.address = address;
+    // Deliveries explicitly configured with the service request codec skip the JSON serialization of the
+    // ServiceRequest and of the ServiceResponse, the generated handlers of existing services expect JSON otherwise
+    this.passByReference = ServiceRequestMessageCodec.CODEC_NAME.equals(deliveryOptions.getCodecName());
+    if (passByReference) {
+      registerCodecs(eventBus);
+    }
     this.deliveryOptions = deliveryOptions;
   }
 
+  private static void registerCodecs(EventBus eventBus) {
+    try {
+      eventBus.registerCodec(new ServiceRequestMessageCodec());
+    } catch (IllegalStateException ignore) {
+      // Already registered
+    }
+    try {
+      eventBus.registerCodec(new ServiceResponseMessageCodec());
+    } catch (IllegalStateException ignore) {
+      // Already registered
+    }
+  }
+
   @Override
   public void handle(RoutingContext routingContext) {
     // pass authorization header if present to the eventbus
@@ -46,9 +68,10 @@ public class RouteToEBServiceHandlerImpl implements RouteToEBServiceHandler {
       deliveryOptions = this.deliveryOptions;
     }
 
-    eventBus.<JsonObject>request(address, buildPayload(routingContext), deliveryOptions).onComplete(res -> {
+    eventBus.request(address, buildPayload(routingContext), deliveryOptions).onComplete(res -> {
       if (res.succeeded()) {
-        ServiceResponse op = new ServiceResponse(res.result().body());
+        Object body = res.result().body();
+        ServiceResponse op = body instanceof ServiceResponse ? (ServiceResponse) body : new ServiceResponse((JsonObject) body);
         HttpServerResponse response = routingContext.response().setStatusCode(op.getStatusCode());
         if (op.getStatusMessage() != null)
           response.setStatusMessage(op.getStatusMessage());
@@ -74,12 +97,16 @@ public class RouteToEBServiceHandlerImpl implements RouteToEBServiceHandler {
   private JsonObject buildPayload(RoutingContext context) {
     JsonObject params = context.get("parsedParameters") != null ? ((RequestParameters)context.get("parsedParameters")).toJson() : null;
     User user = context.user();
-    return new JsonObject().put("context", new ServiceRequest(
+    // a request passed by reference is read by the service on another thread while the HTTP request is still active
+    MultiMap headers = passByReference ? HttpHeaders.headers().addAll(context.request().headers()) : context.request().headers();
+    ServiceRequest request = new ServiceRequest(
       params,
-      context.request().headers(),
+      headers,
       (user != null) ? user.principal() : null,
       (this.extraPayloadMapper != null) ? this.extraPayloadMapper.apply(context) : null
-    ).toJson());
+    );
+    // When passed by reference the generated service handler receives the ServiceRequest instance as is
+    return new JsonObject().put("context", passByReference ? request : request.toJson());
   }
 
 }
@@ -0,0 +1,113 @@
+package io.vertx.ext.web.api.service.impl;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Compact binary encoding helpers shared by the service message codecs
+ */
+public final class WireUtils {
+
+  private WireUtils() {
+  }
+
+  public static void writeString(Buffer buffer, String s) {
+    if (s == null) {
+      buffer.appendInt(-1);
+    } else {
+      byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+      buffer.appendInt(bytes.length);
+      buffer.appendBytes(bytes);
+    }
+  }
+
+  public static void writeBuffer(Buffer buffer, Buffer b) {
+    if (b == null) {
+      buffer.appendInt(-1);
+    } else {
+      buffer.appendInt(b.length());
+      buffer.appendBuffer(b);
+    }
+  }
+
+  public static void writeJson(Buffer buffer, JsonObject json) {
+    writeBuffer(buffer, json != null ? json.toBuffer() : null);
+  }
+
+  public static void writeHeaders(Buffer buffer, MultiMap headers) {
+    if (headers == null) {
+      buffer.appendInt(-1);
+      return;
+    }
+    buffer.appendInt(headers.size());
+    for (Map.Entry<String, String> header : headers) {
+      writeString(buffer, header.getKey());
+      writeString(buffer, header.getValue());
+    }
+  }
+
+  /**
+   * Reads the structures written by this class, tracking the read position
+   */
+  public static final class Reader {
+
+    private final Buffer buffer;
+    private int pos;
+
+    public Reader(Buffer buffer, int pos) {
+      this.buffer = buffer;
+      this.pos = pos;
+    }
+
+    public byte readByte() {
+      return buffer.getByte(pos++);
+    }
+
+    public int readInt() {
+      int i = buffer.getInt(pos);
+      pos += 4;
+      return i;
+    }
+
+    public String readString() {
+      int len = readInt();
+      if (len < 0) {
+        return null;
+      }
+      String s = buffer.getString(pos, pos + len, "UTF-8");
+      pos += len;
+      return s;
+    }
+
+    public Buffer readBuffer() {
+      int len = readInt();
+      if (len < 0) {
+        return null;
+      }
+      Buffer b = buffer.getBuffer(pos, pos + len);
+      pos += len;
+      return b;
+    }
+
+    public JsonObject readJson() {
+      Buffer b = readBuffer();
+      return b != null ? new JsonObject(b) : null;
+    }
+
+    public MultiMap readHeaders() {
+      int size = readInt();
+      if (size < 0) {
+        return null;
+      }
+      MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+      for (int i = 0; i < size; i++) {
+        headers.add(readString(), readString());
+      }
+      return headers;
+    }
+  }
+}
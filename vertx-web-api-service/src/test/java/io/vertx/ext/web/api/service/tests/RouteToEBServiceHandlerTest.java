@@ -1,7 +1,9 @@
 package io.vertx.ext.web.api.service.tests;
 
+import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.DeliveryOptions;
 import io.vertx.core.eventbus.MessageConsumer;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
@@ -10,6 +12,10 @@ import io.vertx.core.json.JsonObject;
 import io.vertx.core.json.pointer.JsonPointer;
 import io.vertx.ext.auth.User;
 import io.vertx.ext.web.api.service.RouteToEBServiceHandler;
+import io.vertx.ext.web.api.service.ServiceRequest;
+import io.vertx.ext.web.api.service.ServiceRequestMessageCodec;
+import io.vertx.ext.web.api.service.ServiceResponse;
+import io.vertx.ext.web.api.service.ServiceResponseMessageCodec;
 import io.vertx.ext.web.handler.BodyHandler;
 import io.vertx.ext.web.impl.UserContextInternal;
 import io.vertx.ext.web.validation.tests.BaseValidationHandlerTest;
@@ -42,6 +48,7 @@ import static io.vertx.json.schema.common.dsl.Schemas.intSchema;
 import static io.vertx.json.schema.common.dsl.Schemas.objectSchema;
 import static io.vertx.json.schema.common.dsl.Schemas.ref;
 import static io.vertx.json.schema.common.dsl.Schemas.stringSchema;
+import static org.assertj.core.api.Assertions.assertThat;
 
 /**
  * @author Francesco Guardiani @slinkydeveloper
@@ -321,4 +328,111 @@ public class RouteToEBServiceHandlerTest extends BaseValidationHandlerTest {
       .expect(jsonBodyResponse(new JsonObject().put("result", "Basic QWxhZGRpbjpvcGVuIHNlc2FtZQ==")))
       .send(testContext, checkpoint);
   }
+
+  @Test
+  public void serviceProxyLocalOnlyTest(Vertx vertx, VertxTestContext testContext) {
+    Checkpoint checkpoint = testContext.checkpoint(2);
+
+    TestService service = new TestServiceImpl(vertx);
+    final ServiceBinder serviceBinder = new ServiceBinder(vertx).setAddress("someAddress");
+    consumer = serviceBinder.register(TestService.class, service);
+
+    router
+      .get("/test")
+      .handler(
+        ValidationHandlerBuilder.create(schemaRepo).build()
+      ).handler(rc -> {
+        ((UserContextInternal) rc.userContext()).setUser(User.fromName("slinkydeveloper")); // Put user mock into context
+        rc.next();
+      })
+      .handler(
+        RouteToEBServiceHandler.build(vertx.eventBus(), "someAddress", "testUser", new DeliveryOptions().setLocalOnly(true))
+      );
+
+    router
+      .get("/testEmpty")
+      .handler(
+        ValidationHandlerBuilder.create(schemaRepo).build()
+      ).handler(
+        RouteToEBServiceHandler.build(vertx.eventBus(), "someAddress", "testEmptyServiceResponse", new DeliveryOptions().setLocalOnly(true))
+      );
+
+    testRequest(client, HttpMethod.GET, "/test")
+      .expect(statusCode(200), statusMessage("OK"))
+      .expect(jsonBodyResponse(new JsonObject().put("result", "Hello slinkydeveloper!")))
+      .send(testContext, checkpoint);
+
+    testRequest(client, HttpMethod.GET, "/testEmpty")
+      .expect(statusCode(200), statusMessage("OK"))
+      .expect(emptyResponse())
+      .send(testContext, checkpoint);
+  }
+
+  @Test
+  public void serviceProxyByReferenceTest(Vertx vertx, VertxTestContext testContext) {
+    Checkpoint checkpoint = testContext.checkpoint(2);
+
+    TestService service = new TestServiceImpl(vertx);
+    final ServiceBinder serviceBinder = new ServiceBinder(vertx).setAddress("someAddress");
+    consumer = serviceBinder.register(TestService.class, service);
+
+    router
+      .get("/test")
+      .handler(
+        ValidationHandlerBuilder.create(schemaRepo).build()
+      ).handler(rc -> {
+        ((UserContextInternal) rc.userContext()).setUser(User.fromName("slinkydeveloper")); // Put user mock into context
+        rc.next();
+      })
+      .handler(
+        RouteToEBServiceHandler.build(vertx.eventBus(), "someAddress", "testUser", new DeliveryOptions().setLocalOnly(true).setCodecName(ServiceRequestMessageCodec.CODEC_NAME))
+      );
+
+    router
+      .get("/testEmpty")
+      .handler(
+        ValidationHandlerBuilder.create(schemaRepo).build()
+      ).handler(
+        RouteToEBServiceHandler.build(vertx.eventBus(), "someAddress", "testEmptyServiceResponse", new DeliveryOptions().setLocalOnly(true).setCodecName(ServiceRequestMessageCodec.CODEC_NAME))
+      );
+
+    testRequest(client, HttpMethod.GET, "/test")
+      .expect(statusCode(200), statusMessage("OK"))
+      .expect(jsonBodyResponse(new JsonObject().put("result", "Hello slinkydeveloper!")))
+      .send(testContext, checkpoint);
+
+    testRequest(client, HttpMethod.GET, "/testEmpty")
+      .expect(statusCode(200), statusMessage("OK"))
+      .expect(emptyResponse())
+      .send(testContext, checkpoint);
+  }
+
+  @Test
+  public void serviceMessageCodecsWireTest() {
+    ServiceRequestMessageCodec requestCodec = new ServiceRequestMessageCodec();
+    ServiceRequest request = new ServiceRequest(
+      new JsonObject().put("query", new JsonObject().put("a", 1)),
+      MultiMap.caseInsensitiveMultiMap().add("X-Foo", "bar").add("X-Foo", "baz"),
+      new JsonObject().put("username", "slinkydeveloper"),
+      null
+    );
+    Buffer wire = Buffer.buffer();
+    requestCodec.encodeToWire(wire, new JsonObject().put("context", request));
+    ServiceRequest decodedRequest = (ServiceRequest) requestCodec.decodeFromWire(0, wire).getValue("context");
+    assertThat(decodedRequest.getParams()).isEqualTo(request.getParams());
+    assertThat(decodedRequest.getHeaders().getAll("x-foo")).containsExactly("bar", "baz");
+    assertThat(decodedRequest.getUser()).isEqualTo(request.getUser());
+    assertThat(decodedRequest.getExtra()).isNull();
+
+    ServiceResponseMessageCodec responseCodec = new ServiceResponseMessageCodec();
+    ServiceResponse response = ServiceResponse.completedWithPlainText(Buffer.buffer("Hello"));
+    assertThat(responseCodec.transform(response)).isSameAs(response);
+    wire = Buffer.buffer();
+    responseCodec.encodeToWire(wire, response);
+    ServiceResponse decodedResponse = responseCodec.decodeFromWire(0, wire);
+    assertThat(decodedResponse.getStatusCode()).isEqualTo(200);
+    assertThat(decodedResponse.getStatusMessage()).isEqualTo("OK");
+    assertThat(decodedResponse.getHeaders().get("content-type")).isEqualTo("text/plain");
+    assertThat(decodedResponse.getPayload().toString()).isEqualTo("Hello");
+  }
 }
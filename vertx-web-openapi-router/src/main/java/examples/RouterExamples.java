@@ -32,6 +32,14 @@ public class RouterExamples {
     RouterBuilder.create(vertx, contract, RequestExtractor.withBodyHandler());
   }
 
+  void createSharedRouter(Vertx vertx) {
+    // Instances of the same verticle share the resolution of the contract
+    RouterBuilder.createShared(vertx, "petstore.yaml")
+      .onSuccess(routerBuilder -> {
+        Router router = routerBuilder.createRouter();
+      });
+  }
+
   void modifyRoutes(Vertx vertx, RouterBuilder routerBuilder) {
     OpenAPIRoute getPetsRoute = routerBuilder.getRoute("getPets");
 
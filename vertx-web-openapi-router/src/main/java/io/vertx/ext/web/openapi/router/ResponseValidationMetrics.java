@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.ext.web.openapi.router;
+
+import io.vertx.core.json.JsonObject;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency metrics of the response validation step, per operation.
+ * <p>
+ * Recording is lock free and can happen concurrently from any event loop or worker thread.
+ */
+public class ResponseValidationMetrics {
+
+  private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+  /**
+   * Record a validation of a response of the operation {@code operationId}.
+   *
+   * @param operationId   the operation id
+   * @param durationNanos the duration of the validation in nanoseconds
+   * @param valid         whether the response was valid
+   */
+  public void record(String operationId, long durationNanos, boolean valid) {
+    Stats s = stats.get(operationId);
+    if (s == null) {
+      s = stats.computeIfAbsent(operationId, k -> new Stats());
+    }
+    s.count.increment();
+    if (!valid) {
+      s.failures.increment();
+    }
+    s.totalNanos.add(durationNanos);
+    s.maxNanos.accumulate(durationNanos);
+  }
+
+  /**
+   * Returns a snapshot of the metrics, one entry per operation id with the {@code count}, {@code failures},
+   * {@code totalTimeNanos}, {@code meanTimeNanos} and {@code maxTimeNanos} of the validations.
+   *
+   * @return the snapshot
+   */
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    stats.forEach((operationId, s) -> {
+      long count = s.count.sum();
+      long total = s.totalNanos.sum();
+      json.put(operationId, new JsonObject()
+        .put("count", count)
+        .put("failures", s.failures.sum())
+        .put("totalTimeNanos", total)
+        .put("meanTimeNanos", count == 0 ? 0 : total / count)
+        .put("maxTimeNanos", s.maxNanos.get()));
+    });
+    return json;
+  }
+
+  private static class Stats {
+    private final LongAdder count = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.ext.web.openapi.router;
+
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * Options to configure how responses are validated against the OpenAPI contract.
+ * <p>
+ * By default every response is validated before it is sent. Validation can be restricted to a sampled fraction of
+ * the responses with {@link #setSamplingRate(double)}, and it can be moved off the response path with
+ * {@link Mode#ASYNC}: the response is sent as is and validated afterward on a worker thread, violations are then only
+ * reported to the {@link #setViolationHandler(BiConsumer) violation handler}.
+ */
+public class ResponseValidationOptions {
+
+  /**
+   * How responses are validated.
+   */
+  public enum Mode {
+    /**
+     * Responses are validated before they are sent, invalid responses are not sent.
+     */
+    SYNC,
+    /**
+     * Responses are sent without waiting for the validation, which runs on a worker thread after the response is
+     * written. Violations are reported to the violation handler.
+     */
+    ASYNC
+  }
+
+  /**
+   * Default validation mode = SYNC
+   */
+  public static final Mode DEFAULT_MODE = Mode.SYNC;
+
+  /**
+   * Default sampling rate = 1.0, every response is validated
+   */
+  public static final double DEFAULT_SAMPLING_RATE = 1.0;
+
+  private Mode mode = DEFAULT_MODE;
+  private double samplingRate = DEFAULT_SAMPLING_RATE;
+  private BiConsumer<String, Throwable> violationHandler;
+  private ResponseValidationMetrics metrics;
+
+  public ResponseValidationOptions() {
+  }
+
+  public ResponseValidationOptions(ResponseValidationOptions other) {
+    this.mode = other.mode;
+    this.samplingRate = other.samplingRate;
+    this.violationHandler = other.violationHandler;
+    this.metrics = other.metrics;
+  }
+
+  /**
+   * @return the validation mode
+   */
+  public Mode getMode() {
+    return mode;
+  }
+
+  /**
+   * Set the validation mode.
+   *
+   * @param mode the mode
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ResponseValidationOptions setMode(Mode mode) {
+    this.mode = Objects.requireNonNull(mode);
+    return this;
+  }
+
+  /**
+   * @return the fraction of the responses that are validated
+   */
+  public double getSamplingRate() {
+    return samplingRate;
+  }
+
+  /**
+   * Set the fraction of the responses that are validated, between {@code 0.0} (none) and {@code 1.0} (all).
+   *
+   * @param samplingRate the sampling rate
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ResponseValidationOptions setSamplingRate(double samplingRate) {
+    if (samplingRate < 0.0 || samplingRate > 1.0) {
+      throw new IllegalArgumentException("samplingRate must be between 0.0 and 1.0");
+    }
+    this.samplingRate = samplingRate;
+    return this;
+  }
+
+  /**
+   * @return the handler called with the operation id and the failure of responses that failed an {@link Mode#ASYNC}
+   * validation
+   */
+  public BiConsumer<String, Throwable> getViolationHandler() {
+    return violationHandler;
+  }
+
+  /**
+   * Set the handler called with the operation id and the failure of responses that failed an {@link Mode#ASYNC}
+   * validation. When not set, violations are logged.
+   *
+   * @param violationHandler the handler
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ResponseValidationOptions setViolationHandler(BiConsumer<String, Throwable> violationHandler) {
+    this.violationHandler = violationHandler;
+    return this;
+  }
+
+  /**
+   * @return the metrics recording the latency of the validation step, or {@code null}
+   */
+  public ResponseValidationMetrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Set the metrics recording the latency of the validation step per operation. The same instance can be shared by
+   * several handlers.
+   *
+   * @param metrics the metrics
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ResponseValidationOptions setMetrics(ResponseValidationMetrics metrics) {
+    this.metrics = metrics;
+    return this;
+  }
+}
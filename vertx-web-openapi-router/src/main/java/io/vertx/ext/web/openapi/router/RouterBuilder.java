@@ -15,6 +15,7 @@ package io.vertx.ext.web.openapi.router;
 import io.vertx.codegen.annotations.Fluent;
 import io.vertx.codegen.annotations.Nullable;
 import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.ext.web.Router;
@@ -74,6 +75,48 @@ public interface RouterBuilder {
     return new RouterBuilderImpl(vertx, contract, extractor);
   }
 
+  /**
+   * Like {@link #createShared(Vertx, String, RequestExtractor)} but uses a default implementation for the
+   * <i>extractor</i>.
+   *
+   * @param vertx        the related Vert.x instance
+   * @param contractPath the path of the contract that describes the endpoint
+   * @return a future holding an instance of {@link RouterBuilder}
+   */
+  static Future<RouterBuilder> createShared(Vertx vertx, String contractPath) {
+    return RouterBuilderImpl.sharedContract(vertx, contractPath).map(contract -> create(vertx, contract));
+  }
+
+  /**
+   * Create a new {@link RouterBuilder} for the contract located at {@code contractPath}.
+   * <p>
+   * The contract is resolved only once per Vert.x instance: when several instances of a verticle call this method
+   * with the same path, they share the same resolved {@link OpenAPIContract} instead of resolving it again. Each call
+   * returns a new {@link RouterBuilder}, so that every instance can configure its own handlers.
+   *
+   * @param vertx        the related Vert.x instance
+   * @param contractPath the path of the contract that describes the endpoint
+   * @param extractor    the extractor is used to extract and transform the parameters and body of the related
+   *                     request in a format that can be validated by the
+   *                     {@link io.vertx.openapi.validation.RequestValidator}.
+   * @return a future holding an instance of {@link RouterBuilder}
+   */
+  static Future<RouterBuilder> createShared(Vertx vertx, String contractPath, RequestExtractor extractor) {
+    return RouterBuilderImpl.sharedContract(vertx, contractPath).map(contract -> create(vertx, contract, extractor));
+  }
+
+  /**
+   * Remove the contract located at {@code contractPath} from the contracts shared by
+   * {@link #createShared(Vertx, String, RequestExtractor)}, e.g. when the contract changed or is no longer used. The
+   * next call to {@code createShared} resolves the contract again, the routers already created are not affected.
+   *
+   * @param vertx        the related Vert.x instance
+   * @param contractPath the path of the contract
+   */
+  static void removeShared(Vertx vertx, String contractPath) {
+    RouterBuilderImpl.removeSharedContract(vertx, contractPath);
+  }
+
   /**
    * Access to a route defined in the contract with {@code operationId}
    *
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.ext.web.openapi.router.impl;
+
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.handler.HttpException;
+import io.vertx.ext.web.handler.InputTrustHandler;
+import io.vertx.ext.web.openapi.router.RequestExtractor;
+import io.vertx.openapi.contract.Operation;
+import io.vertx.openapi.validation.RequestValidator;
+import io.vertx.openapi.validation.ValidatorException;
+
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static io.vertx.ext.web.openapi.router.RouterBuilder.KEY_META_DATA_VALIDATED_REQUEST;
+
+/**
+ * Validation handler of a single operation, it extracts the request and validates it with the shared
+ * {@link RequestValidator}.
+ * <p>
+ * This only binds the operation and its id when the router is created. The validator still resolves the operation, its
+ * parameters and its schemas by id on each request: that resolution belongs to vertx-openapi and can't be compiled
+ * ahead through its public API.
+ */
+class OperationValidationHandler implements InputTrustHandler {
+
+  private final Operation operation;
+  private final String operationId;
+  private final RequestExtractor extractor;
+  private final RequestValidator validator;
+
+  OperationValidationHandler(Operation operation, RequestExtractor extractor, RequestValidator validator) {
+    this.operation = operation;
+    this.operationId = operation.getOperationId();
+    this.extractor = extractor;
+    this.validator = validator;
+  }
+
+  @Override
+  public void handle(RoutingContext rc) {
+    extractor.extractValidatableRequest(rc, operation)
+      .compose(validatableRequest -> validator.validate(validatableRequest, operationId))
+      .onSuccess(rp -> {
+        rc.put(KEY_META_DATA_VALIDATED_REQUEST, rp);
+        rc.next();
+      }).onFailure(e -> {
+        if (e instanceof ValidatorException) {
+          rc.fail(new HttpException(BAD_REQUEST.code(), e.getMessage(), e));
+        } else {
+          rc.fail(e);
+        }
+      });
+  }
+}
@@ -13,16 +13,19 @@
 package io.vertx.ext.web.openapi.router.impl;
 
 import io.vertx.codegen.annotations.Nullable;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.logging.Logger;
 import io.vertx.core.internal.logging.LoggerFactory;
+import io.vertx.core.shareddata.LocalMap;
+import io.vertx.core.shareddata.Shareable;
 import io.vertx.ext.web.Route;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.AuthenticationHandler;
-import io.vertx.ext.web.handler.HttpException;
-import io.vertx.ext.web.handler.InputTrustHandler;
 import io.vertx.ext.web.openapi.router.OpenAPIRoute;
 import io.vertx.ext.web.openapi.router.RequestExtractor;
 import io.vertx.ext.web.openapi.router.RouterBuilder;
@@ -31,21 +34,19 @@ import io.vertx.openapi.contract.OpenAPIContract;
 import io.vertx.openapi.contract.Operation;
 import io.vertx.openapi.contract.Path;
 import io.vertx.openapi.validation.RequestValidator;
-import io.vertx.openapi.validation.ValidatorException;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
-
-import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 
 public class RouterBuilderImpl implements RouterBuilderInternal {
   private static final Logger LOG = LoggerFactory.getLogger(RouterBuilderImpl.class);
 
   private static final String PATH_PARAM_PLACEHOLDER_REGEX = "\\{(.*?)}";
 
+  private static final String SHARED_CONTRACTS_MAP_NAME = "__vertx.web.openapi.router.contracts";
+
   // VisibleForTesting
   final List<Handler<RoutingContext>> rootHandlers = new ArrayList<>();
   final AuthenticationHandlers securityHandlers = new AuthenticationHandlers();
@@ -60,8 +61,59 @@ public class RouterBuilderImpl implements RouterBuilderInternal {
     this.vertx = vertx;
     this.contract = contract;
     this.extractor = extractor;
-    this.openAPIRoutes =
-      contract.operations().stream().collect(Collectors.toMap(Operation::getOperationId, OpenAPIRouteImpl::new));
+    // routes are created on first access, large contracts only pay for the operations that are configured
+    this.openAPIRoutes = new HashMap<>();
+  }
+
+  /**
+   * Resolve the contract at {@code contractPath} once per Vert.x instance, subsequent calls (e.g. from other instances
+   * of the same verticle) share the resolution in progress or its result.
+   *
+   * @param vertx        the related Vert.x instance
+   * @param contractPath the path of the contract
+   * @return a future completed on the caller context with the resolved contract
+   */
+  public static Future<OpenAPIContract> sharedContract(Vertx vertx, String contractPath) {
+    LocalMap<String, SharedContract> contracts = vertx.sharedData().getLocalMap(SHARED_CONTRACTS_MAP_NAME);
+    SharedContract shared = contracts.get(contractPath);
+    if (shared == null) {
+      Promise<OpenAPIContract> promise = Promise.promise();
+      SharedContract candidate = new SharedContract(promise.future());
+      shared = contracts.putIfAbsent(contractPath, candidate);
+      if (shared == null) {
+        shared = candidate;
+        OpenAPIContract.from(vertx, contractPath).onComplete(ar -> {
+          if (ar.failed()) {
+            // don't cache failures, the next caller retries
+            contracts.removeIfPresent(contractPath, candidate);
+          }
+          promise.handle(ar);
+        });
+      }
+    }
+    Promise<OpenAPIContract> result = ((ContextInternal) vertx.getOrCreateContext()).promise();
+    shared.contract.onComplete(result);
+    return result.future();
+  }
+
+  /**
+   * Remove the contract at {@code contractPath} from the contracts shared per Vert.x instance.
+   *
+   * @param vertx        the related Vert.x instance
+   * @param contractPath the path of the contract
+   */
+  public static void removeSharedContract(Vertx vertx, String contractPath) {
+    LocalMap<String, SharedContract> contracts = vertx.sharedData().getLocalMap(SHARED_CONTRACTS_MAP_NAME);
+    contracts.remove(contractPath);
+  }
+
+  private static class SharedContract implements Shareable {
+
+    private final Future<OpenAPIContract> contract;
+
+    SharedContract(Future<OpenAPIContract> contract) {
+      this.contract = contract;
+    }
   }
 
   public List<Handler<RoutingContext>> rootHandlers() {
@@ -79,12 +131,24 @@ public class RouterBuilderImpl implements RouterBuilderInternal {
 
   @Override
   public @Nullable OpenAPIRoute getRoute(String operationId) {
-    return openAPIRoutes.get(operationId);
+    OpenAPIRoute route = openAPIRoutes.get(operationId);
+    if (route == null) {
+      Operation operation = contract.operation(operationId);
+      if (operation != null) {
+        route = new OpenAPIRouteImpl(operation);
+        openAPIRoutes.put(operationId, route);
+      }
+    }
+    return route;
   }
 
   @Override
   public List<OpenAPIRoute> getRoutes() {
-    return new ArrayList<>(openAPIRoutes.values());
+    List<OpenAPIRoute> routes = new ArrayList<>();
+    for (Operation operation : contract.operations()) {
+      routes.add(getRoute(operation.getOperationId()));
+    }
+    return routes;
   }
 
   @Override
@@ -121,26 +185,14 @@ public class RouterBuilderImpl implements RouterBuilderInternal {
         Route route = router.route(operation.getHttpMethod(), toVertxWebPath(path.getName()));
         route.putMetadata(KEY_META_DATA_OPERATION, operation);
 
-        OpenAPIRoute openAPIRoute = getRoute(operation.getOperationId());
-        Objects.requireNonNull(openAPIRoute, "No route found for operation " + operation.getOperationId());
+        // operations that were never accessed have no handlers, their route is not created
+        OpenAPIRoute openAPIRoute = openAPIRoutes.get(operation.getOperationId());
 
-        if (openAPIRoute.getHandlers().size() > 0 || openAPIRoute.getFailureHandlers().size() > 0) {
+        if (openAPIRoute != null && (openAPIRoute.getHandlers().size() > 0 || openAPIRoute.getFailureHandlers().size() > 0)) {
           securityHandlers.solve(operation, route, openAPIRoute.doSecurity());
 
           if (openAPIRoute.doValidation()) {
-            InputTrustHandler validationHandler = rc -> extractor.extractValidatableRequest(rc, operation)
-              .compose(validatableRequest -> validator.validate(validatableRequest, operation.getOperationId()))
-              .onSuccess(rp -> {
-                rc.put(KEY_META_DATA_VALIDATED_REQUEST, rp);
-                rc.next();
-              }).onFailure(e -> {
-                if (e instanceof ValidatorException) {
-                  rc.fail(new HttpException(BAD_REQUEST.code(), e.getMessage(), e));
-                } else {
-                  rc.fail(e);
-                }
-              });
-            route.handler(validationHandler);
+            route.handler(new OperationValidationHandler(operation, extractor, validator));
           }
 
           openAPIRoute.getHandlers().forEach(route::handler);
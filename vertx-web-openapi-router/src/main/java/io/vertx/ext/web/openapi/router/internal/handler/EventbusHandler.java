@@ -18,6 +18,7 @@ import io.vertx.core.eventbus.EventBus;
 import io.vertx.core.eventbus.Message;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.openapi.router.ResponseValidationOptions;
 import io.vertx.openapi.contract.Operation;
 import io.vertx.openapi.validation.ResponseValidator;
 import io.vertx.openapi.validation.ValidatableResponse;
@@ -30,7 +31,12 @@ public abstract class EventbusHandler extends ResponseValidationHandler {
 
   protected EventbusHandler(EventBus eventBus, String address, DeliveryOptions deliveryOptions,
                             ResponseValidator validator) {
-    super(validator);
+    this(eventBus, address, deliveryOptions, validator, new ResponseValidationOptions());
+  }
+
+  protected EventbusHandler(EventBus eventBus, String address, DeliveryOptions deliveryOptions,
+                            ResponseValidator validator, ResponseValidationOptions validationOptions) {
+    super(validator, validationOptions);
     this.eventBus = eventBus;
     this.address = address;
     this.deliveryOptions = deliveryOptions;
@@ -14,21 +14,51 @@ package io.vertx.ext.web.openapi.router.internal.handler;
 
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.internal.logging.Logger;
+import io.vertx.core.internal.logging.LoggerFactory;
+import io.vertx.core.json.Json;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.openapi.router.ResponseValidationMetrics;
+import io.vertx.ext.web.openapi.router.ResponseValidationOptions;
 import io.vertx.openapi.contract.Operation;
+import io.vertx.openapi.validation.RequestParameter;
 import io.vertx.openapi.validation.ResponseValidator;
 import io.vertx.openapi.validation.ValidatableResponse;
 import io.vertx.openapi.validation.ValidatedRequest;
+import io.vertx.openapi.validation.ValidatedResponse;
 import io.vertx.openapi.validation.ValidatorException;
 
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiConsumer;
+
 import static io.vertx.ext.web.openapi.router.RouterBuilder.KEY_META_DATA_OPERATION;
 import static io.vertx.ext.web.openapi.router.RouterBuilder.KEY_META_DATA_VALIDATED_REQUEST;
 
 public abstract class ResponseValidationHandler implements Handler<RoutingContext> {
+  private static final Logger LOG = LoggerFactory.getLogger(ResponseValidationHandler.class);
+
   private final ResponseValidator responseValidator;
+  private final boolean async;
+  private final double samplingRate;
+  private final BiConsumer<String, Throwable> violationHandler;
+  private final ResponseValidationMetrics metrics;
 
   protected ResponseValidationHandler(ResponseValidator responseValidator) {
+    this(responseValidator, new ResponseValidationOptions());
+  }
+
+  protected ResponseValidationHandler(ResponseValidator responseValidator, ResponseValidationOptions options) {
     this.responseValidator = responseValidator;
+    this.async = options.getMode() == ResponseValidationOptions.Mode.ASYNC;
+    this.samplingRate = options.getSamplingRate();
+    this.violationHandler = options.getViolationHandler() != null ?
+      options.getViolationHandler() :
+      (operationId, e) -> LOG.warn("Invalid response for operation " + operationId + ": " + e.getMessage());
+    this.metrics = options.getMetrics();
   }
 
   @Override
@@ -37,8 +67,17 @@ public abstract class ResponseValidationHandler implements Handler<RoutingContex
     Operation operation = routingContext.currentRoute().getMetadata(KEY_META_DATA_OPERATION);
 
     processRequest(validatedRequest, operation, routingContext)
-      .compose(validatableResponse -> responseValidator.validate(validatableResponse, operation.getOperationId()))
-      .compose(validatedResponse -> validatedResponse.send(routingContext.response()))
+      .compose(validatableResponse -> {
+        if (!sampled()) {
+          return send(validatableResponse, routingContext.response());
+        }
+        if (async) {
+          return send(validatableResponse, routingContext.response())
+            .onSuccess(v -> validateAsync(validatableResponse, operation.getOperationId(), routingContext));
+        }
+        return validate(validatableResponse, operation.getOperationId())
+          .compose(validatedResponse -> validatedResponse.send(routingContext.response()));
+      })
       .onFailure(e -> {
         if (e instanceof ValidatorException) {
           handleValidatorException((ValidatorException) e, routingContext);
@@ -48,6 +87,48 @@ public abstract class ResponseValidationHandler implements Handler<RoutingContex
       });
   }
 
+  private boolean sampled() {
+    return samplingRate >= 1.0 || (samplingRate > 0.0 && ThreadLocalRandom.current().nextDouble() < samplingRate);
+  }
+
+  private Future<ValidatedResponse> validate(ValidatableResponse validatableResponse, String operationId) {
+    if (metrics == null) {
+      return responseValidator.validate(validatableResponse, operationId);
+    }
+    long start = System.nanoTime();
+    return responseValidator.validate(validatableResponse, operationId)
+      .andThen(ar -> metrics.record(operationId, System.nanoTime() - start, ar.succeeded()));
+  }
+
+  private void validateAsync(ValidatableResponse validatableResponse, String operationId,
+                             RoutingContext routingContext) {
+    // the response is already written, validate it off the event loop and only report violations
+    routingContext.vertx()
+      .executeBlocking(() -> validate(validatableResponse, operationId), false)
+      .compose(f -> f)
+      .onFailure(e -> violationHandler.accept(operationId, e));
+  }
+
+  /**
+   * Send a response that is not validated.
+   */
+  private static Future<Void> send(ValidatableResponse validatableResponse, HttpServerResponse response) {
+    response.setStatusCode(validatableResponse.getStatusCode());
+    Map<String, RequestParameter> headers = validatableResponse.getHeaders();
+    if (headers != null) {
+      headers.forEach((name, value) -> response.putHeader(name, String.valueOf(value.get())));
+    }
+    RequestParameter body = validatableResponse.getBody();
+    if (body == null || body.isNull()) {
+      return response.send();
+    }
+    if (validatableResponse.getContentType() != null) {
+      response.putHeader(HttpHeaders.CONTENT_TYPE, validatableResponse.getContentType());
+    }
+    Object value = body.get();
+    return response.send(value instanceof Buffer ? (Buffer) value : Json.encodeToBuffer(value));
+  }
+
   abstract Future<ValidatableResponse> processRequest(ValidatedRequest request, Operation operation,
                                                       RoutingContext routingContext);
 
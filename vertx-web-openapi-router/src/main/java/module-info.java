@@ -31,5 +31,5 @@ module io.vertx.web.openapi.router {
   exports io.vertx.ext.web.openapi.router;
 
   exports io.vertx.ext.web.openapi.router.impl to io.vertx.web.openapi.router.tests;
-  exports io.vertx.ext.web.openapi.router.internal.handler to io.vertx.web.apiservice;
+  exports io.vertx.ext.web.openapi.router.internal.handler to io.vertx.web.apiservice, io.vertx.web.openapi.router.tests;
 }
@@ -14,11 +14,13 @@ package io.vertx.router.test.e2e;
 
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.BodyHandler;
 import io.vertx.ext.web.openapi.router.RouterBuilder;
+import io.vertx.ext.web.openapi.router.impl.RouterBuilderImpl;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.Timeout;
 import io.vertx.junit5.VertxTestContext;
@@ -157,4 +159,51 @@ class RouterBuilderTest extends RouterBuilderTestBase {
       })
       .onFailure(testContext::failNow);
   }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testRouterWithUnsupportedRequestContentType(VertxTestContext testContext) {
+    Path pathDereferencedContract = ResourceHelper.TEST_RESOURCE_PATH.resolve("v3.1").resolve("petstore.json");
+    createServer(pathDereferencedContract, rb -> {
+      rb.getRoute("createPets")
+        .setDoSecurity(false)
+        .addHandler(rc -> testContext.failNow("Request should have been rejected"));
+      return Future.succeededFuture(rb);
+    }).compose(v -> createRequest(POST, "/v1/pets")
+        .putHeader("Content-Type", "text/plain")
+        .sendBuffer(Buffer.buffer("FooBar"))
+        .onSuccess(response -> testContext.verify(() -> {
+          assertThat(response.statusCode()).isEqualTo(BAD_REQUEST.code());
+          testContext.completeNow();
+        })))
+      .onFailure(testContext::failNow);
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testSharedContract(VertxTestContext testContext) {
+    String contractPath = ResourceHelper.TEST_RESOURCE_PATH.resolve("v3.1").resolve("petstore.json").toString();
+    Future.all(RouterBuilderImpl.sharedContract(vertx, contractPath), RouterBuilderImpl.sharedContract(vertx, contractPath))
+      .onSuccess(cf -> testContext.verify(() -> {
+        assertThat((Object) cf.resultAt(0)).isSameInstanceAs(cf.resultAt(1));
+        testContext.completeNow();
+      }))
+      .onFailure(testContext::failNow);
+  }
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testRemoveSharedContract(VertxTestContext testContext) {
+    String contractPath = ResourceHelper.TEST_RESOURCE_PATH.resolve("v3.1").resolve("petstore.json").toString();
+    RouterBuilderImpl.sharedContract(vertx, contractPath)
+      .compose(first -> {
+        RouterBuilder.removeShared(vertx, contractPath);
+        return RouterBuilderImpl.sharedContract(vertx, contractPath)
+          .onSuccess(second -> testContext.verify(() -> {
+            assertThat((Object) second).isNotSameInstanceAs(first);
+            testContext.completeNow();
+          }));
+      })
+      .onFailure(testContext::failNow);
+  }
+
 }
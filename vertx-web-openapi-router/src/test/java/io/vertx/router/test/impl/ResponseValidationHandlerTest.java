@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2023, SAP SE
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.router.test.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.Route;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.openapi.router.ResponseValidationMetrics;
+import io.vertx.ext.web.openapi.router.ResponseValidationOptions;
+import io.vertx.ext.web.openapi.router.internal.handler.EventbusHandler;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import io.vertx.openapi.contract.Operation;
+import io.vertx.openapi.validation.ResponseValidator;
+import io.vertx.openapi.validation.ValidatableResponse;
+import io.vertx.openapi.validation.ValidatedRequest;
+import io.vertx.openapi.validation.ValidatedResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.vertx.ext.web.openapi.router.RouterBuilder.KEY_META_DATA_OPERATION;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+class ResponseValidationHandlerTest {
+
+  private static final String OPERATION_ID = "listPets";
+
+  @Test
+  void testNotSampled(Vertx vertx) {
+    ResponseValidator validator = mock(ResponseValidator.class);
+    ResponseValidationMetrics metrics = new ResponseValidationMetrics();
+    RoutingContext rc = mockRoutingContext(vertx);
+
+    handler(validator, new ResponseValidationOptions().setSamplingRate(0.0).setMetrics(metrics)).handle(rc);
+
+    verify(validator, never()).validate(any(ValidatableResponse.class), anyString());
+    verify(rc, never()).fail(any(Throwable.class));
+    assertThat(metrics.toJson().isEmpty()).isTrue();
+  }
+
+  @Test
+  void testSyncValidation(Vertx vertx) {
+    ResponseValidator validator = mock(ResponseValidator.class);
+    ValidatedResponse validated = mock(ValidatedResponse.class);
+    when(validated.send(any(HttpServerResponse.class))).thenReturn(Future.succeededFuture());
+    when(validator.validate(any(ValidatableResponse.class), eq(OPERATION_ID)))
+      .thenReturn(Future.succeededFuture(validated));
+    ResponseValidationMetrics metrics = new ResponseValidationMetrics();
+    RoutingContext rc = mockRoutingContext(vertx);
+
+    handler(validator, new ResponseValidationOptions().setMetrics(metrics)).handle(rc);
+
+    verify(validator, times(1)).validate(any(ValidatableResponse.class), eq(OPERATION_ID));
+    // the validated response is the one sent
+    verify(validated, times(1)).send(rc.response());
+    JsonObject stats = metrics.toJson().getJsonObject(OPERATION_ID);
+    assertThat(stats.getLong("count")).isEqualTo(1L);
+    assertThat(stats.getLong("failures")).isEqualTo(0L);
+    assertThat(stats.getLong("maxTimeNanos")).isAtLeast(stats.getLong("meanTimeNanos"));
+  }
+
+  @Test
+  void testAsyncValidation(Vertx vertx, VertxTestContext testContext) {
+    RuntimeException violation = new RuntimeException("invalid");
+    ResponseValidator validator = mock(ResponseValidator.class);
+    when(validator.validate(any(ValidatableResponse.class), eq(OPERATION_ID)))
+      .thenReturn(Future.failedFuture(violation));
+    ResponseValidationMetrics metrics = new ResponseValidationMetrics();
+    RoutingContext rc = mockRoutingContext(vertx);
+
+    ResponseValidationOptions options = new ResponseValidationOptions()
+      .setMode(ResponseValidationOptions.Mode.ASYNC)
+      .setMetrics(metrics)
+      .setViolationHandler((operationId, err) -> testContext.verify(() -> {
+        assertThat(operationId).isEqualTo(OPERATION_ID);
+        assertThat(err).isSameInstanceAs(violation);
+        JsonObject stats = metrics.toJson().getJsonObject(OPERATION_ID);
+        assertThat(stats.getLong("count")).isEqualTo(1L);
+        assertThat(stats.getLong("failures")).isEqualTo(1L);
+        // the response was sent without waiting for the validation
+        verify(rc, never()).fail(any(Throwable.class));
+        testContext.completeNow();
+      }));
+
+    handler(validator, options).handle(rc);
+  }
+
+  private static EventbusHandler handler(ResponseValidator validator, ResponseValidationOptions options) {
+    @SuppressWarnings("unchecked")
+    Message<JsonObject> message = mock(Message.class);
+    EventBus eventBus = mock(EventBus.class);
+    when(eventBus.<JsonObject>request(anyString(), any(), any(DeliveryOptions.class)))
+      .thenReturn(Future.succeededFuture(message));
+    return new EventbusHandler(eventBus, "address", new DeliveryOptions(), validator, options) {
+      @Override
+      protected Future<JsonObject> transformRequest(ValidatedRequest request, RoutingContext routingContext,
+                                                    Operation operation) {
+        return Future.succeededFuture(new JsonObject());
+      }
+
+      @Override
+      protected Future<ValidatableResponse> transformResponse(Message<JsonObject> ebResponse, Operation operation) {
+        return Future.succeededFuture(ValidatableResponse.create(200));
+      }
+    };
+  }
+
+  private static RoutingContext mockRoutingContext(Vertx vertx) {
+    Operation operation = mock(Operation.class);
+    when(operation.getOperationId()).thenReturn(OPERATION_ID);
+    Route route = mock(Route.class);
+    when(route.<Operation>getMetadata(KEY_META_DATA_OPERATION)).thenReturn(operation);
+    HttpServerResponse response = mock(HttpServerResponse.class, RETURNS_SELF);
+    when(response.headers()).thenReturn(MultiMap.caseInsensitiveMultiMap());
+    when(response.send()).thenReturn(Future.succeededFuture());
+    when(response.send(any(Buffer.class))).thenReturn(Future.succeededFuture());
+    when(response.end()).thenReturn(Future.succeededFuture());
+    RoutingContext rc = mock(RoutingContext.class);
+    when(rc.currentRoute()).thenReturn(route);
+    when(rc.response()).thenReturn(response);
+    when(rc.vertx()).thenReturn(vertx);
+    return rc;
+  }
+}
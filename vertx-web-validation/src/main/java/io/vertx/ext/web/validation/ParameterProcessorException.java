@@ -70,7 +70,7 @@ public class ParameterProcessorException extends BadRequestException {
 
   public static ParameterProcessorException createValidationError(String parameterName, ParameterLocation location, Throwable cause, String message) {
     return new ParameterProcessorException(
-      message != null ? message : String.format("Validation error for parameter %s in location %s: %s", parameterName, location, cause.getMessage()),
+      message != null ? message : String.format("Validation error for parameter %s in location %s: %s", parameterName, location, cause != null ? cause.getMessage() : null),
       message != null, parameterName, location, ParameterProcessorErrorType.VALIDATION_ERROR, cause
     );
   }
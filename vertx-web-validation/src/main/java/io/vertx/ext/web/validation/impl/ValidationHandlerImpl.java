@@ -7,10 +7,8 @@ import io.vertx.ext.web.validation.*;
 import io.vertx.ext.web.validation.impl.body.BodyProcessor;
 import io.vertx.ext.web.validation.impl.parameter.ParameterProcessor;
 
-import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.*;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * @author Francesco Guardiani @slinkydeveloper
@@ -62,115 +60,55 @@ public class ValidationHandlerImpl implements ValidationHandler {
 
   @Override
   public void handle(RoutingContext routingContext) {
+    RequestParametersImpl requestParameters = new RequestParametersImpl();
     try {
       if (predicates != null)
         runPredicates(routingContext);
 
-      // Hacky algorithm, it should create less futures and use less locks than CompositeFuture
-      RequestParametersImpl requestParameters = new RequestParametersImpl();
-      Future<RequestParametersImpl> resultFut = Future.succeededFuture(requestParameters);
-      Future<RequestParametersImpl> waitingFut = Future.succeededFuture();
-
-      if (pathParameters != null) {
-        Future<Map<String, RequestParameter>> f = validatePathParams(routingContext);
-        if (f.isComplete()) {
-          if (f.succeeded()) {
-            requestParameters.setPathParameters(f.result());
-          } else {
-            routingContext.fail(400, f.cause());
-            return;
-          }
-        } else {
-          waitingFut = f.compose(res -> {
-            requestParameters.setPathParameters(res);
-            return resultFut;
-          });
-        }
-      }
-
-      if (cookieParameters != null) {
-        Future<Map<String, RequestParameter>> f = validateCookieParams(routingContext);
-        if (f.isComplete()) {
-          if (f.succeeded()) {
-            requestParameters.setCookieParameters(f.result());
-          } else {
-            routingContext.fail(400, f.cause());
-            return;
-          }
-        } else {
-          waitingFut = f.compose(res -> {
-            requestParameters.setCookieParameters(res);
-            return resultFut;
-          });
-        }
-      }
-
-      if (queryParameters != null) {
-        Future<Map<String, RequestParameter>> f = validateQueryParams(routingContext);
-        if (f.isComplete()) {
-          if (f.succeeded()) {
-            requestParameters.setQueryParameters(f.result());
-          } else {
-            routingContext.fail(400, f.cause());
-            return;
-          }
-        } else {
-          waitingFut = f.compose(res -> {
-            requestParameters.setQueryParameters(res);
-            return resultFut;
-          });
-        }
-      }
-
-      if (headerParameters != null) {
-        Future<Map<String, RequestParameter>> f = validateHeaderParams(routingContext);
-        if (f.isComplete()) {
-          if (f.succeeded()) {
-            requestParameters.setHeaderParameters(f.result());
-          } else {
-            routingContext.fail(400, f.cause());
-            return;
-          }
-        } else {
-          waitingFut = f.compose(res -> {
-            requestParameters.setHeaderParameters(res);
-            return resultFut;
-          });
-        }
-      }
+      // Parameter processors are synchronous: they are run inline and any failure is thrown as BadRequestException
+      if (pathParameters != null)
+        requestParameters.setPathParameters(validatePathParams(routingContext));
+      if (cookieParameters != null)
+        requestParameters.setCookieParameters(validateCookieParams(routingContext));
+      if (queryParameters != null)
+        requestParameters.setQueryParameters(validateQueryParams(routingContext));
+      if (headerParameters != null)
+        requestParameters.setHeaderParameters(validateHeaderParams(routingContext));
 
       if (bodyProcessors != null && routingContext.request().headers().contains("content-type")) {
         Future<RequestParameter> f = validateBody(routingContext);
-        if (f.isComplete()) {
-          if (f.succeeded()) {
-            requestParameters.setBody(f.result());
-          } else {
-            routingContext.fail(400, f.cause());
-            return;
-          }
-        } else {
-          waitingFut = f.compose(res -> {
-            requestParameters.setBody(res);
-            return resultFut;
+        if (!f.isComplete()) {
+          // Only fallback to the async path when the body processor needs it
+          f.onComplete(ar -> {
+            if (ar.failed()) routingContext.fail(400, ar.cause());
+            else {
+              requestParameters.setBody(ar.result());
+              complete(routingContext, requestParameters);
+            }
           });
+          return;
         }
-      }
-
-      waitingFut.onComplete(ar -> {
-        if (ar.failed()) routingContext.fail(400, ar.cause());
-        else {
-          if (routingContext.data().containsKey("parsedParameters")) {
-            ((RequestParametersImpl)routingContext.get("parsedParameters")).merge(requestParameters);
-          } else {
-            routingContext.put("parsedParameters", requestParameters);
-            routingContext.put("requestParameters", requestParameters);
-          }
-          routingContext.next();
+        if (f.failed()) {
+          routingContext.fail(400, f.cause());
+          return;
         }
-      });
+        requestParameters.setBody(f.result());
+      }
     } catch (BadRequestException e) {
       routingContext.fail(400, e);
+      return;
+    }
+    complete(routingContext, requestParameters);
+  }
+
+  private void complete(RoutingContext routingContext, RequestParametersImpl requestParameters) {
+    if (routingContext.data().containsKey("parsedParameters")) {
+      ((RequestParametersImpl)routingContext.get("parsedParameters")).merge(requestParameters);
+    } else {
+      routingContext.put("parsedParameters", requestParameters);
+      routingContext.put("requestParameters", requestParameters);
     }
+    routingContext.next();
   }
 
   public boolean isBodyRequired() {
@@ -185,21 +123,18 @@ public class ValidationHandlerImpl implements ValidationHandler {
     }
   }
 
-  private Future<Map<String, RequestParameter>> validatePathParams(RoutingContext routingContext) {
+  private Map<String, RequestParameter> validatePathParams(RoutingContext routingContext) {
     // Validation process validate only params that are registered in the validation -> extra params are allowed
-    Map<String, List<String>> pathParams = routingContext
-      .pathParams()
-      .entrySet()
-      .stream()
-      .map(e -> new SimpleImmutableEntry<>(e.getKey(), Collections.singletonList(e.getValue())))
-      .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
-    Map<String, RequestParameter> parsedParams = new HashMap<>();
+    Map<String, String> rawPathParams = routingContext.pathParams();
+    Map<String, List<String>> pathParams = new HashMap<>(rawPathParams.size() * 2);
+    for (Map.Entry<String, String> e : rawPathParams.entrySet()) {
+      pathParams.put(e.getKey(), Collections.singletonList(e.getValue()));
+    }
 
-    return processParams(parsedParams, pathParams, pathParameters, false);
+    return processParams(pathParams, pathParameters, false);
   }
 
-  private Future<Map<String, RequestParameter>> validateCookieParams(RoutingContext routingContext) {
+  private Map<String, RequestParameter> validateCookieParams(RoutingContext routingContext) {
     // Validation process validate only params that are registered in the validation -> extra params are allowed
     Map<String, List<String>> cookies = new HashMap<>();
     if (routingContext.request().headers().contains("Cookie")) {
@@ -214,22 +149,19 @@ public class ValidationHandlerImpl implements ValidationHandler {
         });
       }
     }
-    Map<String, RequestParameter> parsedParams = new HashMap<>();
 
-    return processParams(parsedParams, cookies, cookieParameters, false);
+    return processParams(cookies, cookieParameters, false);
   }
 
-  private Future<Map<String, RequestParameter>> validateQueryParams(RoutingContext routingContext) {
+  private Map<String, RequestParameter> validateQueryParams(RoutingContext routingContext) {
     // Validation process validate only params that are registered in the validation -> extra params are allowed
-    Map<String, RequestParameter> parsedParams = new HashMap<>();
     Map<String, List<String>> queryParams = new HashMap<>();
     routingContext.queryParams().forEach((e) -> queryParams.computeIfAbsent(e.getKey(), k -> new ArrayList<>()).add(e.getValue()));
-    return processParams(parsedParams, queryParams, queryParameters, false);
+    return processParams(queryParams, queryParameters, false);
   }
 
-  private Future<Map<String, RequestParameter>> validateHeaderParams(RoutingContext routingContext) {
+  private Map<String, RequestParameter> validateHeaderParams(RoutingContext routingContext) {
     // Validation process validate only params that are registered in the validation -> extra params are allowed
-    Map<String, RequestParameter> parsedParams = new HashMap<>();
 
     // We must force lowercase because parameters are recognized by their lowercase value for headers
     Map<String, List<String>> headers = new HashMap<>();
@@ -238,7 +170,7 @@ public class ValidationHandlerImpl implements ValidationHandler {
       .headers()
       .forEach((e) -> headers.computeIfAbsent(e.getKey().toLowerCase(), k -> new ArrayList<>()).add(e.getValue()));
 
-    return processParams(parsedParams, headers, headerParameters, true);
+    return processParams(headers, headerParameters, true);
   }
 
   private Future<RequestParameter> validateBody(RoutingContext routingContext) {
@@ -249,31 +181,14 @@ public class ValidationHandlerImpl implements ValidationHandler {
     throw BodyProcessorException.createMissingMatchingBodyProcessor(routingContext.parsedHeaders().contentType().value());
   }
 
-  private Future<Map<String, RequestParameter>> processParams(Map<String, RequestParameter> parsedParams, Map<String,
-    List<String>> params, ParameterProcessor[] processors, boolean forceLowercase) {
-    Future<Map<String, RequestParameter>> waitingFutureChain = Future.succeededFuture(parsedParams);
-
+  private Map<String, RequestParameter> processParams(Map<String, List<String>> params, ParameterProcessor[] processors,
+                                                      boolean forceLowercase) throws BadRequestException {
+    Map<String, RequestParameter> parsedParams = new HashMap<>(processors.length * 2);
     for (ParameterProcessor processor : processors) {
-      try {
-        Future<RequestParameter> fut = processor.process(params);
-        if (fut.isComplete()) {
-          if (fut.succeeded()) {
-            parsedParams.put(forceLowercase ? processor.getName().toLowerCase() : processor.getName(), fut.result());
-          } else if (fut.failed()) {
-            return Future.failedFuture(fut.cause());
-          }
-        } else {
-          waitingFutureChain = waitingFutureChain.compose(m -> fut.map(rp -> {
-            parsedParams.put(processor.getName(), rp);
-            return parsedParams;
-          }));
-        }
-      } catch (BadRequestException e) {
-        return Future.failedFuture(e);
-      }
+      RequestParameter parameter = processor.processSync(params);
+      parsedParams.put(forceLowercase ? processor.getName().toLowerCase() : processor.getName(), parameter);
     }
-
-    return waitingFutureChain;
+    return parsedParams;
   }
 
 }
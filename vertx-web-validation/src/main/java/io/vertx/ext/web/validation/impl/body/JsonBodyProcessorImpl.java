@@ -14,11 +14,13 @@ import io.vertx.ext.web.validation.RequestParameter;
 import io.vertx.json.schema.JsonSchema;
 import io.vertx.json.schema.OutputUnit;
 import io.vertx.json.schema.SchemaRepository;
+import io.vertx.json.schema.Validator;
 
 public class JsonBodyProcessorImpl implements BodyProcessor {
 
   private final SchemaRepository repo;
   private final JsonSchema schema;
+  private volatile Validator validator;
 
   public JsonBodyProcessorImpl(SchemaRepository repo, JsonObject schema) {
     this.schema = JsonSchema.of(schema);
@@ -42,7 +44,7 @@ public class JsonBodyProcessorImpl implements BodyProcessor {
       }
       Object json = Json.decodeValue(body);
       return Future.<RequestParameter>future(p -> {
-        OutputUnit result = repo.validator(schema).validate(json);
+        OutputUnit result = validator().validate(json);
         if (result.getValid()) {
           p.complete(RequestParameter.create(json));
         } else {
@@ -55,4 +57,13 @@ public class JsonBodyProcessorImpl implements BodyProcessor {
       throw BodyProcessorException.createParsingError(requestContext.request().getHeader(HttpHeaders.CONTENT_TYPE), e);
     }
   }
+
+  private Validator validator() {
+    Validator v = validator;
+    if (v == null) {
+      v = repo.validator(schema);
+      validator = v;
+    }
+    return v;
+  }
 }
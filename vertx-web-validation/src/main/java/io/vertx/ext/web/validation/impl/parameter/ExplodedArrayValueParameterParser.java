@@ -8,7 +8,6 @@ import io.vertx.ext.web.validation.impl.parser.ValueParser;
 
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collector;
 
 import static io.vertx.ext.web.validation.impl.parameter.ExplodedObjectValueParameterParser.isExplodedObjectValueParameterParserWithAdditionalProperties;
 
@@ -23,11 +22,13 @@ public class ExplodedArrayValueParameterParser extends ArrayParser implements Pa
 
   @Override
   public @Nullable Object parseParameter(Map<String, List<String>> parameters) throws MalformedValueException {
-    return parameters.containsKey(parameterName) ? parameters
-      .remove(parameterName)
-      .stream()
-      .map(this::parseValue)
-      .collect(Collector.of(JsonArray::new, JsonArray::add, JsonArray::addAll)) : null;
+    List<String> values = parameters.remove(parameterName);
+    if (values == null) return null;
+    JsonArray result = new JsonArray();
+    for (String value : values) {
+      result.add(parseValue(value));
+    }
+    return result;
   }
 
   @Override
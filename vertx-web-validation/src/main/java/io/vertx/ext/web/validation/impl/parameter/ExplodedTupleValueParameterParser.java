@@ -8,9 +8,6 @@ import io.vertx.ext.web.validation.impl.parser.ValueParser;
 
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collector;
-import java.util.stream.IntStream;
 
 import static io.vertx.ext.web.validation.impl.parameter.ExplodedObjectValueParameterParser.isExplodedObjectValueParameterParserWithAdditionalProperties;
 
@@ -28,11 +25,11 @@ public class ExplodedTupleValueParameterParser extends TupleParser implements Pa
   public @Nullable Object parseParameter(Map<String, List<String>> parameters) throws MalformedValueException {
     List<String> values = parameters.remove(parameterName);
     if (values == null) return null;
-    return IntStream
-      .range(0, values.size())
-      .mapToObj(i -> parseItem(i, values.get(i)))
-      .flatMap(Function.identity())
-      .collect(Collector.of(JsonArray::new, JsonArray::add, JsonArray::addAll));
+    JsonArray result = new JsonArray();
+    for (int i = 0; i < values.size(); i++) {
+      result.add(parseItem(i, values.get(i)));
+    }
+    return result;
   }
 
   @Override
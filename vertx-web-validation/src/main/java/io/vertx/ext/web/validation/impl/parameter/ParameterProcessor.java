@@ -2,6 +2,7 @@ package io.vertx.ext.web.validation.impl.parameter;
 
 import io.vertx.core.Future;
 import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.validation.BadRequestException;
 import io.vertx.ext.web.validation.RequestParameter;
 import io.vertx.ext.web.validation.impl.ParameterLocation;
 import io.vertx.json.schema.SchemaRepository;
@@ -16,6 +17,15 @@ public interface ParameterProcessor {
 
   Future<RequestParameter> process(Map<String, List<String>> params);
 
+  /**
+   * Same as {@link #process(Map)}, but validates the parameter inline without allocating a {@link Future}
+   *
+   * @param params the request parameters
+   * @return the parsed and validated parameter, or the default value when the parameter is missing and optional
+   * @throws BadRequestException if the parameter is missing, malformed or invalid
+   */
+  RequestParameter processSync(Map<String, List<String>> params) throws BadRequestException;
+
   String getName();
 
   ParameterLocation getLocation();
@@ -2,16 +2,18 @@ package io.vertx.ext.web.validation.impl.parameter;
 
 import io.vertx.core.Future;
 import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.validation.BadRequestException;
 import io.vertx.ext.web.validation.MalformedValueException;
+import io.vertx.ext.web.validation.ParameterProcessorException;
 import io.vertx.ext.web.validation.RequestParameter;
 import io.vertx.ext.web.validation.impl.ParameterLocation;
 import io.vertx.json.schema.JsonSchema;
 import io.vertx.json.schema.OutputUnit;
 import io.vertx.json.schema.SchemaRepository;
+import io.vertx.json.schema.Validator;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 import static io.vertx.ext.web.validation.ParameterProcessorException.createMissingParameterWhenRequired;
 import static io.vertx.ext.web.validation.ParameterProcessorException.createParsingError;
@@ -28,6 +30,7 @@ public class ParameterProcessorImpl implements ParameterProcessor, Comparable<Pa
   private String validationErrorMessage;
   private String parsingErrorMessage;
   private String missingParameterErrorMessage;
+  private volatile Validator validator;
 
   public ParameterProcessorImpl(String parameterName, ParameterLocation location, boolean isOptional,
                                 ParameterParser parser, SchemaRepository repo, JsonObject schema) {
@@ -41,28 +44,61 @@ public class ParameterProcessorImpl implements ParameterProcessor, Comparable<Pa
 
   @Override
   public Future<RequestParameter> process(Map<String, List<String>> params) {
+    Object json = parse(params);
+    if (json != null) {
+      try {
+        return Future.succeededFuture(validate(json));
+      } catch (ParameterProcessorException e) {
+        return Future.failedFuture(e);
+      }
+    }
+    return Future.succeededFuture(defaultValue());
+  }
+
+  @Override
+  public RequestParameter processSync(Map<String, List<String>> params) throws BadRequestException {
+    Object json = parse(params);
+    return json != null ? validate(json) : defaultValue();
+  }
+
+  private Object parse(Map<String, List<String>> params) {
     Object json;
     try {
       json = parser.parseParameter(params);
     } catch (MalformedValueException e) {
       throw createParsingError(parameterName, location, e, parsingErrorMessage);
     }
-    if (json != null)
-      return Future.<RequestParameter>future(p -> {
-        OutputUnit result = repo.validator(JsonSchema.of(schema)).validate(json);
-        if (result.getValid()) {
-          p.complete(RequestParameter.create(json));
-        } else {
-          p.fail(result.toException(""));
-        }
-      }).recover(t -> Future.failedFuture(createValidationError(parameterName, location, t, validationErrorMessage)));
-    else if (!isOptional)
+    if (json == null && !isOptional)
       throw createMissingParameterWhenRequired(parameterName, location, missingParameterErrorMessage);
-    else {
-      RequestParameter defaultValue =
-        Optional.ofNullable(schema.getValue("default")).map(RequestParameter::create).orElse(null);
-      return Future.succeededFuture(defaultValue);
+    return json;
+  }
+
+  private RequestParameter validate(Object json) {
+    OutputUnit result;
+    try {
+      result = validator().validate(json);
+    } catch (RuntimeException e) {
+      throw createValidationError(parameterName, location, e, validationErrorMessage);
+    }
+    if (!result.getValid()) {
+      throw createValidationError(parameterName, location, result.toException(""), validationErrorMessage);
     }
+    return RequestParameter.create(json);
+  }
+
+  private Validator validator() {
+    // Lazily compiled and reused across requests, refs are resolved against the repository on first use
+    Validator v = validator;
+    if (v == null) {
+      v = repo.validator(JsonSchema.of(schema));
+      validator = v;
+    }
+    return v;
+  }
+
+  private RequestParameter defaultValue() {
+    Object defaultValue = schema.getValue("default");
+    return defaultValue != null ? RequestParameter.create(defaultValue) : null;
   }
 
   @Override
@@ -21,13 +21,12 @@ public abstract class ObjectParser<X> {
     if (propertiesParsers != null && propertiesParsers.containsKey(key))
       valueParser = propertiesParsers.get(key);
     else if (patternPropertiesParsers != null) {
-      valueParser = patternPropertiesParsers
-        .entrySet()
-        .stream()
-        .filter(e -> e.getKey().matcher(key).find())
-        .map(Map.Entry::getValue)
-        .findFirst()
-        .orElse(null);
+      for (Map.Entry<Pattern, ValueParser<X>> e : patternPropertiesParsers.entrySet()) {
+        if (e.getKey().matcher(key).find()) {
+          valueParser = e.getValue();
+          break;
+        }
+      }
     }
     if (valueParser == null) {
       valueParser = getAdditionalPropertiesParserIfRequired();
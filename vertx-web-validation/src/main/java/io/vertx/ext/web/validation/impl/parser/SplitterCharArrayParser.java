@@ -3,23 +3,34 @@ package io.vertx.ext.web.validation.impl.parser;
 import io.vertx.core.json.JsonArray;
 import io.vertx.ext.web.validation.MalformedValueException;
 
-import java.util.Arrays;
-
 public class SplitterCharArrayParser extends ArrayParser implements ValueParser<String> {
 
-  private String separator;
+  private final String separator;
+  private final char separatorChar;
 
   public SplitterCharArrayParser(ValueParser<String> itemsParser, String separator) {
     super(itemsParser);
     this.separator = separator;
+    this.separatorChar = SplitterChars.literalSeparator(separator);
   }
 
   @Override
   public JsonArray parse(String serialized) throws MalformedValueException {
-    return Arrays
-      .stream(serialized.split(separator, -1))
-      .map(this::parseValue)
-      .reduce(new JsonArray(), JsonArray::add, JsonArray::addAll);
+    JsonArray result = new JsonArray();
+    if (separatorChar == 0) {
+      for (String value : serialized.split(separator, -1)) {
+        result.add(parseValue(value));
+      }
+      return result;
+    }
+    int start = 0;
+    int end;
+    while ((end = serialized.indexOf(separatorChar, start)) != -1) {
+      result.add(parseValue(serialized.substring(start, end)));
+      start = end + 1;
+    }
+    result.add(parseValue(serialized.substring(start)));
+    return result;
   }
 
   @Override
@@ -3,36 +3,60 @@ package io.vertx.ext.web.validation.impl.parser;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.validation.MalformedValueException;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.regex.Pattern;
 
 public class SplitterCharObjectParser extends ObjectParser<String> implements ValueParser<String> {
 
-  private String separator;
+  private final String separator;
+  private final char separatorChar;
 
   public SplitterCharObjectParser(Map<String, ValueParser<String>> propertiesParsers, Map<Pattern, ValueParser<String>> patternPropertiesParsers, ValueParser<String> additionalPropertiesParsers, String separator) {
     super(propertiesParsers, patternPropertiesParsers, additionalPropertiesParsers);
     this.separator = separator;
+    this.separatorChar = SplitterChars.literalSeparator(separator);
   }
 
   @Override
   public JsonObject parse(String serialized) throws MalformedValueException {
-    Map<String, Object> result = new HashMap<>();
-    String[] values = serialized.split(separator, -1);
+    if (separatorChar == 0) {
+      return parseSplitted(serialized.split(separator, -1));
+    }
+    // Key value pairs -> odd length not allowed
+    if (SplitterChars.countValues(serialized, separatorChar) % 2 != 0)
+      throw new MalformedValueException("Key value pair Object must have odd number of deserialized values");
+    JsonObject result = new JsonObject();
+    int start = 0;
+    while (start <= serialized.length()) {
+      int keyEnd = serialized.indexOf(separatorChar, start);
+      int valueEnd = serialized.indexOf(separatorChar, keyEnd + 1);
+      if (valueEnd == -1) {
+        valueEnd = serialized.length();
+      }
+      putField(result, serialized.substring(start, keyEnd), serialized.substring(keyEnd + 1, valueEnd));
+      start = valueEnd + 1;
+    }
+    return result;
+  }
+
+  private JsonObject parseSplitted(String[] values) {
     // Key value pairs -> odd length not allowed
     if (values.length % 2 != 0)
       throw new MalformedValueException("Key value pair Object must have odd number of deserialized values");
+    JsonObject result = new JsonObject();
     for (int i = 0; i < values.length; i += 2) {
-      // empty key not allowed!
-      if (values[i].length() == 0) {
-        throw new MalformedValueException("Empty key not allowed");
-      } else {
-        Map.Entry<String, Object> parsed = parseField(values[i], values[i + 1]);
-        if (parsed != null) result.put(parsed.getKey(), parsed.getValue());
-      }
+      putField(result, values[i], values[i + 1]);
+    }
+    return result;
+  }
+
+  private void putField(JsonObject result, String key, String value) {
+    // empty key not allowed!
+    if (key.isEmpty()) {
+      throw new MalformedValueException("Empty key not allowed");
     }
-    return new JsonObject(result);
+    Map.Entry<String, Object> parsed = parseField(key, value);
+    if (parsed != null) result.put(parsed.getKey(), parsed.getValue());
   }
 
   @Override
@@ -8,19 +8,32 @@ import java.util.List;
 public class SplitterCharTupleParser extends TupleParser implements ValueParser<String> {
 
   private final String separator;
+  private final char separatorChar;
 
   public SplitterCharTupleParser(List<ValueParser<String>> itemsParser, ValueParser<String> additionalItemsParser, String separator) {
     super(itemsParser, additionalItemsParser);
     this.separator = separator;
+    this.separatorChar = SplitterChars.literalSeparator(separator);
   }
 
   @Override
   public JsonArray parse(String serialized) throws MalformedValueException {
     JsonArray result = new JsonArray();
-    String[] splitted = serialized.split(separator, -1);
-    for (int i = 0; i < splitted.length; i++) {
-      parseItem(i, splitted[i]).forEach(result::add);
+    if (separatorChar == 0) {
+      String[] splitted = serialized.split(separator, -1);
+      for (int i = 0; i < splitted.length; i++) {
+        result.add(parseItem(i, splitted[i]));
+      }
+      return result;
     }
+    int i = 0;
+    int start = 0;
+    int end;
+    while ((end = serialized.indexOf(separatorChar, start)) != -1) {
+      result.add(parseItem(i++, serialized.substring(start, end)));
+      start = end + 1;
+    }
+    result.add(parseItem(i, serialized.substring(start)));
     return result;
   }
 
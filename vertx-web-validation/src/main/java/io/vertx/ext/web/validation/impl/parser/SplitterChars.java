@@ -0,0 +1,42 @@
+package io.vertx.ext.web.validation.impl.parser;
+
+/**
+ * Helpers shared by the splitter char parsers to scan serialized values without going through {@link String#split(String)}
+ */
+final class SplitterChars {
+
+  private static final String REGEX_META_CHARS = ".$|()[{^?*+\\";
+
+  private SplitterChars() {
+  }
+
+  /**
+   * Returns the single char matched by the {@code separator} regex, or {@code 0} if the separator is not a single
+   * literal char and must be handled as a regex
+   */
+  static char literalSeparator(String separator) {
+    if (separator.length() == 1 && REGEX_META_CHARS.indexOf(separator.charAt(0)) == -1) {
+      return separator.charAt(0);
+    }
+    if (separator.length() == 2 && separator.charAt(0) == '\\') {
+      char c = separator.charAt(1);
+      if (!Character.isLetterOrDigit(c)) {
+        return c;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Count the values that {@code serialized.split(separator, -1)} would produce
+   */
+  static int countValues(String serialized, char separator) {
+    int count = 1;
+    for (int i = 0; i < serialized.length(); i++) {
+      if (serialized.charAt(i) == separator) {
+        count++;
+      }
+    }
+    return count;
+  }
+}
@@ -1,7 +1,6 @@
 package io.vertx.ext.web.validation.impl.parser;
 
 import java.util.List;
-import java.util.stream.Stream;
 
 public abstract class TupleParser {
 
@@ -14,13 +13,8 @@ public abstract class TupleParser {
     this.additionalItemsParser = additionalItemsParser != null ? additionalItemsParser : ValueParser.NOOP_PARSER;
   }
 
-  protected Stream<Object> parseItem(int i, String serialized) {
-    if (i < itemsParser.length)
-      return Stream.of(parseValue(serialized, itemsParser[i]));
-    else if (additionalItemsParser != null)
-      return Stream.of(parseValue(serialized, additionalItemsParser));
-    else
-      return null;
+  protected Object parseItem(int i, String serialized) {
+    return parseValue(serialized, i < itemsParser.length ? itemsParser[i] : additionalItemsParser);
   }
 
   private Object parseValue(String v, ValueParser<String> parser) {
@@ -23,6 +23,8 @@ import java.util.HashMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -256,4 +258,51 @@ public class ParameterProcessorUnitTest {
       testContext.completeNow();
     }));
   }
+
+  @Test
+  public void testProcessSyncValidationFailure() {
+    ParameterProcessor processor = new ParameterProcessorImpl(
+      "myParam",
+      ParameterLocation.QUERY,
+      true,
+      mockedParser,
+      mockedSchemaRepository,
+      new JsonObject()
+    );
+
+    when(mockedParser.parseParameter(any())).thenReturn("aaa");
+
+    when(mockedSchemaRepository.validator(any(JsonSchema.class))).thenReturn(mockedValidator);
+    when(mockedValidator.validate(any())).thenReturn(mockedOutputUnit);
+    when(mockedOutputUnit.getValid()).thenReturn(false);
+
+    assertThatCode(() -> processor.processSync(new HashMap<>()))
+      .isInstanceOf(ParameterProcessorException.class)
+      .hasFieldOrPropertyWithValue("errorType",
+        ParameterProcessorException.ParameterProcessorErrorType.VALIDATION_ERROR)
+      .hasFieldOrPropertyWithValue("location", ParameterLocation.QUERY)
+      .hasFieldOrPropertyWithValue("parameterName", "myParam");
+  }
+
+  @Test
+  public void testProcessSyncReusesValidator() {
+    ParameterProcessor processor = new ParameterProcessorImpl(
+      "myParam",
+      ParameterLocation.QUERY,
+      true,
+      mockedParser,
+      mockedSchemaRepository,
+      new JsonObject()
+    );
+
+    when(mockedParser.parseParameter(any())).thenReturn("aaa");
+
+    when(mockedSchemaRepository.validator(any(JsonSchema.class))).thenReturn(mockedValidator);
+    when(mockedValidator.validate(any())).thenReturn(mockedOutputUnit);
+    when(mockedOutputUnit.getValid()).thenReturn(true);
+
+    assertThat(processor.processSync(new HashMap<>()).getString()).isEqualTo("aaa");
+    assertThat(processor.processSync(new HashMap<>()).getString()).isEqualTo("aaa");
+    verify(mockedSchemaRepository, times(1)).validator(any(JsonSchema.class));
+  }
 }
@@ -68,4 +68,34 @@ public class SplitterCharArrayValueParserTest {
     assertThatExceptionOfType(MalformedValueException.class)
       .isThrownBy(() -> parser.parse("true,hello"));
   }
+
+  @Test
+  public void testTrailingSeparator() {
+    SplitterCharArrayParser parser = new SplitterCharArrayParser(
+      ValueParser.NOOP_PARSER, ","
+    );
+
+    Object result = parser.parse("a,b,");
+
+    assertThat(result)
+      .isInstanceOfSatisfying(JsonArray.class, ja ->
+        assertThat(ja)
+          .containsExactly("a", "b", "")
+      );
+  }
+
+  @Test
+  public void testRegexSeparator() {
+    SplitterCharArrayParser parser = new SplitterCharArrayParser(
+      ValueParser.LONG_PARSER, "\\|"
+    );
+
+    Object result = parser.parse("1|2|3");
+
+    assertThat(result)
+      .isInstanceOfSatisfying(JsonArray.class, ja ->
+        assertThat(ja)
+          .containsExactly(1L, 2L, 3L)
+      );
+  }
 }
@@ -7,6 +7,7 @@ import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.file.OpenOptions;
 import io.vertx.core.http.*;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
@@ -41,7 +42,9 @@ import io.vertx.ext.web.sstore.ClusteredSessionStore;
 import io.vertx.ext.web.sstore.LocalSessionStore;
 import io.vertx.ext.web.sstore.SessionStore;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.UUID;
 
 /**
  * These are the examples used in the documentation.
@@ -708,6 +711,14 @@ public class WebExamples {
     router.route().handler(BodyHandler.create().setDeleteUploadedFilesOnEnd(true));
   }
 
+  public void streamUploads(Vertx vertx, Router router) {
+    router.route().handler(BodyHandler.create()
+      .setUploadPartLimit(100 * 1024 * 1024)
+      .setUploadStreamHandler(upload -> vertx.fileSystem()
+        .open("/data/" + UUID.randomUUID(), new OpenOptions())
+        .map(file -> file)));
+  }
+
   public void example30(RoutingContext ctx) {
 
     Cookie someCookie = ctx.request().getCookie("mycookie");
@@ -890,6 +901,21 @@ public class WebExamples {
   }
 
 
+  public void authorizationCache(AuthorizationProvider authProvider, Router router, User user) {
+    // cache the authorizations of up to 10000 users for 1 minute
+    AuthorizationHandler authorizationHandler = AuthorizationHandler.create(PermissionBasedAuthorization.create("can-do-work"))
+      .addAuthorizationProvider(authProvider)
+      .authorizationCache(10_000, 60_000);
+
+    router.route().handler(authorizationHandler);
+
+    // the roles of the user have changed
+    authorizationHandler.invalidateAuthorizations(user);
+
+    // or all its tokens, without an instance of the user, by its subject
+    authorizationHandler.invalidateAuthorizations("paulo");
+  }
+
   public void example40(AuthorizationProvider authProvider, Router router) {
     // Need "list_products" authorization to list products
     router.route("/listproducts/*").handler(
@@ -956,6 +982,63 @@ public class WebExamples {
   }
 
 
+  public void templateLogger(Router router) {
+    router.route().handler(LoggerHandler.create(LoggerFormat.TEMPLATE)
+      .template("%h %t \"%r\" %s %b %D"));
+
+    // or as JSON
+    router.route().handler(LoggerHandler.create(LoggerFormat.TEMPLATE)
+      .jsonTemplate(Arrays.asList("%h", "%t", "%r", "%s", "%b", "%D", "%{User-Agent}i")));
+  }
+
+  public void asyncLogger(Router router) {
+    // queue up to 8192 messages per event loop and drop the ones that don't fit
+    router.route().handler(LoggerHandler.create()
+      .setAsync(8192, false));
+  }
+
+  public void routeMetrics(Router router) {
+    router.routeMetrics(true);
+
+    router.get("/metrics").handler(ctx -> ctx.json(router.routeMetricsSnapshot()));
+  }
+
+  public void concurrencyLimit(Router router) {
+    // start at 50 concurrent requests per event loop, never above 500
+    router.route("/api/*").handler(ConcurrencyLimitHandler.create(50)
+      .setMaxLimit(500)
+      .setRetryAfter(2));
+  }
+
+  public void rateLimit(Router router, AuthenticationProvider authProvider) {
+    // 100 requests per minute per API key, once the key is authenticated
+    router.route("/api/*").handler(APIKeyHandler.create(authProvider));
+    router.route("/api/*").handler(RateLimitHandler.create(100, 60_000)
+      .keyByApiKey(RateLimitHandler.DEFAULT_API_KEY_HEADER));
+
+    // 10 requests per second per user, in bursts of 20
+    router.route("/account/*").handler(RateLimitHandler.create(10, 1000)
+      .setBurst(20)
+      .keyByUser());
+  }
+
+  public void rateLimitStore(Vertx vertx, Router router) {
+    // the verticles of this Vert.x instance share the quotas of "api"
+    router.route("/api/*").handler(RateLimitHandler.create(100, 60_000)
+      .store("api", RateLimitStore.create(vertx)));
+  }
+
+  public void conditionalResponse(Router router) {
+    router.get("/api/*").handler(ConditionalResponseHandler.create());
+    router.get("/api/status").handler(ctx -> ctx.json(new JsonObject().put("status", "UP")));
+  }
+
+  public void conditionalResponseVersion(Router router, JsonObject revisions) {
+    // the revision of an item is much cheaper to get than the item itself
+    router.get("/items/:id").handler(ConditionalResponseHandler.create()
+      .versionTag(ctx -> revisions.getString(ctx.pathParam("id"))));
+  }
+
   public void example42(Router router) {
 
     router.route("/foo/").handler(TimeoutHandler.create(5000));
@@ -1277,6 +1360,17 @@ public class WebExamples {
     };
   }
 
+  public void jwtTokenCache(Router router, JWTAuth authProvider, String revokedToken) {
+    // cache up to 10000 tokens for at most 5 minutes
+    JWTAuthHandler jwtHandler = JWTAuthHandler.create(authProvider)
+      .tokenCache(10_000, 300_000);
+
+    router.route("/protected/*").handler(jwtHandler);
+
+    // revoke a token
+    jwtHandler.invalidateToken(revokedToken);
+  }
+
   public void example54(Vertx vertx, Router router) {
 
     // Required to handle request having an unsafe method (`POST`, `PUT`, ...etc.)
@@ -1287,6 +1381,12 @@ public class WebExamples {
     });
   }
 
+  public void statelessCsrf(Vertx vertx, Router router) {
+    router.route().handler(SessionHandler.create(LocalSessionStore.create(vertx)));
+    // the tokens are bound to the session but never stored in it
+    router.route().handler(CSRFHandler.create(vertx, "abracadabra").setStateless(true));
+  }
+
   public void example55(Router router) {
 
     router.get("/some/path").handler(ctx -> {
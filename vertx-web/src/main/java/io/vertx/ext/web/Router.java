@@ -22,6 +22,7 @@ import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.impl.RouterImpl;
 
 import java.util.List;
@@ -405,4 +406,29 @@ public interface Router extends Handler<HttpServerRequest> {
    */
   @Fluent
   Router allowForward(AllowForwardHeaders allowForwardHeaders);
+
+  /**
+   * Enable or disable the per route metrics of this router. When enabled, the router records for each route and each
+   * of its handlers the number of calls, the number of errors and a latency histogram. Disabling the metrics discards
+   * the recorded values.
+   * <p>
+   * The metrics are recorded per event loop without locking and merged by {@link #routeMetricsSnapshot()}.
+   *
+   * @param enabled whether to record the metrics
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  Router routeMetrics(boolean enabled);
+
+  /**
+   * Take a snapshot of the per route metrics, see {@link #routeMetrics(boolean)}.
+   * <p>
+   * The snapshot has a {@code routes} array, each route has its {@code name} (its name, path or regex),
+   * {@code order}, {@code methods}, {@code count}, {@code errors}, {@code latency} and {@code handlers}, the metrics
+   * of each handler by {@code index}. A latency has the {@code mean}, {@code max}, {@code p50}, {@code p90},
+   * {@code p99} and {@code p999} values in milliseconds.
+   *
+   * @return the snapshot, without routes when the metrics are disabled
+   */
+  JsonObject routeMetricsSnapshot();
 }
@@ -522,7 +522,7 @@ public interface RoutingContext {
       if(!hasContentType) {
         res.putHeader(HttpHeaders.CONTENT_TYPE, "application/json");
       }
-      return res.end("null");
+      return end("null");
     } else {
       try {
         Buffer buffer = Json.encodeToBuffer(json);
@@ -534,7 +534,7 @@ public interface RoutingContext {
         if(!hasContentType) {
           res.putHeader(HttpHeaders.CONTENT_TYPE, "application/json");
         }
-        return res.end(buffer);
+        return end(buffer);
       } catch (EncodeException | UnsupportedOperationException e) {
         // handle the failure
         fail(e);
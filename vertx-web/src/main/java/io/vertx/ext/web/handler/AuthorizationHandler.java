@@ -17,6 +17,7 @@ import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Handler;
 import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.auth.User;
 import io.vertx.ext.auth.authorization.Authorization;
 import io.vertx.ext.auth.authorization.AuthorizationContext;
 import io.vertx.ext.auth.authorization.AuthorizationProvider;
@@ -95,4 +96,46 @@ public interface AuthorizationHandler extends Handler<RoutingContext> {
   @Fluent
   @GenIgnore
   AuthorizationHandler variableConsumer(BiConsumer<RoutingContext, AuthorizationContext> handler);
+
+  /**
+   * Cache the authorizations fetched from the providers, by provider id and user principal. Concurrent requests of a
+   * user share a single fetch and the following requests reuse the result until {@code ttl} elapses, a failed fetch is
+   * not cached.
+   * <p>
+   * Changes of the authorizations of a user are not seen until the entries expire or are invalidated with
+   * {@link #invalidateAuthorizations(User)} or {@link #invalidateAuthorizations(String)}.
+   *
+   * @param maxSize the maximum number of cached entries
+   * @param ttl the time in milliseconds the authorizations are cached
+   * @return fluent self.
+   */
+  @Fluent
+  AuthorizationHandler authorizationCache(int maxSize, long ttl);
+
+  /**
+   * Remove the cached authorizations of a user, e.g. after a change of its roles.
+   *
+   * @param user the user
+   * @return fluent self.
+   */
+  @Fluent
+  AuthorizationHandler invalidateAuthorizations(User user);
+
+  /**
+   * Remove the cached authorizations of all the principals of the user with the given subject, e.g. all the tokens of
+   * a user whose roles are changed by an administrator.
+   *
+   * @param subject the user subject
+   * @return fluent self.
+   */
+  @Fluent
+  AuthorizationHandler invalidateAuthorizations(String subject);
+
+  /**
+   * Remove all the cached authorizations.
+   *
+   * @return fluent self.
+   */
+  @Fluent
+  AuthorizationHandler invalidateAuthorizations();
 }
@@ -18,10 +18,16 @@ package io.vertx.ext.web.handler;
 
 import io.vertx.codegen.annotations.Fluent;
 import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerFileUpload;
+import io.vertx.core.streams.WriteStream;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.impl.BodyHandlerImpl;
 
+import java.util.function.Function;
+
 /**
  * A handler which gathers the entire request body and sets it on the {@link RoutingContext}.
  * <p>
@@ -57,6 +63,11 @@ public interface BodyHandler extends Handler<RoutingContext> {
    */
   boolean DEFAULT_PREALLOCATE_BODY_BUFFER = false;
 
+  /**
+   * Default max size of a single streamed upload part in bytes = {@code -1}, i.e. no limit
+   */
+  long DEFAULT_UPLOAD_PART_LIMIT = -1;
+
   /**
    * Create a body handler with defaults.
    *
@@ -133,13 +144,42 @@ public interface BodyHandler extends Handler<RoutingContext> {
 
   /**
    * Pre-allocate the body buffer according to the value parsed from content-length header.
-   * The buffer is capped at 64KB
-   * @param isPreallocateBodyBuffer {@code true} if body buffer is pre-allocated according to the size
-   *                               read from content-length Header.
-   *                               {code false} if body buffer is pre-allocated to 1KB, and is resized dynamically
+   * <p>
+   * The body is kept as the chunks it was received in and assembled once, to its exact size, when it is read, so
+   * there is nothing to pre-allocate anymore. With this option a request with a content-length header always gets a
+   * non {@code null} body, even an empty one.
+   * @param isPreallocateBodyBuffer {@code true} if the body is created as soon as a content-length header is read
    * @return reference to this for fluency
    */
   @Fluent
   BodyHandler setPreallocateBodyBuffer(boolean isPreallocateBodyBuffer);
 
+  /**
+   * Stream multipart uploads to the destinations returned by {@code uploadStreamHandler} instead of the uploads
+   * directory.
+   * <p>
+   * The handler is called with each upload, while the upload is paused, and returns the {@link WriteStream} the
+   * upload content is written to. Writes honor the back-pressure of the stream and the stream is ended with the
+   * upload. The next handler is only called once all the streams are ended, uploads streamed this way do not appear
+   * in {@link RoutingContext#fileUploads()}.
+   * <p>
+   * When the request fails, e.g. with a {@code 413} status, the streams being written are ended with the content
+   * received so far, it is up to the stream to discard a partial upload.
+   *
+   * @param uploadStreamHandler  the function returning the destination of an upload
+   * @return reference to this for fluency
+   */
+  @Fluent
+  BodyHandler setUploadStreamHandler(Function<HttpServerFileUpload, Future<WriteStream<Buffer>>> uploadStreamHandler);
+
+  /**
+   * Set the maximum size in bytes of a single streamed upload, {@code -1} means no limit. Requests with a larger
+   * upload fail with a {@code 413} status.
+   *
+   * @param uploadPartLimit  the max size in bytes
+   * @return reference to this for fluency
+   */
+  @Fluent
+  BodyHandler setUploadPartLimit(long uploadPartLimit);
+
 }
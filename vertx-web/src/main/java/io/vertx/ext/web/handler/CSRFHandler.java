@@ -107,6 +107,17 @@ public interface CSRFHandler extends InputTrustHandler {
   @Fluent
   CSRFHandler setNagHttps(boolean nag);
 
+  /**
+   * Should the tokens be stateless? A stateless token binds the session id and its creation time through its
+   * signature, so issuing a token never writes to the session and the session doesn't need to be flushed to its store.
+   * A stateless token is accepted until it expires, instead of being replaced after each unsafe request.
+   *
+   * @param stateless true to issue stateless tokens
+   * @return fluent
+   */
+  @Fluent
+  CSRFHandler setStateless(boolean stateless);
+
   /**
    * Set the timeout for tokens generated by the handler, by default it uses the default from the session handler.
    *
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.ext.web.handler;
+
+import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.ext.web.handler.impl.ConcurrencyLimitHandlerImpl;
+
+/**
+ * Handler that limits the number of requests processed concurrently by the routes it is added to, and rejects the
+ * excess load with a {@code 503} response and a {@code Retry-After} header.
+ * <p>
+ * The limit adapts to the latency of the responses: it grows while the latency stays close to its long term minimum
+ * and shrinks when the latency increases or responses fail with {@code 503} or {@code 504}, which is the sign that
+ * requests are queueing somewhere downstream.
+ * <p>
+ * Each event loop has its own limiter, so the limits of this handler are per event loop. A handler instance limits
+ * the group of routes it is added to, use distinct instances to limit routes independently.
+ * <p>
+ * This is a platform handler, it runs before the body is parsed or the user is authenticated.
+ */
+@VertxGen
+public interface ConcurrencyLimitHandler extends PlatformHandler {
+
+  /**
+   * The default initial limit
+   */
+  int DEFAULT_INITIAL_LIMIT = 20;
+
+  /**
+   * The default minimum limit
+   */
+  int DEFAULT_MIN_LIMIT = 1;
+
+  /**
+   * The default maximum limit
+   */
+  int DEFAULT_MAX_LIMIT = 1000;
+
+  /**
+   * The default value of the {@code Retry-After} header, in seconds
+   */
+  long DEFAULT_RETRY_AFTER = 1;
+
+  /**
+   * Create a handler with the default limits
+   *
+   * @return the handler
+   */
+  static ConcurrencyLimitHandler create() {
+    return new ConcurrencyLimitHandlerImpl(DEFAULT_INITIAL_LIMIT);
+  }
+
+  /**
+   * Create a handler
+   *
+   * @param initialLimit the initial limit of concurrent requests per event loop
+   * @return the handler
+   */
+  static ConcurrencyLimitHandler create(int initialLimit) {
+    return new ConcurrencyLimitHandlerImpl(initialLimit);
+  }
+
+  /**
+   * Set the minimum limit of concurrent requests per event loop, the limit never shrinks below it.
+   *
+   * @param minLimit the minimum limit
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  ConcurrencyLimitHandler setMinLimit(int minLimit);
+
+  /**
+   * Set the maximum limit of concurrent requests per event loop, the limit never grows above it.
+   *
+   * @param maxLimit the maximum limit
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  ConcurrencyLimitHandler setMaxLimit(int maxLimit);
+
+  /**
+   * Set whether the limit adapts to the latency. A fixed limit stays at the initial limit.
+   *
+   * @param adaptive {@code false} to keep the initial limit
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  ConcurrencyLimitHandler setAdaptive(boolean adaptive);
+
+  /**
+   * Set the value of the {@code Retry-After} header of the rejected requests.
+   *
+   * @param seconds the delay in seconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  ConcurrencyLimitHandler setRetryAfter(long seconds);
+
+  /**
+   * @return the sum of the current limits of the event loops, or the initial limit before the first request
+   */
+  int limit();
+
+  /**
+   * @return the number of requests being processed
+   */
+  int inFlight();
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.ext.web.handler;
+
+import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.handler.impl.ConditionalResponseHandlerImpl;
+
+import java.util.function.Function;
+
+/**
+ * Handler that answers conditional {@code GET} and {@code HEAD} requests of dynamic resources.
+ * <p>
+ * The {@code 200} responses ended with {@link RoutingContext#end(io.vertx.core.buffer.Buffer)},
+ * {@link RoutingContext#end(String)} or {@link RoutingContext#json(Object)} get a strong {@code ETag} computed from a
+ * fast non-cryptographic hash of the body, unless the next handlers already set one. When the {@code If-None-Match} or
+ * {@code If-Modified-Since} headers of the request match, the response ends with {@code 304} and the body is not sent.
+ * Responses written with {@link io.vertx.core.http.HttpServerResponse} directly are not modified.
+ * <p>
+ * To not produce the body at all, a {@link #versionTag(Function) version tag} of the resource can be computed before
+ * the next handlers are called.
+ */
+@VertxGen
+public interface ConditionalResponseHandler extends PlatformHandler {
+
+  /**
+   * Create a handler
+   *
+   * @return the handler
+   */
+  static ConditionalResponseHandler create() {
+    return new ConditionalResponseHandlerImpl();
+  }
+
+  /**
+   * Set a function returning a version tag of the requested resource, e.g. a revision number, used as the
+   * {@code ETag} of the response. When the client already has this version, the response ends with {@code 304} and
+   * the next handlers are not called. When the function returns {@code null}, the body is hashed.
+   *
+   * @param versionFunction the function returning the version tag of a request
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  ConditionalResponseHandler versionTag(Function<RoutingContext, String> versionFunction);
+}
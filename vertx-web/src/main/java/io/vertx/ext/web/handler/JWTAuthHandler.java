@@ -18,6 +18,7 @@ package io.vertx.ext.web.handler;
 
 import io.vertx.codegen.annotations.Fluent;
 import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.json.JsonObject;
 import io.vertx.ext.auth.jwt.JWTAuth;
 import io.vertx.ext.web.handler.impl.JWTAuthHandlerImpl;
 
@@ -81,4 +82,42 @@ public interface JWTAuthHandler extends AuthenticationHandler {
    * @return new instance of this interface.
    */
   JWTAuthHandler withScopes(List<String> scopes);
+
+  /**
+   * Cache the users of verified tokens, so a token sent again is not verified again. The users are cached by token
+   * digest until the earlier of the token expiration and {@code ttl}. A cached user is still subject to the scope
+   * checks of the handler but a revoked token is accepted until it is invalidated with {@link #invalidateToken(String)}
+   * or expires from the cache.
+   * <p>
+   * The cache is shared with the instances created by {@link #withScope(String)} and {@link #withScopes(List)}.
+   *
+   * @param maxSize the maximum number of cached tokens
+   * @param ttl the maximum time in milliseconds a token is cached
+   * @return fluent self.
+   */
+  @Fluent
+  JWTAuthHandler tokenCache(int maxSize, long ttl);
+
+  /**
+   * Remove a token from the cache, the next request with this token is verified again.
+   *
+   * @param token the token
+   * @return fluent self.
+   */
+  @Fluent
+  JWTAuthHandler invalidateToken(String token);
+
+  /**
+   * Remove all the tokens from the cache.
+   *
+   * @return fluent self.
+   */
+  @Fluent
+  JWTAuthHandler invalidateTokens();
+
+  /**
+   * @return the {@code hits}, {@code misses}, {@code evictions} and {@code size} of the token cache, {@code null} when
+   * the cache is not enabled
+   */
+  JsonObject tokenCacheMetrics();
 }
@@ -48,5 +48,12 @@ public enum LoggerFormat {
   /**
    * Will use user defined formatter function.
    */
-  CUSTOM
+  CUSTOM,
+
+  /**
+   * Will use the template set with {@link LoggerHandler#template(String)} or
+   * {@link LoggerHandler#jsonTemplate(java.util.List)}, by default the Common Log Format
+   * {@code %h %l %u %t "%r" %s %b}.
+   */
+  TEMPLATE
 }
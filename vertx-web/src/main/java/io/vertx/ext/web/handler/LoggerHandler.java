@@ -19,6 +19,8 @@ import io.vertx.codegen.annotations.Fluent;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.ext.web.handler.impl.LoggerHandlerImpl;
 
+import java.util.List;
+
 /**
  * A handler which logs request information to the Vert.x logger.
  * You should mount this handler before any handler that could fail the routing context.
@@ -34,6 +36,11 @@ public interface LoggerHandler extends PlatformHandler {
 
   LoggerFormat DEFAULT_FORMAT = LoggerFormat.DEFAULT;
 
+  /**
+   * Default size of the queue of pending log messages in asynchronous mode = 8192
+   */
+  int DEFAULT_ASYNC_QUEUE_SIZE = 8192;
+
   /**
    * Create a handler with default format
    *
@@ -73,4 +80,72 @@ public interface LoggerHandler extends PlatformHandler {
    */
   @Fluent
   LoggerHandler customFormatter(LoggerFormatter formatter);
+
+  /**
+   * Set the template of the log messages. The template is compiled once and uses the Apache {@code mod_log_config}
+   * directives:
+   *
+   * <ul>
+   *   <li>{@code %h} remote host</li>
+   *   <li>{@code %l} remote logname, always {@code -}</li>
+   *   <li>{@code %u} user subject</li>
+   *   <li>{@code %t} time the request was received</li>
+   *   <li>{@code %r} first line of the request</li>
+   *   <li>{@code %m} method</li>
+   *   <li>{@code %U} path</li>
+   *   <li>{@code %q} query string</li>
+   *   <li>{@code %H} protocol</li>
+   *   <li>{@code %s} status</li>
+   *   <li>{@code %b} response size, {@code -} when empty</li>
+   *   <li>{@code %B} response size</li>
+   *   <li>{@code %D} time taken to serve the request, in microseconds</li>
+   *   <li>{@code %T} time taken to serve the request, in seconds</li>
+   *   <li>{@code %{name}i} request header</li>
+   *   <li>{@code %{name}o} response header</li>
+   *   <li>{@code %%} a literal {@code %}</li>
+   * </ul>
+   *
+   * @param template the template, e.g. {@code %h %t "%r" %s %b %D}
+   * @return a reference to this, so the API can be used fluently
+   * @throws IllegalStateException if current format is not {@link LoggerFormat#TEMPLATE}
+   * @throws IllegalArgumentException if the template contains an unknown directive
+   */
+  @Fluent
+  LoggerHandler template(String template);
+
+  /**
+   * Log JSON objects with a member per directive, see {@link #template(String)} for the list of directives.
+   * Members are named after the directive, e.g. {@code remoteHost} for {@code %h}, {@code status} for {@code %s} or the
+   * header name for {@code %{name}i}. The response size is {@code bytes} for {@code %B} and {@code bytesCLF} for
+   * {@code %b}, which is {@code null} when empty.
+   *
+   * @param directives the directives, e.g. {@code ["%h", "%s", "%D"]}
+   * @return a reference to this, so the API can be used fluently
+   * @throws IllegalStateException if current format is not {@link LoggerFormat#TEMPLATE}
+   * @throws IllegalArgumentException if an element isn't a known directive
+   */
+  @Fluent
+  LoggerHandler jsonTemplate(List<String> directives);
+
+  /**
+   * Log asynchronously: log messages are still formatted on the request thread but are buffered per event loop and
+   * handed to the logger in batches from a worker thread, so a slow appender doesn't stall the event loop. The
+   * messages of an event loop are logged in order.
+   * <p>
+   * An event loop never waits: when its buffer is full, messages are dropped and counted (see
+   * {@link #droppedMessages()}). Messages logged from a worker thread are handed to the buffer of its event loop, or
+   * with {@code blockWhenFull} logged on the worker thread, which waits for the logger.
+   *
+   * @param queueSize the maximum number of pending log messages per event loop
+   * @param blockWhenFull {@code true} to log the messages of worker threads on the worker thread instead of buffering
+   *                      them
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  LoggerHandler setAsync(int queueSize, boolean blockWhenFull);
+
+  /**
+   * @return the number of log messages dropped because the asynchronous queue was full
+   */
+  long droppedMessages();
 }
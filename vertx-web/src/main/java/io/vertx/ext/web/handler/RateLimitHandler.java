@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.ext.web.handler;
+
+import io.vertx.codegen.annotations.Fluent;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.handler.impl.RateLimitHandlerImpl;
+
+import java.util.function.Function;
+
+/**
+ * Handler that limits the rate of requests per key, by default the remote address of the client. Requests over the
+ * limit are rejected with a {@code 429} response and a {@code Retry-After} header.
+ * <p>
+ * Each key has a token bucket that allows {@code limit} requests per {@code period} with bursts of {@code burst}
+ * requests. The buckets are kept in memory, when there are {@link #setMaxKeys(int)} keys the full buckets, which hold
+ * no state, are periodically evicted. In between, a new key evicts the least recently used of a few buckets, which
+ * starts again with a full bucket. With a {@link RateLimitStore}, handlers sharing the store periodically synchronize
+ * their quotas, but the decision to admit a request is always taken locally.
+ * <p>
+ * The admitted requests get the {@code RateLimit-Limit}, {@code RateLimit-Remaining}, {@code RateLimit-Reset} and
+ * {@code RateLimit-Policy} headers.
+ * <p>
+ * This is a platform handler, it runs before the body is parsed. To limit the requests of authenticated users with
+ * {@link #keyByUser()}, add it to a route after the route of the authentication handler.
+ */
+@VertxGen
+public interface RateLimitHandler extends PlatformHandler {
+
+  /**
+   * The default maximum number of keys
+   */
+  int DEFAULT_MAX_KEYS = 65536;
+
+  /**
+   * The default interval between two synchronizations with the store, in ms
+   */
+  long DEFAULT_SYNC_INTERVAL = 500;
+
+  /**
+   * The default header of the API key, the default header of {@link APIKeyHandler}
+   */
+  String DEFAULT_API_KEY_HEADER = "X-API-KEY";
+
+  /**
+   * Create a handler allowing bursts of {@code limit} requests.
+   *
+   * @param limit  the number of requests allowed per period
+   * @param period the period in ms
+   * @return the handler
+   */
+  static RateLimitHandler create(long limit, long period) {
+    return new RateLimitHandlerImpl(limit, period);
+  }
+
+  /**
+   * Set the size of the bursts of requests, by default the limit.
+   *
+   * @param burst the number of requests that can be admitted at once
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  RateLimitHandler setBurst(long burst);
+
+  /**
+   * Limit the requests per remote address, the default.
+   *
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  RateLimitHandler keyByRemoteAddress();
+
+  /**
+   * Limit the requests per user subject, the requests without user are limited per remote address.
+   *
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  RateLimitHandler keyByUser();
+
+  /**
+   * Limit the requests made with an API key found in a header per authenticated key owner, the other requests are
+   * limited per remote address. As the header itself is not trusted, the handler must be added to a route after the
+   * route of the {@link APIKeyHandler}, unauthenticated requests are limited per remote address.
+   *
+   * @param headerName the name of the header, e.g. {@link #DEFAULT_API_KEY_HEADER}
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  RateLimitHandler keyByApiKey(String headerName);
+
+  /**
+   * Limit the requests per custom key, the requests without key ({@code null}) are limited per remote address.
+   *
+   * @param keyFunction the function returning the key of a request
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  RateLimitHandler keyBy(Function<RoutingContext, String> keyFunction);
+
+  /**
+   * Set the maximum number of keys kept in memory.
+   *
+   * @param maxKeys the maximum number of keys
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  RateLimitHandler setMaxKeys(int maxKeys);
+
+  /**
+   * Set whether the admitted requests get the {@code RateLimit-*} headers, true by default.
+   *
+   * @param headers whether to add the headers
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  RateLimitHandler setHeaders(boolean headers);
+
+  /**
+   * Share the quotas with the other handlers using the same store and name.
+   *
+   * @param name  the name of the rate limit in the store
+   * @param store the store
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  RateLimitHandler store(String name, RateLimitStore store);
+
+  /**
+   * Set the interval between two synchronizations with the store.
+   *
+   * @param syncInterval the interval in ms
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  RateLimitHandler setSyncInterval(long syncInterval);
+}
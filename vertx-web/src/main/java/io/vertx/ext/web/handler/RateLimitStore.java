@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.ext.web.handler;
+
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.ext.web.handler.impl.LocalRateLimitStore;
+
+import java.util.Map;
+
+/**
+ * A store of rate limit quotas shared by several {@link RateLimitHandler}, typically the handlers of several nodes.
+ * <p>
+ * The handlers decide locally and periodically report the requests they admitted, the store returns the requests
+ * admitted by all the handlers so each handler can charge its local buckets with the requests admitted elsewhere.
+ * Quotas are counted per fixed window of the rate limit period.
+ * <p>
+ * Implementations can be backed by any shared storage, {@link #create(Vertx)} creates a store shared by the handlers
+ * of a Vert.x instance.
+ */
+@VertxGen
+public interface RateLimitStore {
+
+  /**
+   * Create a store local to a Vert.x instance, the handlers of all the verticles of the instance share its quotas.
+   *
+   * @param vertx the Vert.x instance
+   * @return the store
+   */
+  static RateLimitStore create(Vertx vertx) {
+    return new LocalRateLimitStore(vertx);
+  }
+
+  /**
+   * Add the requests admitted by a handler since its last synchronization to the quotas of a window.
+   *
+   * @param name     the name of the rate limit, handlers with the same name share their quotas
+   * @param window   the index of the window, the wall clock time divided by the period of the rate limit
+   * @param admitted the requests admitted per key since the last synchronization
+   * @return the requests admitted in the window by all the handlers, for each key of {@code admitted}
+   */
+  Future<Map<String, Long>> synchronize(String name, long window, Map<String, Long> admitted);
+}
@@ -22,6 +22,9 @@ import io.vertx.ext.web.handler.impl.TimeoutHandlerImpl;
 /**
  * Handler that will timeout requests if the response has not been written after a certain time.
  * Timeout requests will be ended with an HTTP status code `503`.
+ * <p>
+ * Timeouts are checked by a coarse grained timer shared by the requests of an event loop, a request times out after
+ * its timeout, rounded up to the next 100 ms.
  *
  * @author <a href="http://tfox.org">Tim Fox</a>
  */
@@ -13,6 +13,7 @@
 package io.vertx.ext.web.handler.impl;
 
 import io.vertx.core.Future;
+import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.logging.Logger;
 import io.vertx.core.internal.logging.LoggerFactory;
 import io.vertx.ext.auth.User;
@@ -26,9 +27,11 @@ import io.vertx.ext.web.Route;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.AuthorizationHandler;
 import io.vertx.ext.web.handler.HttpException;
+import io.vertx.ext.web.impl.ExpiringCache;
 import io.vertx.ext.web.impl.RoutingContextInternal;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 
 /**
@@ -46,6 +49,10 @@ public class AuthorizationHandlerImpl implements AuthorizationHandler {
   private final Authorization authorization;
   private final Collection<AuthorizationProvider> authorizationProviders;
   private BiConsumer<RoutingContext, AuthorizationContext> variableHandler;
+  // fetched authorizations by provider id and principal
+  private volatile ExpiringCache<String, Set<Authorization>> cache;
+  // cache keys by user subject, to invalidate all the principals of a subject
+  private volatile Map<String, Set<String>> subjects;
 
   public AuthorizationHandlerImpl(Authorization authorization) {
     this.authorization = Objects.requireNonNull(authorization);
@@ -171,7 +178,7 @@ public class AuthorizationHandlerImpl implements AuthorizationHandler {
       AuthorizationProvider provider = providers.next();
       // we haven't fetched authorization from this provider yet
       if (!user.authorizations().contains(provider.getId())) {
-        provider.getAuthorizations(user)
+        fetchAuthorizations(ctx, provider, user)
           .onFailure(err -> {
             LOG.warn("An error occurred getting authorization - providerId: " + provider.getId(), err);
             // note that we don't 'record' the fact that we tried to fetch the authorization provider.
@@ -193,6 +200,97 @@ public class AuthorizationHandlerImpl implements AuthorizationHandler {
     ctx.fail(FORBIDDEN_CODE, FORBIDDEN_EXCEPTION);
   }
 
+  private Future<Void> fetchAuthorizations(RoutingContext ctx, AuthorizationProvider provider, User user) {
+    final ExpiringCache<String, Set<Authorization>> cache = this.cache;
+    if (cache == null) {
+      return provider.getAuthorizations(user);
+    }
+    final String providerId = provider.getId();
+    return cache
+      .get((ContextInternal) ctx.vertx().getOrCreateContext(), cacheKey(providerId, user), key -> {
+        index(cache, user.subject(), key);
+        return provider
+          .getAuthorizations(user)
+          .map(v -> {
+            Set<Authorization> authorizations = user.authorizations().get(providerId);
+            return authorizations == null ? Collections.<Authorization>emptySet() : Collections.unmodifiableSet(new HashSet<>(authorizations));
+          });
+      })
+      .map(authorizations -> {
+        // the fetch may have been performed for another request of the user
+        user.authorizations().put(providerId, new HashSet<>(authorizations));
+        return null;
+      });
+  }
+
+  /**
+   * The authorizations can be derived from the claims of a token, they are cached per principal and not per subject.
+   */
+  private static String cacheKey(String providerId, User user) {
+    return providerId + '\n' + user.principal().encode();
+  }
+
+  private void index(ExpiringCache<String, Set<Authorization>> cache, String subject, String key) {
+    final Map<String, Set<String>> subjects = this.subjects;
+    if (subject == null || subjects == null) {
+      return;
+    }
+    subjects.computeIfAbsent(subject, k -> ConcurrentHashMap.newKeySet()).add(key);
+    if (subjects.size() > 2 * cache.maxSize()) {
+      // drop the keys evicted from the cache, at most the cached keys remain so this runs every maxSize new subjects
+      subjects.values().removeIf(keys -> {
+        keys.removeIf(k -> !cache.contains(k));
+        return keys.isEmpty();
+      });
+    }
+  }
+
+  @Override
+  public AuthorizationHandler authorizationCache(int maxSize, long ttl) {
+    if (ttl <= 0) {
+      throw new IllegalArgumentException("ttl must be > 0");
+    }
+    this.subjects = new ConcurrentHashMap<>();
+    this.cache = new ExpiringCache<>(maxSize, authorizations -> ttl);
+    return this;
+  }
+
+  @Override
+  public AuthorizationHandler invalidateAuthorizations(User user) {
+    Objects.requireNonNull(user);
+    final ExpiringCache<String, Set<Authorization>> cache = this.cache;
+    if (cache != null) {
+      for (AuthorizationProvider provider : authorizationProviders) {
+        cache.invalidate(cacheKey(provider.getId(), user));
+      }
+    }
+    return this;
+  }
+
+  @Override
+  public AuthorizationHandler invalidateAuthorizations(String subject) {
+    Objects.requireNonNull(subject);
+    final ExpiringCache<String, Set<Authorization>> cache = this.cache;
+    final Map<String, Set<String>> subjects = this.subjects;
+    if (cache != null && subjects != null) {
+      Set<String> keys = subjects.remove(subject);
+      if (keys != null) {
+        keys.forEach(cache::invalidate);
+      }
+    }
+    return this;
+  }
+
+  @Override
+  public AuthorizationHandler invalidateAuthorizations() {
+    final ExpiringCache<String, Set<Authorization>> cache = this.cache;
+    if (cache != null) {
+      cache.invalidateAll();
+      subjects.clear();
+    }
+    return this;
+  }
+
   @Override
   public AuthorizationHandler addAuthorizationProvider(AuthorizationProvider authorizationProvider) {
     Objects.requireNonNull(authorizationProvider);
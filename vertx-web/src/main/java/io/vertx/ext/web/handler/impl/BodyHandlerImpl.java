@@ -20,15 +20,19 @@ import io.netty.handler.codec.DecoderException;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import io.vertx.core.Promise;
 import io.vertx.core.VertxException;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.FileSystem;
 import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerFileUpload;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.http.HttpVersion;
+import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.logging.Logger;
 import io.vertx.core.internal.logging.LoggerFactory;
+import io.vertx.core.streams.WriteStream;
 import io.vertx.ext.web.FileUpload;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.BodyHandler;
@@ -36,9 +40,11 @@ import io.vertx.ext.web.impl.FileUploadImpl;
 import io.vertx.ext.web.impl.RoutingContextInternal;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 /**
  * @author <a href="http://tfox.org">Tim Fox</a>
@@ -53,7 +59,10 @@ public class BodyHandlerImpl implements BodyHandler {
   private boolean mergeFormAttributes = DEFAULT_MERGE_FORM_ATTRIBUTES;
   private boolean deleteUploadedFilesOnEnd = DEFAULT_DELETE_UPLOADED_FILES_ON_END;
   private boolean isPreallocateBodyBuffer = DEFAULT_PREALLOCATE_BODY_BUFFER;
-  private static final int DEFAULT_INITIAL_BODY_BUFFER_SIZE = 1024; //bytes
+  private Function<HttpServerFileUpload, Future<WriteStream<Buffer>>> uploadStreamHandler;
+  private long uploadPartLimit = DEFAULT_UPLOAD_PART_LIMIT;
+  // created once per uploads directory, reset when the creation fails
+  private volatile Future<Void> uploadsDirReady;
 
 
   public BodyHandlerImpl() {
@@ -160,6 +169,7 @@ public class BodyHandlerImpl implements BodyHandler {
   @Override
   public BodyHandler setUploadsDirectory(String uploadsDirectory) {
     this.uploadsDir = uploadsDirectory;
+    this.uploadsDirReady = null;
     return this;
   }
 
@@ -181,6 +191,48 @@ public class BodyHandlerImpl implements BodyHandler {
     return this;
   }
 
+  @Override
+  public BodyHandler setUploadStreamHandler(Function<HttpServerFileUpload, Future<WriteStream<Buffer>>> uploadStreamHandler) {
+    this.uploadStreamHandler = uploadStreamHandler;
+    return this;
+  }
+
+  @Override
+  public BodyHandler setUploadPartLimit(long uploadPartLimit) {
+    this.uploadPartLimit = uploadPartLimit;
+    return this;
+  }
+
+  /**
+   * The uploads directory is created asynchronously, once.
+   */
+  private Future<Void> uploadsDirReady(RoutingContext context) {
+    Future<Void> ready = uploadsDirReady;
+    if (ready == null) {
+      synchronized (this) {
+        ready = uploadsDirReady;
+        if (ready == null) {
+          FileSystem fs = context.vertx().fileSystem();
+          String dir = uploadsDir;
+          Promise<Void> promise = Promise.promise();
+          ready = promise.future();
+          uploadsDirReady = ready;
+          fs.exists(dir)
+            .compose(exists -> exists ? Future.<Void>succeededFuture() : fs.mkdirs(dir))
+            .onComplete(promise);
+          ready.onFailure(err -> {
+            synchronized (this) {
+              if (uploadsDirReady == promise.future()) {
+                uploadsDirReady = null;
+              }
+            }
+          });
+        }
+      }
+    }
+    return ready;
+  }
+
   private long parseContentLengthHeader(HttpServerRequest request) {
     String contentLength = request.getHeader(HttpHeaders.CONTENT_LENGTH);
     if (contentLength == null || contentLength.isEmpty()) {
@@ -195,17 +247,19 @@ public class BodyHandlerImpl implements BodyHandler {
   }
 
   private class BHandler implements Handler<Buffer> {
-    private static final int MAX_PREALLOCATED_BODY_BUFFER_BYTES = 65535;
 
     final RoutingContext context;
     final long contentLength;
-    Buffer body;
+    // the chunks are assembled once, to the exact size, when the body is read
+    List<Buffer> body;
     boolean failed;
     final AtomicInteger uploadCount = new AtomicInteger();
     boolean ended;
     long uploadSize = 0L;
     final boolean isMultipart;
     final boolean isUrlEncoded;
+    // the uploads being streamed to their destination
+    List<StreamedUpload> streamedUploads;
 
     public BHandler(RoutingContext context, long contentLength) {
       this.context = context;
@@ -214,7 +268,7 @@ public class BodyHandlerImpl implements BodyHandler {
       // be a body, so we respect the client and ensure
       // that the body will not be null
       if (contentLength != -1) {
-        initBodyBuffer();
+        body = new ArrayList<>();
       }
 
       List<FileUpload> fileUploads = context.fileUploads();
@@ -231,35 +285,64 @@ public class BodyHandlerImpl implements BodyHandler {
 
       if (isMultipart || isUrlEncoded) {
         context.request().setExpectMultipart(true);
-        if (handleFileUploads) {
-          makeUploadDir(context.vertx().fileSystem());
-        }
+        final Function<HttpServerFileUpload, Future<WriteStream<Buffer>>> streamHandler = uploadStreamHandler;
+        final Future<Void> dirReady = handleFileUploads && streamHandler == null ? uploadsDirReady(context) : null;
         context.request().uploadHandler(upload -> {
           if (bodyLimit != -1 && upload.isSizeAvailable()) {
             // we can try to abort even before the upload starts
             long size = uploadSize + upload.size();
             if (size > bodyLimit) {
-              failed = true;
-              context.cancelAndCleanupFileUploads();
-              context.fail(413);
+              uploadFailed(413, null);
               return;
             }
           }
-          if (handleFileUploads) {
+          if (streamHandler != null) {
+            if (uploadPartLimit != -1 && upload.isSizeAvailable() && upload.size() > uploadPartLimit) {
+              uploadFailed(413, null);
+              return;
+            }
+            uploadCount.incrementAndGet();
+            // don't lose any content while the destination is created
+            upload.pause();
+            Future<WriteStream<Buffer>> destination;
+            try {
+              destination = streamHandler.apply(upload);
+            } catch (RuntimeException e) {
+              destination = Future.failedFuture(e);
+            }
+            destination.onComplete(ar -> {
+              if (ar.succeeded()) {
+                if (failed) {
+                  // the request failed while the destination was created
+                  ar.result().end();
+                  return;
+                }
+                streamUpload(upload, ar.result());
+              } else {
+                uploadFailed(500, ar.cause());
+              }
+            });
+          } else if (handleFileUploads) {
             // we actually upload to a file with a generated filename
             uploadCount.incrementAndGet();
             String uploadedFileName = new File(uploadsDir, UUID.randomUUID().toString()).getPath();
             FileUploadImpl fileUpload = new FileUploadImpl(context.vertx().fileSystem(), uploadedFileName, upload);
             fileUploads.add(fileUpload);
-            Future<Void> fut = upload.streamToFileSystem(uploadedFileName);
-            fut.onComplete(ar -> {
-              if (fut.succeeded()) {
-                uploadEnded();
-              } else {
-                context.cancelAndCleanupFileUploads();
-                context.fail(ar.cause());
-              }
-            });
+            if (dirReady.succeeded()) {
+              streamToFileSystem(upload, uploadedFileName);
+            } else {
+              // first uploads, the directory is still being created
+              upload.pause();
+              Promise<Void> promise = ((ContextInternal) context.vertx().getOrCreateContext()).promise();
+              dirReady.onComplete(promise);
+              promise.future().onComplete(ar -> {
+                if (ar.succeeded()) {
+                  streamToFileSystem(upload, uploadedFileName);
+                } else {
+                  uploadFailed(500, ar.cause());
+                }
+              });
+            }
           }
         });
       }
@@ -278,26 +361,71 @@ public class BodyHandlerImpl implements BodyHandler {
       });
     }
 
-    private void initBodyBuffer() {
-      int initialBodyBufferSize;
-      if (contentLength < 0) {
-        initialBodyBufferSize = DEFAULT_INITIAL_BODY_BUFFER_SIZE;
-      } else if (contentLength > MAX_PREALLOCATED_BODY_BUFFER_BYTES) {
-        initialBodyBufferSize = MAX_PREALLOCATED_BODY_BUFFER_BYTES;
-      } else {
-        initialBodyBufferSize = (int) contentLength;
-      }
+    private void streamToFileSystem(HttpServerFileUpload upload, String uploadedFileName) {
+      upload.streamToFileSystem(uploadedFileName).onComplete(ar -> {
+        if (ar.succeeded()) {
+          uploadEnded();
+        } else {
+          context.cancelAndCleanupFileUploads();
+          context.fail(ar.cause());
+        }
+      });
+    }
 
-      if (bodyLimit != -1) {
-        initialBodyBufferSize = (int) Math.min(initialBodyBufferSize, bodyLimit);
+    private void streamUpload(HttpServerFileUpload upload, WriteStream<Buffer> destination) {
+      StreamedUpload streamed = new StreamedUpload(upload, destination);
+      if (streamedUploads == null) {
+        streamedUploads = new ArrayList<>();
       }
-
-      this.body = Buffer.buffer(initialBodyBufferSize);
+      streamedUploads.add(streamed);
+      upload.handler(buff -> {
+        if (failed) {
+          return;
+        }
+        streamed.size += buff.length();
+        if (uploadPartLimit != -1 && streamed.size > uploadPartLimit) {
+          uploadFailed(413, null);
+          return;
+        }
+        destination.write(buff);
+        if (destination.writeQueueFull()) {
+          upload.pause();
+          destination.drainHandler(v -> upload.resume());
+        }
+      });
+      upload.exceptionHandler(err -> uploadFailed(500, err));
+      upload.endHandler(v -> {
+        if (failed) {
+          return;
+        }
+        streamedUploads.remove(streamed);
+        destination.end().onComplete(ar -> {
+          if (ar.succeeded()) {
+            uploadEnded();
+          } else {
+            uploadFailed(500, ar.cause());
+          }
+        });
+      });
+      upload.resume();
     }
 
-    private void makeUploadDir(FileSystem fileSystem) {
-      if (!fileSystem.existsBlocking(uploadsDir)) {
-        fileSystem.mkdirsBlocking(uploadsDir);
+    private void uploadFailed(int status, Throwable cause) {
+      if (failed) {
+        return;
+      }
+      failed = true;
+      if (streamedUploads != null) {
+        for (StreamedUpload streamed : streamedUploads) {
+          streamed.abort();
+        }
+        streamedUploads = null;
+      }
+      context.cancelAndCleanupFileUploads();
+      if (cause == null) {
+        context.fail(status);
+      } else {
+        context.fail(status, cause);
       }
     }
 
@@ -308,18 +436,16 @@ public class BodyHandlerImpl implements BodyHandler {
       }
       uploadSize += buff.length();
       if (bodyLimit != -1 && uploadSize > bodyLimit) {
-        failed = true;
-        context.cancelAndCleanupFileUploads();
-        context.fail(413);
+        uploadFailed(413, null);
       } else {
         // multipart requests will not end up in the request body
         // url encoded should also not, however jQuery by default
         // post in urlencoded even if the payload is something else
         if (!isMultipart /* && !isUrlEncoded */) {
           if (body == null) {
-            initBodyBuffer();
+            body = new ArrayList<>();
           }
-          body.appendBuffer(buff);
+          body.add(buff);
         }
       }
     }
@@ -365,4 +491,26 @@ public class BodyHandlerImpl implements BodyHandler {
       context.next();
     }
   }
+
+  private static final class StreamedUpload {
+
+    final HttpServerFileUpload upload;
+    final WriteStream<Buffer> destination;
+    long size;
+
+    StreamedUpload(HttpServerFileUpload upload, WriteStream<Buffer> destination) {
+      this.upload = upload;
+      this.destination = destination;
+    }
+
+    void abort() {
+      // discard the rest of the upload, don't leave the request paused
+      upload.handler(null);
+      upload.endHandler(null);
+      upload.exceptionHandler(null);
+      upload.resume();
+      destination.drainHandler(null);
+      destination.end();
+    }
+  }
 }
@@ -53,6 +53,7 @@ public class CSRFHandlerImpl implements CSRFHandler {
   private Origin origin;
   private boolean httpOnly;
   private boolean cookieSecure;
+  private boolean stateless;
 
   public CSRFHandlerImpl(final Vertx vertx, final String secret) {
     random = VertxContextPRNG.current(vertx);
@@ -101,6 +102,12 @@ public class CSRFHandlerImpl implements CSRFHandler {
     return this;
   }
 
+  @Override
+  public CSRFHandler setStateless(boolean stateless) {
+    this.stateless = stateless;
+    return this;
+  }
+
   @Override
   public CSRFHandler setNagHttps(boolean nag) {
     this.nagHttps = nag;
@@ -113,9 +120,14 @@ public class CSRFHandlerImpl implements CSRFHandler {
 
     String saltPlusToken = Utils.base64UrlEncode(salt) + "." + System.currentTimeMillis();
 
+    Session session = ctx.session();
+    if (stateless) {
+      // the signature binds the session id, so nothing needs to be stored
+      return saltPlusToken + "." + signature.signature(saltPlusToken + "." + sessionId(session));
+    }
+
     final String token = signature.sign(saltPlusToken);
 
-    Session session = ctx.session();
     if (session != null) {
       // storing will include the session id too. The reason is that if a session is upgraded
       // we don't want to allow the token to be valid anymore
@@ -153,18 +165,49 @@ public class CSRFHandlerImpl implements CSRFHandler {
     return s == null || s.trim().isEmpty();
   }
 
-  private static long parseLong(String s) {
-    if (isBlank(s)) {
-      return -1;
+  private static String sessionId(Session session) {
+    if (session == null || session.id() == null) {
+      return "";
     }
+    return session.id();
+  }
 
-    try {
-      return Long.parseLong(s);
-    } catch (NumberFormatException e) {
-      LOG.trace("Invalid Token format", e);
-      // fallback as the token is expired
+  /**
+   * Parse the timestamp of a {@code salt.timestamp.signature} token.
+   *
+   * @param token the token
+   * @return the timestamp, or -1 when the token is malformed
+   */
+  private static long timestamp(String token) {
+    int start = token.indexOf('.');
+    int end = start == -1 ? -1 : token.indexOf('.', start + 1);
+    // exactly 3 parts and a timestamp that cannot overflow
+    if (end == -1 || end == start + 1 || end - start > 19 || token.indexOf('.', end + 1) != -1) {
+      LOG.trace("Invalid Token format");
       return -1;
     }
+    long ts = 0;
+    for (int i = start + 1; i < end; i++) {
+      char c = token.charAt(i);
+      if (c < '0' || c > '9') {
+        LOG.trace("Invalid Token format");
+        return -1;
+      }
+      ts = ts * 10 + (c - '0');
+    }
+    return ts;
+  }
+
+  /**
+   * Verify the signature of a stateless token, it must have been issued for the current session.
+   */
+  private boolean verifyStateless(RoutingContext ctx, String token) {
+    int idx = token.lastIndexOf('.');
+    return idx != -1 && signature.verify(token.substring(0, idx) + "." + sessionId(ctx.session()), token.substring(idx + 1));
+  }
+
+  private boolean isExpired(long ts) {
+    return ts == -1 || System.currentTimeMillis() > ts + timeout;
   }
 
   @Override
@@ -212,6 +255,19 @@ public class CSRFHandlerImpl implements CSRFHandler {
   }
 
   private void handleSafeMethod(RoutingContext ctx) {
+    if (stateless) {
+      // reuse the token of the client while it is valid, there is nothing to look up
+      Cookie cookie = ctx.request().getCookie(cookieName);
+      String cookieToken = cookie == null ? null : cookie.getValue();
+      if (cookieToken != null && !isExpired(timestamp(cookieToken)) && verifyStateless(ctx, cookieToken)) {
+        synchronizeWithClient(ctx, cookieToken, false);
+      } else {
+        synchronizeWithClient(ctx, generateAndStoreToken(ctx), true);
+      }
+      ctx.next();
+      return;
+    }
+
     boolean sendCookie = true;
     Session session = ctx.session();
     String token;
@@ -228,8 +284,7 @@ public class CSRFHandlerImpl implements CSRFHandler {
       if (sessionToken == null) {
         token = generateAndStoreToken(ctx);
       } else {
-        String[] parts = sessionToken.split("\\.");
-        final long ts = parseLong(parts[1]);
+        final long ts = timestamp(sessionToken);
 
         if (ts == -1) {
           // fallback as the token is expired
@@ -294,6 +349,21 @@ public class CSRFHandlerImpl implements CSRFHandler {
       return;
     }
 
+    if (stateless) {
+      if (!verifyStateless(ctx, header)) {
+        ctx.fail(403, new IllegalArgumentException("Token signature does not match"));
+        return;
+      }
+      if (isExpired(timestamp(header))) {
+        ctx.fail(403, new IllegalArgumentException("CSRF validity expired"));
+        return;
+      }
+      // the token stays valid until it expires, there is no session state to refresh
+      ctx.put(headerName, header);
+      ctx.next();
+      return;
+    }
+
     final Session session = ctx.session();
 
     if (session != null) {
@@ -328,16 +398,7 @@ public class CSRFHandlerImpl implements CSRFHandler {
     // provided the user is authenticated.
     // We cannot simply remove it before these checks as this will invalidate the token even if the response is never
     // written, requiring the user to GET another token even though the previous was valid
-    String[] tokens = header.split("\\.");
-    if (tokens.length != 3) {
-      if (session != null) {
-        session.remove(headerName);
-      }
-      ctx.fail(403);
-      return;
-    }
-
-    final long ts = parseLong(tokens[1]);
+    final long ts = timestamp(header);
 
     if (ts == -1) {
       if (session != null) {
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.ext.web.handler.impl;
+
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.handler.ConcurrencyLimitHandler;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The limit of each event loop follows a gradient algorithm: once per sample window, the minimum latency of the
+ * window is compared to the long term latency. When the latency grows the limit shrinks in proportion, otherwise the
+ * limit grows by its square root, as long as the requests actually use it. Overload responses ({@code 503} and
+ * {@code 504}) cut the limit multiplicatively, like AIMD.
+ */
+public class ConcurrencyLimitHandlerImpl implements ConcurrencyLimitHandler {
+
+  private static final long WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+  private static final int MIN_WINDOW_SAMPLES = 10;
+  // latency increase tolerated before shrinking the limit
+  private static final double TOLERANCE = 1.5;
+  private static final double SMOOTHING = 0.2;
+  private static final double BACKOFF = 0.9;
+
+  private final String admittedKey = "__vertx.concurrencyLimit." + System.identityHashCode(this);
+  private final Map<Object, Stripe> stripes = new ConcurrentHashMap<>();
+  private final int initialLimit;
+  private int minLimit = DEFAULT_MIN_LIMIT;
+  private int maxLimit = DEFAULT_MAX_LIMIT;
+  private boolean adaptive = true;
+  private String retryAfter = String.valueOf(DEFAULT_RETRY_AFTER);
+
+  public ConcurrencyLimitHandlerImpl(int initialLimit) {
+    if (initialLimit < 1) {
+      throw new IllegalArgumentException("initialLimit must be >= 1");
+    }
+    this.initialLimit = initialLimit;
+  }
+
+  @Override
+  public ConcurrencyLimitHandler setMinLimit(int minLimit) {
+    if (minLimit < 1) {
+      throw new IllegalArgumentException("minLimit must be >= 1");
+    }
+    this.minLimit = minLimit;
+    return this;
+  }
+
+  @Override
+  public ConcurrencyLimitHandler setMaxLimit(int maxLimit) {
+    if (maxLimit < 1) {
+      throw new IllegalArgumentException("maxLimit must be >= 1");
+    }
+    this.maxLimit = maxLimit;
+    return this;
+  }
+
+  @Override
+  public ConcurrencyLimitHandler setAdaptive(boolean adaptive) {
+    this.adaptive = adaptive;
+    return this;
+  }
+
+  @Override
+  public ConcurrencyLimitHandler setRetryAfter(long seconds) {
+    this.retryAfter = String.valueOf(seconds);
+    return this;
+  }
+
+  @Override
+  public int limit() {
+    if (stripes.isEmpty()) {
+      return initialLimit;
+    }
+    int limit = 0;
+    for (Stripe stripe : stripes.values()) {
+      limit += (int) stripe.limit;
+    }
+    return limit;
+  }
+
+  @Override
+  public int inFlight() {
+    int inFlight = 0;
+    for (Stripe stripe : stripes.values()) {
+      inFlight += stripe.inFlight.get();
+    }
+    return inFlight;
+  }
+
+  @Override
+  public void handle(RoutingContext ctx) {
+    if (ctx.get(admittedKey) != null) {
+      // rerouted request, already admitted
+      ctx.next();
+      return;
+    }
+    Stripe stripe = stripe((ContextInternal) ctx.vertx().getOrCreateContext());
+    if (!stripe.tryAcquire()) {
+      ctx.response().putHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+      ctx.fail(503);
+      return;
+    }
+    ctx.put(admittedKey, Boolean.TRUE);
+    long start = System.nanoTime();
+    ctx.addEndHandler(ar -> {
+      int status = ctx.response().getStatusCode();
+      stripe.release(System.nanoTime() - start, status == 503 || status == 504);
+    });
+    ctx.next();
+  }
+
+  private Stripe stripe(ContextInternal context) {
+    Object key = context.nettyEventLoop();
+    Stripe stripe = stripes.get(key);
+    if (stripe == null) {
+      stripe = stripes.computeIfAbsent(key, k -> new Stripe(Math.min(Math.max(initialLimit, minLimit), maxLimit)));
+    }
+    return stripe;
+  }
+
+  /**
+   * The limiter of an event loop, only the in flight counter is updated on every request.
+   */
+  private final class Stripe {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    // the current window, guarded by this
+    private long windowStart = System.nanoTime();
+    private long windowMinRtt = Long.MAX_VALUE;
+    private int windowSamples;
+    private int windowMaxInFlight;
+    private boolean windowOverloaded;
+    private double longRtt;
+
+    Stripe(int limit) {
+      this.limit = limit;
+    }
+
+    boolean tryAcquire() {
+      int limit = (int) this.limit;
+      for (;;) {
+        int current = inFlight.get();
+        if (current >= limit) {
+          return false;
+        }
+        if (inFlight.compareAndSet(current, current + 1)) {
+          return true;
+        }
+      }
+    }
+
+    void release(long rtt, boolean overloaded) {
+      int current = inFlight.getAndDecrement();
+      if (adaptive) {
+        sample(rtt, current, overloaded);
+      }
+    }
+
+    private synchronized void sample(long rtt, int inFlight, boolean overloaded) {
+      windowMinRtt = Math.min(windowMinRtt, rtt);
+      windowMaxInFlight = Math.max(windowMaxInFlight, inFlight);
+      windowOverloaded |= overloaded;
+      windowSamples++;
+      long now = System.nanoTime();
+      if (now - windowStart >= WINDOW_NANOS && windowSamples >= MIN_WINDOW_SAMPLES) {
+        update();
+        windowStart = now;
+        windowMinRtt = Long.MAX_VALUE;
+        windowSamples = 0;
+        windowMaxInFlight = 0;
+        windowOverloaded = false;
+      }
+    }
+
+    private void update() {
+      double limit = this.limit;
+      double shortRtt = Math.max(windowMinRtt, 1);
+      // the long term latency follows slowly, so a latency increase shows as a gradient below 1
+      longRtt = longRtt == 0 ? shortRtt : longRtt * 0.95 + shortRtt * 0.05;
+      double newLimit;
+      if (windowOverloaded) {
+        newLimit = limit * BACKOFF;
+      } else {
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRtt / shortRtt));
+        newLimit = limit * gradient;
+        // only grow a limit the requests actually reach
+        if (gradient == 1.0 && windowMaxInFlight * 2 >= limit) {
+          newLimit += Math.sqrt(limit);
+        }
+        newLimit = limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+      }
+      this.limit = Math.min(Math.max(newLimit, minLimit), maxLimit);
+    }
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.ext.web.handler.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.handler.ConditionalResponseHandler;
+import io.vertx.ext.web.impl.RoutingContextInternal;
+import io.vertx.ext.web.impl.Utils;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_MODIFIED;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+
+/**
+ * The body is hashed with xxHash64 in a single pass over the buffer, the {@code ETag} is the length and the hash of
+ * the body.
+ */
+public class ConditionalResponseHandlerImpl implements ConditionalResponseHandler {
+
+  private static final long PRIME1 = 0x9E3779B185EBCA87L;
+  private static final long PRIME2 = 0xC2B2AE3D27D4EB4FL;
+  private static final long PRIME3 = 0x165667B19E3779F9L;
+  private static final long PRIME4 = 0x85EBCA77C2B2AE63L;
+  private static final long PRIME5 = 0x27D4EB2F165667C5L;
+
+  private Function<RoutingContext, String> versionFunction;
+
+  @Override
+  public ConditionalResponseHandler versionTag(Function<RoutingContext, String> versionFunction) {
+    this.versionFunction = Objects.requireNonNull(versionFunction, "'versionFunction' cannot be null");
+    return this;
+  }
+
+  @Override
+  public void handle(RoutingContext ctx) {
+    HttpMethod method = ctx.request().method();
+    if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+      ctx.next();
+      return;
+    }
+    if (versionFunction != null) {
+      String version = versionFunction.apply(ctx);
+      if (version != null) {
+        ctx.etag(version);
+        if (Utils.fresh(ctx)) {
+          ctx.response().setStatusCode(NOT_MODIFIED.code()).end();
+          return;
+        }
+      }
+    }
+    ((RoutingContextInternal) ctx).setBodyEndFunction(body -> end(ctx, body));
+    ctx.next();
+  }
+
+  private static Future<Void> end(RoutingContext ctx, Buffer body) {
+    HttpServerResponse response = ctx.response();
+    if (response.getStatusCode() != OK.code() || response.headWritten()) {
+      return response.end(body);
+    }
+    if (!response.headers().contains(HttpHeaders.ETAG)) {
+      response.putHeader(HttpHeaders.ETAG, etag(body));
+    }
+    if (Utils.fresh(ctx)) {
+      return response.setStatusCode(NOT_MODIFIED.code()).end();
+    }
+    return response.end(body);
+  }
+
+  static String etag(Buffer body) {
+    return "\"" + Long.toHexString(body.length()) + "-" + Long.toHexString(hash(body)) + "\"";
+  }
+
+  static long hash(Buffer buffer) {
+    int length = buffer.length();
+    int i = 0;
+    long h;
+    if (length >= 32) {
+      long v1 = PRIME1 + PRIME2;
+      long v2 = PRIME2;
+      long v3 = 0;
+      long v4 = -PRIME1;
+      int limit = length - 32;
+      do {
+        v1 = round(v1, buffer.getLongLE(i));
+        v2 = round(v2, buffer.getLongLE(i + 8));
+        v3 = round(v3, buffer.getLongLE(i + 16));
+        v4 = round(v4, buffer.getLongLE(i + 24));
+        i += 32;
+      } while (i <= limit);
+      h = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+      h = merge(h, v1);
+      h = merge(h, v2);
+      h = merge(h, v3);
+      h = merge(h, v4);
+    } else {
+      h = PRIME5;
+    }
+    h += length;
+    for (; i + 8 <= length; i += 8) {
+      h ^= round(0, buffer.getLongLE(i));
+      h = Long.rotateLeft(h, 27) * PRIME1 + PRIME4;
+    }
+    if (i + 4 <= length) {
+      h ^= buffer.getUnsignedIntLE(i) * PRIME1;
+      h = Long.rotateLeft(h, 23) * PRIME2 + PRIME3;
+      i += 4;
+    }
+    for (; i < length; i++) {
+      h ^= buffer.getUnsignedByte(i) * PRIME5;
+      h = Long.rotateLeft(h, 11) * PRIME1;
+    }
+    h ^= h >>> 33;
+    h *= PRIME2;
+    h ^= h >>> 29;
+    h *= PRIME3;
+    h ^= h >>> 32;
+    return h;
+  }
+
+  private static long round(long acc, long input) {
+    acc += input * PRIME2;
+    acc = Long.rotateLeft(acc, 31);
+    return acc * PRIME1;
+  }
+
+  private static long merge(long acc, long value) {
+    acc ^= round(0, value);
+    return acc * PRIME1 + PRIME4;
+  }
+}
@@ -22,12 +22,15 @@ import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.CorsHandler;
+import io.vertx.ext.web.impl.HeaderParser;
 import io.vertx.ext.web.impl.Origin;
 import io.vertx.ext.web.impl.RoutingContextInternal;
 import io.vertx.ext.web.impl.Utils;
 
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.regex.Pattern;
@@ -54,6 +57,11 @@ public class CorsHandlerImpl implements CorsHandler {
   private final Set<String> allowedHeaders = new LinkedHashSet<>();
   private final Set<String> exposedHeaders = new LinkedHashSet<>();
 
+  // origin -> allowed, cleared on configuration changes
+  private final Map<String, Boolean> originDecisions = HeaderParser.newCache();
+  // the preflight headers that don't depend on the request, computed once the configuration is used
+  private PreflightHeaders preflightHeaders;
+
   public CorsHandlerImpl() {
     regexOrigins = null;
     staticOrigins = null;
@@ -69,6 +77,7 @@ public class CorsHandlerImpl implements CorsHandler {
 
   @Override
   public CorsHandler addOrigin(String origin) {
+    configurationChanged();
     Objects.requireNonNull(origin, "'origin' cannot be null");
 
     if (staticOrigins == null) {
@@ -99,6 +108,7 @@ public class CorsHandlerImpl implements CorsHandler {
 
   @Override
   public CorsHandler addOriginWithRegex(String origin) {
+    configurationChanged();
     Objects.requireNonNull(origin, "'origin' cannot be null");
 
     if (regexOrigins == null) {
@@ -128,6 +138,7 @@ public class CorsHandlerImpl implements CorsHandler {
 
   @Override
   public CorsHandler allowedMethod(HttpMethod method) {
+    configurationChanged();
     allowedMethods.add(method.name());
     allowedMethodsString = String.join(",", allowedMethods);
     return this;
@@ -135,6 +146,7 @@ public class CorsHandlerImpl implements CorsHandler {
 
   @Override
   public CorsHandler allowedMethods(Set<HttpMethod> methods) {
+    configurationChanged();
     for (HttpMethod method : methods) {
       allowedMethods.add(method.name());
     }
@@ -144,6 +156,7 @@ public class CorsHandlerImpl implements CorsHandler {
 
   @Override
   public CorsHandler allowedHeader(String headerName) {
+    configurationChanged();
     allowedHeaders.add(headerName);
     allowedHeadersString = String.join(",", allowedHeaders);
     return this;
@@ -151,6 +164,7 @@ public class CorsHandlerImpl implements CorsHandler {
 
   @Override
   public CorsHandler allowedHeaders(Set<String> headerNames) {
+    configurationChanged();
     allowedHeaders.addAll(headerNames);
     allowedHeadersString = String.join(",", allowedHeaders);
     return this;
@@ -172,12 +186,14 @@ public class CorsHandlerImpl implements CorsHandler {
 
   @Override
   public CorsHandler allowCredentials(boolean allow) {
+    configurationChanged();
     this.allowCredentials = allow;
     return this;
   }
 
   @Override
   public CorsHandler maxAgeSeconds(int maxAgeSeconds) {
+    configurationChanged();
     this.maxAgeSeconds = maxAgeSeconds == -1 ? null : String.valueOf(maxAgeSeconds);
     return this;
   }
@@ -188,6 +204,11 @@ public class CorsHandlerImpl implements CorsHandler {
     return this;
   }
 
+  private void configurationChanged() {
+    originDecisions.clear();
+    preflightHeaders = null;
+  }
+
   @Override
   public void handle(RoutingContext context) {
     HttpServerRequest request = context.request();
@@ -206,13 +227,17 @@ public class CorsHandlerImpl implements CorsHandler {
       String accessControlRequestMethod = request.headers().get(ACCESS_CONTROL_REQUEST_METHOD);
       if (request.method() == HttpMethod.OPTIONS && accessControlRequestMethod != null) {
         // Pre-flight request
-        addCredentialsAndOriginHeader(response, origin);
-        if (allowedMethodsString != null) {
-          response.putHeader(ACCESS_CONTROL_ALLOW_METHODS, allowedMethodsString);
+        // Must be exact origin (not '*') in case of credentials
+        response.putHeader(ACCESS_CONTROL_ALLOW_ORIGIN, allowCredentials ? origin : getAllowedOrigin(origin));
+        PreflightHeaders preflight = preflightHeaders;
+        if (preflight == null) {
+          preflight = new PreflightHeaders();
+          preflightHeaders = preflight;
+        }
+        for (int i = 0; i < preflight.names.length; i++) {
+          response.putHeader(preflight.names[i], preflight.values[i]);
         }
-        if (allowedHeadersString != null) {
-          response.putHeader(ACCESS_CONTROL_ALLOW_HEADERS, allowedHeadersString);
-        } else {
+        if (allowedHeadersString == null) {
           if (request.headers().contains(ACCESS_CONTROL_REQUEST_HEADERS)) {
             // echo back the request headers
             response.putHeader(ACCESS_CONTROL_ALLOW_HEADERS, request.getHeader(ACCESS_CONTROL_REQUEST_HEADERS));
@@ -220,15 +245,10 @@ public class CorsHandlerImpl implements CorsHandler {
             Utils.appendToMapIfAbsent(response.headers(), VARY, ",", ACCESS_CONTROL_REQUEST_HEADERS);
           }
         }
-        if (maxAgeSeconds != null) {
-          response.putHeader(ACCESS_CONTROL_MAX_AGE, maxAgeSeconds);
-        }
         if (request.headers().contains(ACCESS_CONTROL_REQUEST_PRIVATE_NETWORK) && allowPrivateNetwork) {
           response.putHeader(ACCESS_CONTROL_ALLOW_PRIVATE_NETWORK, "true");
         }
         response
-          // for old Safari
-          .putHeader(CONTENT_LENGTH, "0")
           .setStatusCode(204)
           .end();
 
@@ -266,6 +286,11 @@ public class CorsHandlerImpl implements CorsHandler {
   }
 
   private boolean isValidOrigin(String origin) {
+    // browsers send a few distinct origins, remember the decisions instead of matching the patterns again
+    return HeaderParser.cached(originDecisions, origin, this::checkOrigin);
+  }
+
+  private boolean checkOrigin(String origin) {
 
     // * means accept all origins
     if (starOrigin()) {
@@ -299,4 +324,39 @@ public class CorsHandlerImpl implements CorsHandler {
     }
     return origin;
   }
+
+  /**
+   * The preflight response headers that only depend on the handler configuration.
+   */
+  private final class PreflightHeaders {
+
+    private final CharSequence[] names;
+    private final CharSequence[] values;
+
+    PreflightHeaders() {
+      List<CharSequence> names = new ArrayList<>();
+      List<CharSequence> values = new ArrayList<>();
+      if (allowCredentials) {
+        names.add(ACCESS_CONTROL_ALLOW_CREDENTIALS);
+        values.add(createOptimized("true"));
+      }
+      if (allowedMethodsString != null) {
+        names.add(ACCESS_CONTROL_ALLOW_METHODS);
+        values.add(createOptimized(allowedMethodsString));
+      }
+      if (allowedHeadersString != null) {
+        names.add(ACCESS_CONTROL_ALLOW_HEADERS);
+        values.add(createOptimized(allowedHeadersString));
+      }
+      if (maxAgeSeconds != null) {
+        names.add(ACCESS_CONTROL_MAX_AGE);
+        values.add(createOptimized(maxAgeSeconds));
+      }
+      // for old Safari
+      names.add(CONTENT_LENGTH);
+      values.add(createOptimized("0"));
+      this.names = names.toArray(new CharSequence[0]);
+      this.values = values.toArray(new CharSequence[0]);
+    }
+  }
 }
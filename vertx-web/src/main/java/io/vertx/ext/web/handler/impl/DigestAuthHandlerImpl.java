@@ -16,9 +16,11 @@
 
 package io.vertx.ext.web.handler.impl;
 
+import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.internal.StringUtil;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.logging.Logger;
 import io.vertx.core.internal.logging.LoggerFactory;
 import io.vertx.core.shareddata.LocalMap;
@@ -34,11 +36,13 @@ import io.vertx.ext.web.Session;
 import io.vertx.ext.web.handler.DigestAuthHandler;
 import io.vertx.ext.web.handler.HttpException;
 import io.vertx.ext.web.impl.RoutingContextInternal;
+import io.vertx.ext.web.impl.TimingWheel;
 
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -55,9 +59,62 @@ public class DigestAuthHandlerImpl extends HTTPAuthorizationHandler<HtdigestAuth
   private static final String DEFAULT_NONCE_MAP_NAME = "htdigest.nonces";
 
   /**
-   * Shareable objects should be immutable.
+   * The nonces of all the handlers of a Vert.x instance, nonces issued by a handler are valid for the other ones.
+   * <p>
+   * The store is striped per event loop: a nonce is stored in the stripe of the event loop that issued it and is
+   * prefixed with the stripe id so any event loop can find it. Each nonce is expired by the timing wheel of its event
+   * loop, so expiring nonces costs a constant time per nonce instead of periodic scans of the whole store.
    */
-  private static class Nonce implements Shareable {
+  private static final class NonceStore implements Shareable {
+
+    private final Map<EventExecutor, Stripe> byEventLoop = new ConcurrentHashMap<>();
+    private final Map<String, Stripe> byId = new ConcurrentHashMap<>();
+    private final AtomicInteger ids = new AtomicInteger();
+
+    static NonceStore get(Vertx vertx) {
+      LocalMap<String, NonceStore> map = vertx.sharedData().getLocalMap(DEFAULT_NONCE_MAP_NAME);
+      NonceStore store = map.get(DEFAULT_NONCE_MAP_NAME);
+      if (store == null) {
+        NonceStore candidate = new NonceStore();
+        store = map.putIfAbsent(DEFAULT_NONCE_MAP_NAME, candidate);
+        if (store == null) {
+          store = candidate;
+        }
+      }
+      return store;
+    }
+
+    Stripe stripe(EventExecutor eventLoop) {
+      return byEventLoop.computeIfAbsent(eventLoop, el -> {
+        Stripe stripe = new Stripe(Integer.toHexString(ids.getAndIncrement()) + '-');
+        byId.put(stripe.prefix, stripe);
+        return stripe;
+      });
+    }
+
+    /**
+     * @return the stripe of a nonce, or {@code null} when the nonce wasn't issued by this store
+     */
+    Stripe stripe(String nonce) {
+      int idx = nonce.indexOf('-');
+      return idx == -1 ? null : byId.get(nonce.substring(0, idx + 1));
+    }
+  }
+
+  private static final class Stripe {
+
+    private final String prefix;
+    private final Map<String, Nonce> nonces = new ConcurrentHashMap<>();
+
+    Stripe(String prefix) {
+      this.prefix = prefix;
+    }
+  }
+
+  /**
+   * Nonces are immutable, the count is updated by replacing the nonce.
+   */
+  private static class Nonce {
     private final long createdAt;
     private final int count;
 
@@ -85,37 +142,19 @@ public class DigestAuthHandlerImpl extends HTTPAuthorizationHandler<HtdigestAuth
   }
 
   private final VertxContextPRNG random;
-  private final LocalMap<String, Nonce> nonces;
+  private final NonceStore nonces;
 
   private final long nonceExpireTimeout;
 
-  private long lastExpireRun;
-
   public DigestAuthHandlerImpl(Vertx vertx, HtdigestAuth authProvider, long nonceExpireTimeout) {
     super(authProvider, Type.DIGEST, authProvider.realm());
     random = VertxContextPRNG.current(vertx);
-    nonces = vertx.sharedData().getLocalMap(DEFAULT_NONCE_MAP_NAME);
+    nonces = NonceStore.get(vertx);
     this.nonceExpireTimeout = nonceExpireTimeout;
   }
 
   @Override
   public Future<User> authenticate(RoutingContext context) {
-    // clean up nonce
-    long now = System.currentTimeMillis();
-    if (now - lastExpireRun > nonceExpireTimeout / 2) {
-      Set<String> toRemove = new HashSet<>();
-      nonces.forEach((String key, Nonce n) -> {
-        if (n != null && n.createdAt + nonceExpireTimeout < now) {
-          toRemove.add(key);
-        }
-      });
-
-      for (String n : toRemove) {
-        nonces.remove(n);
-      }
-      lastExpireRun = now;
-    }
-
     return parseAuthorization(context)
       .compose(header -> {
         final HtdigestCredentials credentials = new HtdigestCredentials();
@@ -174,21 +213,25 @@ public class DigestAuthHandlerImpl extends HTTPAuthorizationHandler<HtdigestAuth
           }
 
           final String nonce = credentials.getNonce();
+          final Stripe stripe = nonce == null ? null : nonces.stripe(nonce);
+          final Nonce n = stripe == null ? null : stripe.nonces.get(nonce);
 
-          // check for expiration
-          if (!nonces.containsKey(nonce)) {
+          // check for expiration, the nonce may not have been removed yet or may come from a handler with another
+          // timeout
+          if (n == null || n.createdAt + nonceExpireTimeout < System.currentTimeMillis()) {
             return Future.failedFuture(UNAUTHORIZED);
           }
 
           // check for nonce counter (prevent replay attack)
           if (credentials.getQop() != null) {
             int nc = Integer.parseInt(credentials.getNc(), 16);
-            final Nonce n = nonces.get(nonce);
             if (nc <= n.count) {
               return Future.failedFuture(UNAUTHORIZED);
             }
-            // update the nounce count
-            nonces.put(nonce, new Nonce(n.createdAt, nc));
+            // update the nounce count, a concurrent request with the same nonce is a replay
+            if (!stripe.nonces.replace(nonce, n, new Nonce(n.createdAt, nc))) {
+              return Future.failedFuture(UNAUTHORIZED);
+            }
           }
 
         } catch (RuntimeException e) {
@@ -222,9 +265,12 @@ public class DigestAuthHandlerImpl extends HTTPAuthorizationHandler<HtdigestAuth
     final byte[] bytes = new byte[32];
     random.nextBytes(bytes);
     // generate nonce
-    String nonce = md5(bytes);
-    // save it
-    nonces.put(nonce, new Nonce(0));
+    final ContextInternal ctx = (ContextInternal) context.vertx().getOrCreateContext();
+    final Stripe stripe = nonces.stripe(ctx.nettyEventLoop());
+    final String nonce = stripe.prefix + md5(bytes);
+    // save it and schedule its expiration
+    stripe.nonces.put(nonce, new Nonce(0));
+    TimingWheel.schedule(ctx, nonceExpireTimeout, v -> stripe.nonces.remove(nonce));
 
     // generate opaque
     String opaque = null;
@@ -18,6 +18,7 @@ package io.vertx.ext.web.handler.impl;
 
 import io.vertx.core.Future;
 import io.vertx.core.VertxException;
+import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.auth.User;
 import io.vertx.ext.auth.audit.Marker;
@@ -27,10 +28,15 @@ import io.vertx.ext.auth.jwt.JWTAuth;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.HttpException;
 import io.vertx.ext.web.handler.JWTAuthHandler;
+import io.vertx.ext.web.impl.ExpiringCache;
 import io.vertx.ext.web.impl.RoutingContextInternal;
 import io.vertx.ext.web.internal.handler.ScopedAuthentication;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -42,13 +48,24 @@ import java.util.stream.Stream;
  */
 public class JWTAuthHandlerImpl extends HTTPAuthorizationHandler<JWTAuth> implements JWTAuthHandler, ScopedAuthentication<JWTAuthHandler> {
 
+  private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("Cannot get instance of SHA-256 MessageDigest", e);
+    }
+  });
+
   private final List<String> scopes;
   private String delimiter;
+  // holder shared with the scoped copies, the cache is enabled after they may have been created
+  private final TokenCache tokenCache;
 
   public JWTAuthHandlerImpl(JWTAuth authProvider, String realm) {
     super(authProvider, Type.BEARER, realm);
     scopes = Collections.emptyList();
     this.delimiter = " ";
+    this.tokenCache = new TokenCache();
   }
 
   private JWTAuthHandlerImpl(JWTAuthHandlerImpl base, List<String> scopes, String delimiter) {
@@ -57,6 +74,7 @@ public class JWTAuthHandlerImpl extends HTTPAuthorizationHandler<JWTAuth> implem
     this.scopes = scopes;
     Objects.requireNonNull(delimiter, "delimiter cannot be null");
     this.delimiter = delimiter;
+    this.tokenCache = base.tokenCache;
   }
 
   @Override
@@ -84,14 +102,77 @@ public class JWTAuthHandlerImpl extends HTTPAuthorizationHandler<JWTAuth> implem
         final SecurityAudit audit = ((RoutingContextInternal) context).securityAudit();
         audit.credentials(credentials);
 
+        final ExpiringCache<String, User> cache = tokenCache.cache;
+        final Future<User> authentication;
+        if (cache == null) {
+          authentication = authProvider.authenticate(credentials);
+        } else {
+          authentication = cache
+            .get((ContextInternal) context.vertx().getOrCreateContext(), digest(token), key -> authProvider.authenticate(credentials))
+            // requests must not share a user, it is mutated by the authorization handlers
+            .map(user -> User.create(user.principal().copy(), user.attributes().copy()));
+        }
+
         return
-          authProvider
-            .authenticate(new TokenCredentials(token))
+          authentication
             .andThen(op -> audit.audit(Marker.AUTHENTICATION, op.succeeded()))
             .recover(err -> Future.failedFuture(new HttpException(401, err)));
       });
   }
 
+  private static String digest(String token) {
+    byte[] hash = SHA256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+    return Base64.getEncoder().encodeToString(hash);
+  }
+
+  /**
+   * @return the time to live of a verified token: the configured ttl bounded by the token expiration
+   */
+  private static long ttl(User user, long maxTtl) {
+    Object exp = user.attributes().getValue("exp");
+    if (exp == null) {
+      exp = user.principal().getValue("exp");
+    }
+    if (exp instanceof Number) {
+      long remaining = ((Number) exp).longValue() * 1000 - System.currentTimeMillis();
+      return Math.min(remaining, maxTtl);
+    }
+    return maxTtl;
+  }
+
+  @Override
+  public JWTAuthHandler tokenCache(int maxSize, long ttl) {
+    if (ttl <= 0) {
+      throw new IllegalArgumentException("ttl must be > 0");
+    }
+    tokenCache.cache = new ExpiringCache<>(maxSize, user -> ttl(user, ttl));
+    return this;
+  }
+
+  @Override
+  public JWTAuthHandler invalidateToken(String token) {
+    ExpiringCache<String, User> cache = tokenCache.cache;
+    if (cache != null) {
+      cache.invalidate(digest(token));
+    }
+    return this;
+  }
+
+  @Override
+  public JWTAuthHandler invalidateTokens() {
+    ExpiringCache<String, User> cache = tokenCache.cache;
+    if (cache != null) {
+      cache.invalidateAll();
+    }
+    return this;
+  }
+
+  @Override
+  public JsonObject tokenCacheMetrics() {
+    ExpiringCache<String, User> cache = tokenCache.cache;
+    return cache == null ? null : cache.metrics();
+  }
+
   @Override
   public JWTAuthHandler withScope(String scope) {
     Objects.requireNonNull(scope, "scope cannot be null");
@@ -160,4 +241,8 @@ public class JWTAuthHandlerImpl extends HTTPAuthorizationHandler<JWTAuth> implem
     }
     ctx.next();
   }
+
+  private static final class TokenCache {
+    private volatile ExpiringCache<String, User> cache;
+  }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.ext.web.handler.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.shareddata.LocalMap;
+import io.vertx.core.shareddata.Shareable;
+import io.vertx.ext.web.handler.RateLimitStore;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link RateLimitStore} backed by a local map, only the current window of each rate limit is kept.
+ */
+public class LocalRateLimitStore implements RateLimitStore {
+
+  private static final String MAP_NAME = "__vertx.web.rateLimits";
+
+  private final Quotas quotas;
+
+  public LocalRateLimitStore(Vertx vertx) {
+    LocalMap<String, Quotas> map = vertx.sharedData().getLocalMap(MAP_NAME);
+    Quotas quotas = map.get(MAP_NAME);
+    if (quotas == null) {
+      Quotas candidate = new Quotas();
+      quotas = map.putIfAbsent(MAP_NAME, candidate);
+      if (quotas == null) {
+        quotas = candidate;
+      }
+    }
+    this.quotas = quotas;
+  }
+
+  @Override
+  public Future<Map<String, Long>> synchronize(String name, long window, Map<String, Long> admitted) {
+    Window current = quotas.windows.compute(name, (n, w) -> w == null || w.index < window ? new Window(window) : w);
+    Map<String, Long> totals = new HashMap<>(admitted.size() * 2);
+    admitted.forEach((key, count) -> {
+      AtomicLong total = current.counts.computeIfAbsent(key, k -> new AtomicLong());
+      totals.put(key, total.addAndGet(count));
+    });
+    return Future.succeededFuture(totals);
+  }
+
+  private static final class Quotas implements Shareable {
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+  }
+
+  private static final class Window {
+
+    private final long index;
+    private final Map<String, AtomicLong> counts = new ConcurrentHashMap<>();
+
+    Window(long index) {
+      this.index = index;
+    }
+  }
+}
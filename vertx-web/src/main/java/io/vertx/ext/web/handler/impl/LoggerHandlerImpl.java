@@ -16,10 +16,13 @@
 
 package io.vertx.ext.web.handler.impl;
 
+import io.netty.channel.EventLoop;
 import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpVersion;
+import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.logging.Logger;
 import io.vertx.core.internal.logging.LoggerFactory;
 import io.vertx.core.net.SocketAddress;
@@ -28,7 +31,13 @@ import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.LoggerFormat;
 import io.vertx.ext.web.handler.LoggerFormatter;
 import io.vertx.ext.web.handler.LoggerHandler;
-import io.vertx.ext.web.impl.Utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /** # Logger
  *
@@ -38,6 +47,8 @@ import io.vertx.ext.web.impl.Utils;
  * 3. SHORT
  * 4. TINY
  *
+ * Besides, CUSTOM delegates to a user formatter and TEMPLATE uses a precompiled Apache like or JSON template.
+ *
  * Default tries to log in a format similar to Apache log format, while the other 2 are more suited to development mode.
  * The logging depends on Vert.x logger settings and the severity of the error, so for errors with status greater or
  * equal to 500 the fatal severity is used, for status greater or equal to 400 the error severity is used, for status
@@ -59,9 +70,20 @@ public class LoggerHandlerImpl implements LoggerHandler {
 
   private LoggerFormatter logFormatter;
 
+  /** the compiled template of the TEMPLATE format
+   */
+  private LoggerTemplate template;
+
+  /** the queue of pending messages, null when logging synchronously
+   */
+  private AsyncLog asyncLog;
+
   public LoggerHandlerImpl(boolean immediate, LoggerFormat format) {
     this.immediate = immediate;
     this.format = format;
+    if (format == LoggerFormat.TEMPLATE) {
+      this.template = LoggerTemplate.text(LoggerTemplate.COMMON);
+    }
   }
 
   public LoggerHandlerImpl(LoggerFormat format) {
@@ -75,7 +97,7 @@ public class LoggerHandlerImpl implements LoggerHandler {
     return inetSocketAddress.host();
   }
 
-  private void log(RoutingContext context, long timestamp, String remoteClient, HttpVersion version, HttpMethod method, String uri) {
+  private void log(RoutingContext context, long timestamp, long start, String remoteClient, HttpVersion version, HttpMethod method, String uri) {
     HttpServerRequest request = context.request();
     long contentLength = 0;
     if (immediate) {
@@ -90,18 +112,7 @@ public class LoggerHandlerImpl implements LoggerHandler {
     } else {
       contentLength  = request.response().bytesWritten();
     }
-    String versionFormatted = "-";
-    switch (version){
-      case HTTP_1_0:
-        versionFormatted = "HTTP/1.0";
-        break;
-      case HTTP_1_1:
-        versionFormatted = "HTTP/1.1";
-        break;
-      case HTTP_2:
-        versionFormatted = "HTTP/2.0";
-        break;
-    }
+    String versionFormatted = LoggerTemplate.protocol(version);
 
     final MultiMap headers = request.headers();
     int status = request.response().getStatusCode();
@@ -117,16 +128,17 @@ public class LoggerHandlerImpl implements LoggerHandler {
         referrer = referrer == null ? "-" : referrer;
         userAgent = userAgent == null ? "-" : userAgent;
 
-        message = String.format("%s - - [%s] \"%s %s %s\" %d %d \"%s\" \"%s\"",
-          remoteClient,
-          Utils.formatRFC1123DateTime(timestamp),
-          method,
-          uri,
-          versionFormatted,
-          status,
-          contentLength,
-          referrer,
-          userAgent);
+        message = new StringBuilder(128)
+          .append(remoteClient).append(" - - [")
+          .append(LoggerTemplate.RFC1123.format(timestamp)).append("] \"")
+          .append(method).append(' ')
+          .append(uri).append(' ')
+          .append(versionFormatted).append("\" ")
+          .append(status).append(' ')
+          .append(contentLength).append(" \"")
+          .append(referrer).append("\" \"")
+          .append(userAgent).append('"')
+          .toString();
         break;
       case COMBINED:
         // as per RFC1945 the header is referer but it is not mandatory some implementations use referrer
@@ -149,35 +161,38 @@ public class LoggerHandlerImpl implements LoggerHandler {
           }
         }
 
-        message = String.format("%s - %s [%s] \"%s %s %s\" %d %d \"%s\" \"%s\"",
-          remoteClient,
-          userId,
-          Utils.formatStrftimeDateTime(timestamp),
-          method,
-          uri,
-          versionFormatted,
-          status,
-          contentLength,
-          referrer,
-          userAgent);
+        message = new StringBuilder(128)
+          .append(remoteClient).append(" - ")
+          .append(userId).append(" [")
+          .append(LoggerTemplate.STRFTIME.format(timestamp)).append("] \"")
+          .append(method).append(' ')
+          .append(uri).append(' ')
+          .append(versionFormatted).append("\" ")
+          .append(status).append(' ')
+          .append(contentLength).append(" \"")
+          .append(referrer).append("\" \"")
+          .append(userAgent).append('"')
+          .toString();
         break;
       case SHORT:
-        message = String.format("%s - %s %s %s %d %d - %d ms",
-          remoteClient,
-          method,
-          uri,
-          versionFormatted,
-          status,
-          contentLength,
-          (System.currentTimeMillis() - timestamp));
+        message = new StringBuilder(64)
+          .append(remoteClient).append(" - ")
+          .append(method).append(' ')
+          .append(uri).append(' ')
+          .append(versionFormatted).append(' ')
+          .append(status).append(' ')
+          .append(contentLength).append(" - ")
+          .append(System.currentTimeMillis() - timestamp).append(" ms")
+          .toString();
         break;
       case TINY:
-        message = String.format("%s %s %d %d - %d ms",
-          method,
-          uri,
-          status,
-          contentLength,
-          (System.currentTimeMillis() - timestamp));
+        message = new StringBuilder(64)
+          .append(method).append(' ')
+          .append(uri).append(' ')
+          .append(status).append(' ')
+          .append(contentLength).append(" - ")
+          .append(System.currentTimeMillis() - timestamp).append(" ms")
+          .toString();
         break;
       case CUSTOM:
         try {
@@ -187,8 +202,15 @@ public class LoggerHandlerImpl implements LoggerHandler {
           // log it instead
           message = e.getMessage();
         }
+        break;
+      case TEMPLATE:
+        message = template.format(context, timestamp, System.nanoTime() - start, contentLength);
+    }
+    if (asyncLog != null) {
+      asyncLog.log(context.vertx(), status, message);
+    } else {
+      doLog(status, message);
     }
-    doLog(status, message);
   }
 
   protected void doLog(int status, String message) {
@@ -205,15 +227,16 @@ public class LoggerHandlerImpl implements LoggerHandler {
   public void handle(RoutingContext context) {
     // common logging data
     long timestamp = System.currentTimeMillis();
+    long start = System.nanoTime();
     String remoteClient = getClientAddress(context.request().remoteAddress());
     HttpMethod method = context.request().method();
     String uri = context.request().uri();
     HttpVersion version = context.request().version();
 
     if (immediate) {
-      log(context, timestamp, remoteClient, version, method, uri);
+      log(context, timestamp, start, remoteClient, version, method, uri);
     } else {
-      context.addEndHandler(v -> log(context, timestamp, remoteClient, version, method, uri));
+      context.addEndHandler(v -> log(context, timestamp, start, remoteClient, version, method, uri));
     }
 
     context.next();
@@ -228,4 +251,166 @@ public class LoggerHandlerImpl implements LoggerHandler {
     this.logFormatter = formatter;
     return this;
   }
+
+  @Override
+  public LoggerHandler template(String template) {
+    if (format != LoggerFormat.TEMPLATE) {
+      throw new IllegalStateException("Setting a template requires the handler to be set to TEMPLATE format");
+    }
+
+    this.template = LoggerTemplate.text(template);
+    return this;
+  }
+
+  @Override
+  public LoggerHandler jsonTemplate(List<String> directives) {
+    if (format != LoggerFormat.TEMPLATE) {
+      throw new IllegalStateException("Setting a template requires the handler to be set to TEMPLATE format");
+    }
+
+    this.template = LoggerTemplate.json(directives);
+    return this;
+  }
+
+  @Override
+  public LoggerHandler setAsync(int queueSize, boolean blockWhenFull) {
+    if (queueSize < 1) {
+      throw new IllegalArgumentException("queueSize must be greater than 0");
+    }
+    this.asyncLog = new AsyncLog(queueSize, blockWhenFull);
+    return this;
+  }
+
+  @Override
+  public long droppedMessages() {
+    AsyncLog asyncLog = this.asyncLog;
+    return asyncLog == null ? 0 : asyncLog.dropped.sum();
+  }
+
+  private static final class Entry {
+    final int status;
+    final String message;
+
+    Entry(int status, String message) {
+      this.status = status;
+      this.message = message;
+    }
+  }
+
+  /**
+   * Per event loop buffers of log messages: a request thread appends to the buffer of its event loop without any
+   * synchronization, a worker writes the buffered messages in a batch while the event loop fills a second pooled buffer,
+   * so the messages of an event loop are logged in order. The event loop never waits, a message is dropped when the
+   * buffer of its event loop is full.
+   */
+  private final class AsyncLog {
+
+    private final Map<EventLoop, LoopBuffer> buffers = new ConcurrentHashMap<>();
+    private final int capacity;
+    private final boolean blockWhenFull;
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicLong reportedDropped = new AtomicLong();
+
+    AsyncLog(int queueSize, boolean blockWhenFull) {
+      this.capacity = queueSize;
+      this.blockWhenFull = blockWhenFull;
+    }
+
+    void log(Vertx vertx, int status, String message) {
+      EventLoop eventLoop = ((ContextInternal) vertx.getOrCreateContext()).nettyEventLoop();
+      if (eventLoop.inEventLoop()) {
+        buffer(vertx, eventLoop).append(status, message);
+      } else if (blockWhenFull) {
+        // a worker thread can wait for the logger
+        write(status, message);
+      } else {
+        eventLoop.execute(() -> buffer(vertx, eventLoop).append(status, message));
+      }
+    }
+
+    private LoopBuffer buffer(Vertx vertx, EventLoop eventLoop) {
+      LoopBuffer buffer = buffers.get(eventLoop);
+      if (buffer == null) {
+        buffer = buffers.computeIfAbsent(eventLoop, l -> new LoopBuffer(vertx));
+      }
+      return buffer;
+    }
+
+    private void write(int status, String message) {
+      try {
+        doLog(status, message);
+      } catch (RuntimeException e) {
+        LOG.error("Failed to log request", e);
+      }
+    }
+
+    private void write(List<Entry> batch) {
+      for (Entry entry : batch) {
+        write(entry.status, entry.message);
+      }
+      long total = dropped.sum();
+      long reported = reportedDropped.get();
+      if (total > reported && reportedDropped.compareAndSet(reported, total)) {
+        LOG.warn((total - reported) + " request log messages dropped, the async logger queue is full");
+      }
+    }
+
+    /**
+     * Only accessed from its event loop.
+     */
+    private final class LoopBuffer {
+
+      private final Vertx vertx;
+      private List<Entry> pending = new ArrayList<>();
+      // the pooled buffer, null while its messages are written
+      private List<Entry> spare = new ArrayList<>();
+
+      LoopBuffer(Vertx vertx) {
+        this.vertx = vertx;
+      }
+
+      void append(int status, String message) {
+        if (pending.size() >= capacity) {
+          dropped.increment();
+          return;
+        }
+        pending.add(new Entry(status, message));
+        if (spare != null) {
+          flush();
+        }
+      }
+
+      private void flush() {
+        List<Entry> batch = pending;
+        pending = spare;
+        spare = null;
+        try {
+          // completed on the context of the event loop
+          vertx.executeBlocking(() -> {
+            write(batch);
+            return null;
+          }, false).onComplete(ar -> {
+            if (ar.failed()) {
+              dropped.add(batch.size());
+              LOG.error("Failed to drain the request log queue", ar.cause());
+            }
+            written(batch);
+          });
+        } catch (RuntimeException e) {
+          // rejected, e.g. on shutdown
+          dropped.add(batch.size());
+          LOG.error("Failed to drain the request log queue", e);
+          written(batch);
+        }
+      }
+
+      private void written(List<Entry> batch) {
+        batch.clear();
+        spare = batch;
+        if (!pending.isEmpty()) {
+          flush();
+        }
+      }
+    }
+  }
 }
@@ -0,0 +1,513 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.ext.web.handler.impl;
+
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.ext.auth.User;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.impl.Utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+/**
+ * A log template compiled once into an array of fields, the fields append their value to a reused builder so
+ * formatting a log message only creates the final string.
+ * <p>
+ * Text templates use the Apache {@code mod_log_config} directives:
+ *
+ * <ul>
+ *   <li>{@code %h} remote host</li>
+ *   <li>{@code %l} remote logname, always {@code -}</li>
+ *   <li>{@code %u} user subject</li>
+ *   <li>{@code %t} time the request was received, in strftime format</li>
+ *   <li>{@code %r} first line of the request</li>
+ *   <li>{@code %m} method</li>
+ *   <li>{@code %U} path</li>
+ *   <li>{@code %q} query string, prefixed with {@code ?}</li>
+ *   <li>{@code %H} protocol</li>
+ *   <li>{@code %s} status, {@code %>s} is accepted too</li>
+ *   <li>{@code %b} response size, {@code -} when empty, {@code bytesCLF} in JSON templates</li>
+ *   <li>{@code %B} response size, {@code bytes} in JSON templates</li>
+ *   <li>{@code %D} time taken to serve the request, in microseconds</li>
+ *   <li>{@code %T} time taken to serve the request, in seconds</li>
+ *   <li>{@code %{name}i} request header</li>
+ *   <li>{@code %{name}o} response header</li>
+ *   <li>{@code %%} a literal {@code %}</li>
+ * </ul>
+ *
+ * JSON templates are a list of the same directives, each one is written as a member of a JSON object.
+ */
+final class LoggerTemplate {
+
+  /**
+   * The Common Log Format.
+   */
+  static final String COMMON = "%h %l %u %t \"%r\" %s %b";
+
+  static final DateCache RFC1123 = new DateCache(Utils::formatRFC1123DateTime);
+  static final DateCache STRFTIME = new DateCache(Utils::formatStrftimeDateTime);
+
+  private static final int MAX_RETAINED_CAPACITY = 8192;
+  private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+  /**
+   * Compile a text template.
+   *
+   * @throws IllegalArgumentException when the template contains an unknown directive
+   */
+  static LoggerTemplate text(String template) {
+    List<Field> fields = new ArrayList<>();
+    StringBuilder literal = new StringBuilder();
+    int len = template.length();
+    int i = 0;
+    while (i < len) {
+      char c = template.charAt(i++);
+      if (c != '%') {
+        literal.append(c);
+        continue;
+      }
+      if (i < len && template.charAt(i) == '%') {
+        literal.append('%');
+        i++;
+        continue;
+      }
+      int start = i - 1;
+      String arg = null;
+      if (i < len && template.charAt(i) == '{') {
+        int end = template.indexOf('}', i);
+        if (end == -1) {
+          throw new IllegalArgumentException("Unterminated directive at index " + start + " of " + template);
+        }
+        arg = template.substring(i + 1, end);
+        i = end + 1;
+      }
+      // final / original request modifiers are meaningless here
+      while (i < len && (template.charAt(i) == '>' || template.charAt(i) == '<')) {
+        i++;
+      }
+      if (i == len) {
+        throw new IllegalArgumentException("Unterminated directive at index " + start + " of " + template);
+      }
+      if (literal.length() > 0) {
+        fields.add(new Literal(literal.toString()));
+        literal.setLength(0);
+      }
+      fields.add(directive(template.charAt(i++), arg, template));
+    }
+    if (literal.length() > 0) {
+      fields.add(new Literal(literal.toString()));
+    }
+    return new LoggerTemplate(fields.toArray(new Field[0]), false);
+  }
+
+  /**
+   * Compile a JSON template, each element is a single directive.
+   *
+   * @throws IllegalArgumentException when an element isn't a known directive
+   */
+  static LoggerTemplate json(List<String> directives) {
+    Field[] fields = new Field[directives.size()];
+    for (int i = 0; i < fields.length; i++) {
+      String directive = directives.get(i);
+      int len = directive.length();
+      if (len < 2 || directive.charAt(0) != '%') {
+        throw new IllegalArgumentException("Invalid directive " + directive);
+      }
+      String arg = null;
+      int idx = 1;
+      if (directive.charAt(1) == '{') {
+        int end = directive.indexOf('}');
+        if (end == -1) {
+          throw new IllegalArgumentException("Invalid directive " + directive);
+        }
+        arg = directive.substring(2, end);
+        idx = end + 1;
+      }
+      while (idx < len && (directive.charAt(idx) == '>' || directive.charAt(idx) == '<')) {
+        idx++;
+      }
+      if (idx != len - 1) {
+        throw new IllegalArgumentException("Invalid directive " + directive);
+      }
+      fields[i] = directive(directive.charAt(idx), arg, directive);
+    }
+    return new LoggerTemplate(fields, true);
+  }
+
+  private static Field directive(char c, String arg, String template) {
+    if (arg != null && c != 'i' && c != 'o') {
+      throw new IllegalArgumentException("Directive %" + c + " doesn't take an argument in " + template);
+    }
+    switch (c) {
+      case 'h':
+        return new StringField("remoteHost", (ctx, timestamp) -> {
+          SocketAddress address = ctx.request().remoteAddress();
+          return address == null ? null : address.host();
+        });
+      case 'l':
+        return new StringField("logname", (ctx, timestamp) -> null);
+      case 'u':
+        return new StringField("user", (ctx, timestamp) -> {
+          User user = ctx.user();
+          return user == null ? null : user.subject();
+        });
+      case 't':
+        return new TimeField();
+      case 'r':
+        return new RequestLineField();
+      case 'm':
+        return new StringField("method", (ctx, timestamp) -> ctx.request().method().name());
+      case 'U':
+        return new StringField("path", (ctx, timestamp) -> ctx.request().path());
+      case 'q':
+        return new QueryField();
+      case 'H':
+        return new StringField("protocol", (ctx, timestamp) -> protocol(ctx.request().version()));
+      case 's':
+        return new LongField("status", false, (ctx, timestamp, durationNanos, contentLength) -> ctx.response().getStatusCode());
+      case 'b':
+        return new LongField("bytesCLF", true, (ctx, timestamp, durationNanos, contentLength) -> contentLength);
+      case 'B':
+        return new LongField("bytes", false, (ctx, timestamp, durationNanos, contentLength) -> contentLength);
+      case 'D':
+        return new LongField("durationMicros", false, (ctx, timestamp, durationNanos, contentLength) -> TimeUnit.NANOSECONDS.toMicros(durationNanos));
+      case 'T':
+        return new LongField("durationSeconds", false, (ctx, timestamp, durationNanos, contentLength) -> TimeUnit.NANOSECONDS.toSeconds(durationNanos));
+      case 'i':
+        if (arg == null) {
+          throw new IllegalArgumentException("Directive %i requires a header name in " + template);
+        }
+        return new StringField(arg, (ctx, timestamp) -> ctx.request().getHeader(arg));
+      case 'o':
+        if (arg == null) {
+          throw new IllegalArgumentException("Directive %o requires a header name in " + template);
+        }
+        return new StringField(arg, (ctx, timestamp) -> ctx.response().headers().get(arg));
+      default:
+        throw new IllegalArgumentException("Unknown directive %" + c + " in " + template);
+    }
+  }
+
+  static String protocol(HttpVersion version) {
+    if (version == null) {
+      return "-";
+    }
+    switch (version) {
+      case HTTP_1_0:
+        return "HTTP/1.0";
+      case HTTP_1_1:
+        return "HTTP/1.1";
+      case HTTP_2:
+        return "HTTP/2.0";
+      default:
+        return "-";
+    }
+  }
+
+  private final Field[] fields;
+  private final boolean json;
+
+  private LoggerTemplate(Field[] fields, boolean json) {
+    this.fields = fields;
+    this.json = json;
+  }
+
+  /**
+   * Format the log message of a request.
+   *
+   * @param context the routing context
+   * @param timestamp the time the request was received
+   * @param durationNanos the time taken to serve the request, in nanoseconds
+   * @param contentLength the size of the request or of the response
+   */
+  String format(RoutingContext context, long timestamp, long durationNanos, long contentLength) {
+    StringBuilder out = BUILDER.get();
+    if (out.capacity() > MAX_RETAINED_CAPACITY) {
+      out = new StringBuilder(256);
+      BUILDER.set(out);
+    }
+    out.setLength(0);
+    if (json) {
+      out.append('{');
+      for (int i = 0; i < fields.length; i++) {
+        if (i > 0) {
+          out.append(',');
+        }
+        Field field = fields[i];
+        out.append('"');
+        appendEscaped(out, field.name());
+        out.append("\":");
+        field.appendJson(out, context, timestamp, durationNanos, contentLength);
+      }
+      out.append('}');
+    } else {
+      for (Field field : fields) {
+        field.appendText(out, context, timestamp, durationNanos, contentLength);
+      }
+    }
+    return out.toString();
+  }
+
+  private static void appendEscaped(StringBuilder out, String s) {
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      switch (c) {
+        case '"':
+          out.append("\\\"");
+          break;
+        case '\\':
+          out.append("\\\\");
+          break;
+        case '\n':
+          out.append("\\n");
+          break;
+        case '\r':
+          out.append("\\r");
+          break;
+        case '\t':
+          out.append("\\t");
+          break;
+        default:
+          if (c < 0x20) {
+            out.append("\\u00");
+            out.append(Character.forDigit(c >> 4, 16));
+            out.append(Character.forDigit(c & 0xF, 16));
+          } else {
+            out.append(c);
+          }
+      }
+    }
+  }
+
+  private static void appendJsonString(StringBuilder out, String s) {
+    if (s == null) {
+      out.append("null");
+    } else {
+      out.append('"');
+      appendEscaped(out, s);
+      out.append('"');
+    }
+  }
+
+  private interface Field {
+
+    String name();
+
+    void appendText(StringBuilder out, RoutingContext context, long timestamp, long durationNanos, long contentLength);
+
+    void appendJson(StringBuilder out, RoutingContext context, long timestamp, long durationNanos, long contentLength);
+  }
+
+  private interface StringValue {
+    String value(RoutingContext context, long timestamp);
+  }
+
+  private interface LongValue {
+    long value(RoutingContext context, long timestamp, long durationNanos, long contentLength);
+  }
+
+  private static final class Literal implements Field {
+
+    private final String text;
+
+    Literal(String text) {
+      this.text = text;
+    }
+
+    @Override
+    public String name() {
+      return null;
+    }
+
+    @Override
+    public void appendText(StringBuilder out, RoutingContext context, long timestamp, long durationNanos, long contentLength) {
+      out.append(text);
+    }
+
+    @Override
+    public void appendJson(StringBuilder out, RoutingContext context, long timestamp, long durationNanos, long contentLength) {
+      appendJsonString(out, text);
+    }
+  }
+
+  private static final class StringField implements Field {
+
+    private final String name;
+    private final StringValue value;
+
+    StringField(String name, StringValue value) {
+      this.name = name;
+      this.value = value;
+    }
+
+    @Override
+    public String name() {
+      return name;
+    }
+
+    @Override
+    public void appendText(StringBuilder out, RoutingContext context, long timestamp, long durationNanos, long contentLength) {
+      String s = value.value(context, timestamp);
+      out.append(s == null ? "-" : s);
+    }
+
+    @Override
+    public void appendJson(StringBuilder out, RoutingContext context, long timestamp, long durationNanos, long contentLength) {
+      appendJsonString(out, value.value(context, timestamp));
+    }
+  }
+
+  private static final class LongField implements Field {
+
+    private final String name;
+    private final boolean dashWhenZero;
+    private final LongValue value;
+
+    LongField(String name, boolean dashWhenZero, LongValue value) {
+      this.name = name;
+      this.dashWhenZero = dashWhenZero;
+      this.value = value;
+    }
+
+    @Override
+    public String name() {
+      return name;
+    }
+
+    @Override
+    public void appendText(StringBuilder out, RoutingContext context, long timestamp, long durationNanos, long contentLength) {
+      long l = value.value(context, timestamp, durationNanos, contentLength);
+      if (l == 0 && dashWhenZero) {
+        out.append('-');
+      } else {
+        out.append(l);
+      }
+    }
+
+    @Override
+    public void appendJson(StringBuilder out, RoutingContext context, long timestamp, long durationNanos, long contentLength) {
+      long l = value.value(context, timestamp, durationNanos, contentLength);
+      if (l == 0 && dashWhenZero) {
+        out.append("null");
+      } else {
+        out.append(l);
+      }
+    }
+  }
+
+  private static final class TimeField implements Field {
+
+    @Override
+    public String name() {
+      return "time";
+    }
+
+    @Override
+    public void appendText(StringBuilder out, RoutingContext context, long timestamp, long durationNanos, long contentLength) {
+      out.append('[').append(STRFTIME.format(timestamp)).append(']');
+    }
+
+    @Override
+    public void appendJson(StringBuilder out, RoutingContext context, long timestamp, long durationNanos, long contentLength) {
+      out.append('"').append(STRFTIME.format(timestamp)).append('"');
+    }
+  }
+
+  private static final class QueryField implements Field {
+
+    @Override
+    public String name() {
+      return "query";
+    }
+
+    @Override
+    public void appendText(StringBuilder out, RoutingContext context, long timestamp, long durationNanos, long contentLength) {
+      String query = context.request().query();
+      if (query != null) {
+        out.append('?').append(query);
+      }
+    }
+
+    @Override
+    public void appendJson(StringBuilder out, RoutingContext context, long timestamp, long durationNanos, long contentLength) {
+      appendJsonString(out, context.request().query());
+    }
+  }
+
+  private static final class RequestLineField implements Field {
+
+    @Override
+    public String name() {
+      return "request";
+    }
+
+    @Override
+    public void appendText(StringBuilder out, RoutingContext context, long timestamp, long durationNanos, long contentLength) {
+      HttpServerRequest request = context.request();
+      out
+        .append(request.method().name())
+        .append(' ')
+        .append(request.uri())
+        .append(' ')
+        .append(protocol(request.version()));
+    }
+
+    @Override
+    public void appendJson(StringBuilder out, RoutingContext context, long timestamp, long durationNanos, long contentLength) {
+      HttpServerRequest request = context.request();
+      out.append('"');
+      appendEscaped(out, request.method().name());
+      out.append(' ');
+      appendEscaped(out, request.uri());
+      out.append(' ').append(protocol(request.version())).append('"');
+    }
+  }
+
+  /**
+   * Caches the formatted date of the last second, log timestamps are formatted to the second and requests logged
+   * in the same second share the same string.
+   */
+  static final class DateCache {
+
+    private final LongFunction<String> formatter;
+    private volatile Cached cached;
+
+    DateCache(LongFunction<String> formatter) {
+      this.formatter = formatter;
+    }
+
+    String format(long time) {
+      long second = Math.floorDiv(time, 1000);
+      Cached c = cached;
+      if (c == null || c.second != second) {
+        c = new Cached(second, formatter.apply(second * 1000));
+        cached = c;
+      }
+      return c.text;
+    }
+
+    private static final class Cached {
+      final long second;
+      final String text;
+
+      Cached(long second, String text) {
+        this.second = second;
+        this.text = text;
+      }
+    }
+  }
+}
@@ -0,0 +1,386 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.ext.web.handler.impl;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.internal.logging.Logger;
+import io.vertx.core.internal.logging.LoggerFactory;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.ext.auth.User;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.handler.RateLimitHandler;
+import io.vertx.ext.web.handler.RateLimitStore;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * The buckets follow the generic cell rate algorithm: a bucket is a single theoretical arrival time, updated with a
+ * compare and set, that moves forward by the emission interval ({@code period / limit}) for each admitted request. A
+ * request is admitted while the arrival time stays within the burst tolerance of the current time, a bucket whose
+ * arrival time is in the past is full and can be evicted without loss.
+ */
+public class RateLimitHandlerImpl implements RateLimitHandler {
+
+  private static final Logger LOG = LoggerFactory.getLogger(RateLimitHandlerImpl.class);
+
+  private static final CharSequence RATELIMIT_LIMIT = HttpHeaders.createOptimized("RateLimit-Limit");
+  private static final CharSequence RATELIMIT_REMAINING = HttpHeaders.createOptimized("RateLimit-Remaining");
+  private static final CharSequence RATELIMIT_RESET = HttpHeaders.createOptimized("RateLimit-Reset");
+  private static final CharSequence RATELIMIT_POLICY = HttpHeaders.createOptimized("RateLimit-Policy");
+
+  private static final int SHARDS = 16;
+  private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+  // a full shard is swept at most once per interval, in between a new key evicts the oldest of a few sampled buckets
+  private static final long SWEEP_INTERVAL = NANOS_PER_SECOND;
+  private static final int EVICTION_SAMPLES = 8;
+
+  private static final Function<RoutingContext, String> REMOTE_ADDRESS = ctx -> null;
+
+  private final long limit;
+  private final long period;
+  private final long interval;
+  private final CharSequence limitHeader;
+  private final CharSequence policyHeader;
+  private final Map<String, Bucket>[] shards;
+  private final AtomicLongArray lastSweeps = new AtomicLongArray(SHARDS);
+  private long burst;
+  private long tolerance;
+  private Function<RoutingContext, String> keyFunction = REMOTE_ADDRESS;
+  private int maxKeysPerShard = Math.max(DEFAULT_MAX_KEYS / SHARDS, 1);
+  private boolean headers = true;
+  private String storeName;
+  private RateLimitStore store;
+  private long syncInterval = DEFAULT_SYNC_INTERVAL;
+  private final AtomicBoolean syncing = new AtomicBoolean();
+
+  @SuppressWarnings("unchecked")
+  public RateLimitHandlerImpl(long limit, long period) {
+    if (limit < 1) {
+      throw new IllegalArgumentException("limit must be >= 1");
+    }
+    if (period < 1) {
+      throw new IllegalArgumentException("period must be >= 1");
+    }
+    this.limit = limit;
+    this.period = period;
+    this.interval = Math.max(TimeUnit.MILLISECONDS.toNanos(period) / limit, 1);
+    this.limitHeader = HttpHeaders.createOptimized(String.valueOf(limit));
+    this.policyHeader = HttpHeaders.createOptimized(limit + ";w=" + Math.max(TimeUnit.MILLISECONDS.toSeconds(period), 1));
+    this.shards = new Map[SHARDS];
+    long now = System.nanoTime();
+    for (int i = 0; i < SHARDS; i++) {
+      shards[i] = new ConcurrentHashMap<>();
+      lastSweeps.set(i, now - SWEEP_INTERVAL);
+    }
+    setBurst(limit);
+  }
+
+  @Override
+  public RateLimitHandler setBurst(long burst) {
+    if (burst < 1) {
+      throw new IllegalArgumentException("burst must be >= 1");
+    }
+    this.burst = burst;
+    this.tolerance = burst * interval;
+    return this;
+  }
+
+  @Override
+  public RateLimitHandler keyByRemoteAddress() {
+    this.keyFunction = REMOTE_ADDRESS;
+    return this;
+  }
+
+  @Override
+  public RateLimitHandler keyByUser() {
+    this.keyFunction = ctx -> {
+      User user = ctx.user();
+      return user != null && user.subject() != null ? "user:" + user.subject() : null;
+    };
+    return this;
+  }
+
+  @Override
+  public RateLimitHandler keyByApiKey(String headerName) {
+    Objects.requireNonNull(headerName, "'headerName' cannot be null");
+    this.keyFunction = ctx -> {
+      // the raw header is not trusted, a new value per request would get a new bucket each time, the requests made
+      // with an API key are limited per authenticated key owner
+      User user = ctx.user();
+      if (user == null || user.subject() == null || ctx.request().getHeader(headerName) == null) {
+        return null;
+      }
+      return "key:" + user.subject();
+    };
+    return this;
+  }
+
+  @Override
+  public RateLimitHandler keyBy(Function<RoutingContext, String> keyFunction) {
+    Objects.requireNonNull(keyFunction, "'keyFunction' cannot be null");
+    this.keyFunction = ctx -> {
+      String key = keyFunction.apply(ctx);
+      return key != null ? "custom:" + key : null;
+    };
+    return this;
+  }
+
+  @Override
+  public RateLimitHandler setMaxKeys(int maxKeys) {
+    if (maxKeys < 1) {
+      throw new IllegalArgumentException("maxKeys must be >= 1");
+    }
+    this.maxKeysPerShard = Math.max(maxKeys / SHARDS, 1);
+    return this;
+  }
+
+  @Override
+  public RateLimitHandler setHeaders(boolean headers) {
+    this.headers = headers;
+    return this;
+  }
+
+  @Override
+  public RateLimitHandler store(String name, RateLimitStore store) {
+    this.storeName = Objects.requireNonNull(name, "'name' cannot be null");
+    this.store = Objects.requireNonNull(store, "'store' cannot be null");
+    return this;
+  }
+
+  @Override
+  public RateLimitHandler setSyncInterval(long syncInterval) {
+    if (syncInterval < 1) {
+      throw new IllegalArgumentException("syncInterval must be >= 1");
+    }
+    this.syncInterval = syncInterval;
+    return this;
+  }
+
+  @Override
+  public void handle(RoutingContext ctx) {
+    long now = System.nanoTime();
+    Bucket bucket = bucket(key(ctx), now);
+    HttpServerResponse response = ctx.response();
+    long tat = bucket.tryAcquire(now);
+    if (tat == Long.MIN_VALUE) {
+      long retryAfter = bucket.tat.get() + interval - tolerance - now;
+      response.putHeader(HttpHeaders.RETRY_AFTER, String.valueOf(seconds(retryAfter)));
+      ctx.fail(429);
+      return;
+    }
+    if (store != null) {
+      bucket.admitted.incrementAndGet();
+      if (!syncing.get()) {
+        startSync(ctx.vertx());
+      }
+    }
+    if (headers) {
+      long remaining = Math.min((now + tolerance - tat) / interval, limit);
+      response
+        .putHeader(RATELIMIT_LIMIT, limitHeader)
+        .putHeader(RATELIMIT_REMAINING, String.valueOf(Math.max(remaining, 0)))
+        .putHeader(RATELIMIT_RESET, String.valueOf(seconds(tat - now)))
+        .putHeader(RATELIMIT_POLICY, policyHeader);
+    }
+    ctx.next();
+  }
+
+  private static long seconds(long nanos) {
+    return Math.max((nanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND, 0);
+  }
+
+  private String key(RoutingContext ctx) {
+    String key = keyFunction.apply(ctx);
+    if (key == null) {
+      SocketAddress address = ctx.request().remoteAddress();
+      key = address != null ? address.host() : "";
+    }
+    return key;
+  }
+
+  /**
+   * @return the bucket of {@code key}, a new key always gets a bucket so that a client rotating keys can't lock out the
+   *         new clients
+   */
+  private Bucket bucket(String key, long now) {
+    int h = key.hashCode();
+    int idx = (h ^ (h >>> 16)) & (SHARDS - 1);
+    Map<String, Bucket> shard = shards[idx];
+    Bucket bucket = shard.get(key);
+    if (bucket == null) {
+      if (shard.size() >= maxKeysPerShard && !sweep(idx, shard, now)) {
+        evictOldest(shard);
+      }
+      Bucket candidate = new Bucket(now);
+      bucket = shard.putIfAbsent(key, candidate);
+      if (bucket == null) {
+        bucket = candidate;
+      }
+    }
+    return bucket;
+  }
+
+  private boolean sweep(int idx, Map<String, Bucket> shard, long now) {
+    long lastSweep = lastSweeps.get(idx);
+    if (now - lastSweep < SWEEP_INTERVAL || !lastSweeps.compareAndSet(idx, lastSweep, now)) {
+      // amortized, a single sweep per interval whatever the churn of keys
+      return false;
+    }
+    // only full buckets waiting for no synchronization are evicted, they hold no state
+    shard.values().removeIf(bucket -> bucket.isFull(now) && bucket.admitted.get() == 0);
+    return shard.size() < maxKeysPerShard;
+  }
+
+  /**
+   * Approximate LRU: evict the bucket with the oldest theoretical arrival time among a few buckets, preferring the
+   * buckets waiting for no synchronization. The evicted key starts again with a full bucket.
+   */
+  private void evictOldest(Map<String, Bucket> shard) {
+    Map.Entry<String, Bucket> victim = null;
+    int samples = 0;
+    for (Map.Entry<String, Bucket> entry : shard.entrySet()) {
+      if (victim == null || older(entry.getValue(), victim.getValue())) {
+        victim = entry;
+      }
+      if (++samples == EVICTION_SAMPLES) {
+        break;
+      }
+    }
+    if (victim != null) {
+      shard.remove(victim.getKey(), victim.getValue());
+    }
+  }
+
+  private static boolean older(Bucket bucket, Bucket other) {
+    boolean pending = bucket.admitted.get() > 0;
+    boolean otherPending = other.admitted.get() > 0;
+    if (pending != otherPending) {
+      return otherPending;
+    }
+    return bucket.tat.get() - other.tat.get() < 0;
+  }
+
+  private void startSync(Vertx vertx) {
+    if (syncing.compareAndSet(false, true)) {
+      vertx.setTimer(syncInterval, id -> sync(vertx));
+    }
+  }
+
+  private void sync(Vertx vertx) {
+    long window = System.currentTimeMillis() / period;
+    Map<String, Long> admitted = new HashMap<>();
+    for (Map<String, Bucket> shard : shards) {
+      shard.forEach((key, bucket) -> {
+        if (bucket.window != window) {
+          bucket.window = window;
+          bucket.synced = 0;
+          bucket.remoteSeen = 0;
+        }
+        long count = bucket.admitted.getAndSet(0);
+        if (count > 0 || bucket.synced > 0) {
+          bucket.synced += count;
+          admitted.put(key, count);
+        }
+      });
+    }
+    if (admitted.isEmpty()) {
+      // idle, the next admitted request restarts the synchronization
+      syncing.set(false);
+      if (hasPendingRequests()) {
+        // admitted after the scan and before the reset of the flag
+        startSync(vertx);
+      }
+      return;
+    }
+    store.synchronize(storeName, window, admitted).onComplete(ar -> {
+      if (ar.succeeded()) {
+        long now = System.nanoTime();
+        ar.result().forEach((key, total) -> charge(key, window, total, now));
+      } else {
+        LOG.warn("Failed to synchronize the rate limit quotas of " + storeName, ar.cause());
+      }
+      vertx.setTimer(syncInterval, id -> sync(vertx));
+    });
+  }
+
+  private boolean hasPendingRequests() {
+    for (Map<String, Bucket> shard : shards) {
+      for (Bucket bucket : shard.values()) {
+        if (bucket.admitted.get() > 0) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private void charge(String key, long window, long total, long now) {
+    int h = key.hashCode();
+    Bucket bucket = shards[(h ^ (h >>> 16)) & (SHARDS - 1)].get(key);
+    if (bucket != null && bucket.window == window) {
+      // the requests admitted by the other handlers since the last synchronization
+      long remote = total - bucket.synced;
+      long delta = remote - bucket.remoteSeen;
+      if (delta > 0) {
+        bucket.remoteSeen = remote;
+        long charge = Math.min(delta, burst) * interval;
+        bucket.tat.accumulateAndGet(now, (tat, t) -> Math.max(tat, t) + charge);
+      }
+    }
+  }
+
+  private final class Bucket {
+
+    // theoretical arrival time
+    private final AtomicLong tat;
+    // requests admitted since the last synchronization
+    private final AtomicLong admitted = new AtomicLong();
+    // only accessed by the synchronization
+    private long window;
+    private long synced;
+    private long remoteSeen;
+
+    Bucket(long now) {
+      this.tat = new AtomicLong(now);
+    }
+
+    /**
+     * @return the new theoretical arrival time, or {@code Long.MIN_VALUE} when the request is rejected
+     */
+    long tryAcquire(long now) {
+      for (;;) {
+        long current = tat.get();
+        long next = Math.max(current, now) + interval;
+        if (next - now > tolerance) {
+          return Long.MIN_VALUE;
+        }
+        if (tat.compareAndSet(current, next)) {
+          return next;
+        }
+      }
+    }
+
+    boolean isFull(long now) {
+      return tat.get() - now <= 0;
+    }
+  }
+}
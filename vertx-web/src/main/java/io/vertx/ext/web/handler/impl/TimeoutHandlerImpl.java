@@ -16,9 +16,12 @@
 
 package io.vertx.ext.web.handler.impl;
 
-import io.vertx.core.Timer;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.internal.ContextInternal;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.TimeoutHandler;
+import io.vertx.ext.web.impl.TimingWheel;
 
 /**
  * @author <a href="http://pmlopes@gmail.com">Paulo Lopes</a>
@@ -37,9 +40,32 @@ public class TimeoutHandlerImpl implements TimeoutHandler {
 
   @Override
   public void handle(RoutingContext ctx) {
-    Timer timer = ctx.vertx().timer(timeout);
-    int handlerId = ctx.addEndHandler(v -> timer.cancel());
-    timer.onSuccess(v -> {
+    // almost every timeout is cancelled, the wheel of the event loop makes that cheaper than a timer
+    ContextInternal context = (ContextInternal) ctx.vertx().getOrCreateContext();
+    TimeoutTask task = new TimeoutTask(ctx);
+    task.timeout = TimingWheel.schedule(context, timeout, task);
+    task.handlerId = ctx.addEndHandler(task::cancel);
+
+    ctx.next();
+  }
+
+  private final class TimeoutTask implements Handler<Void> {
+
+    private final RoutingContext ctx;
+    private TimingWheel.Timeout timeout;
+    private int handlerId;
+
+    TimeoutTask(RoutingContext ctx) {
+      this.ctx = ctx;
+    }
+
+    void cancel(AsyncResult<Void> ignore) {
+      // unlinks the timeout from the wheel, this task and the routing context are not retained until the deadline
+      timeout.cancel();
+    }
+
+    @Override
+    public void handle(Void v) {
       // If this router has been restarted, the timeout shouldn't fire
       if (ctx.removeEndHandler(handlerId)) {
         if (!ctx.request().isEnded()) {
@@ -47,8 +73,6 @@ public class TimeoutHandlerImpl implements TimeoutHandler {
         }
         ctx.fail(errorCode);
       }
-    });
-
-    ctx.next();
+    }
   }
 }
@@ -20,23 +20,23 @@ import io.vertx.core.internal.logging.LoggerFactory;
 import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.auth.User;
-import io.vertx.ext.auth.authorization.Authorization;
 import io.vertx.ext.auth.authorization.AuthorizationProvider;
-import io.vertx.ext.auth.authorization.PermissionBasedAuthorization;
 import io.vertx.ext.bridge.BridgeEventType;
-import io.vertx.ext.bridge.PermittedOptions;
 import io.vertx.ext.web.Session;
 import io.vertx.ext.web.handler.sockjs.BridgeEvent;
 import io.vertx.ext.web.handler.sockjs.SockJSBridgeOptions;
 import io.vertx.ext.web.handler.sockjs.SockJSSocket;
+import io.vertx.ext.web.handler.sockjs.impl.PermittedOptionsMatcher.Match;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static io.vertx.core.buffer.Buffer.buffer;
 
@@ -46,10 +46,12 @@ import static io.vertx.core.buffer.Buffer.buffer;
 public class EventBusBridgeImpl implements Handler<SockJSSocket> {
 
   private static final Logger LOG = LoggerFactory.getLogger(EventBusBridgeImpl.class);
+  // replies are always let through if the original message was approved
+  private static final Match REPLY_MATCH = new Match(true);
 
   private final Map<SockJSSocket, SockInfo> sockInfos = new HashMap<>();
-  private final List<PermittedOptions> inboundPermitted;
-  private final List<PermittedOptions> outboundPermitted;
+  private final PermittedOptionsMatcher inboundPermitted;
+  private final PermittedOptionsMatcher outboundPermitted;
   private final int maxAddressLength;
   private final int maxHandlersPerSocket;
   private final long pingTimeout;
@@ -57,7 +59,8 @@ public class EventBusBridgeImpl implements Handler<SockJSSocket> {
   private final Vertx vertx;
   private final EventBus eb;
   private final Map<String, Message<?>> messagesAwaitingReply = new HashMap<>();
-  private final Map<String, Pattern> compiledREs = new HashMap<>();
+  // one event bus consumer per context and address, fanning out to all the sockets registered to the address
+  private final Map<Context, Map<String, SharedConsumer>> sharedConsumers = new ConcurrentHashMap<>();
   private final Handler<BridgeEvent> bridgeEventHandler;
   private final AuthorizationProvider authzProvider;
 
@@ -65,8 +68,8 @@ public class EventBusBridgeImpl implements Handler<SockJSSocket> {
     this.vertx = vertx;
     this.eb = vertx.eventBus();
     this.authzProvider = authzProvider;
-    this.inboundPermitted = options.getInboundPermitteds() == null ? new ArrayList<>() : options.getInboundPermitteds();
-    this.outboundPermitted = options.getOutboundPermitteds() == null ? new ArrayList<>() : options.getOutboundPermitteds();
+    this.inboundPermitted = new PermittedOptionsMatcher(options.getInboundPermitteds() == null ? new ArrayList<>() : options.getInboundPermitteds());
+    this.outboundPermitted = new PermittedOptionsMatcher(options.getOutboundPermitteds() == null ? new ArrayList<>() : options.getOutboundPermitteds());
     this.maxAddressLength = options.getMaxAddressLength();
     this.maxHandlersPerSocket = options.getMaxHandlersPerSocket();
     this.pingTimeout = options.getPingTimeout();
@@ -74,7 +77,7 @@ public class EventBusBridgeImpl implements Handler<SockJSSocket> {
     this.bridgeEventHandler = bridgeEventHandler;
   }
 
-  private void handleSocketData(SockJSSocket sock, Buffer data, Map<String, MessageConsumer<?>> registrations) {
+  private void handleSocketData(SockJSSocket sock, Buffer data, Map<String, SharedConsumer> registrations) {
     JsonObject msg;
 
     try {
@@ -182,7 +185,7 @@ public class EventBusBridgeImpl implements Handler<SockJSSocket> {
     }
   }
 
-  private void internalHandleRegister(SockJSSocket sock, JsonObject rawMsg, Map<String, MessageConsumer<?>> registrations) {
+  private void internalHandleRegister(SockJSSocket sock, JsonObject rawMsg, Map<String, SharedConsumer> registrations) {
     final SockInfo info = sockInfos.get(sock);
     if (!checkMaxHandlers(sock, info)) {
       return;
@@ -210,38 +213,10 @@ public class EventBusBridgeImpl implements Handler<SockJSSocket> {
             return;
           }
 
-          Handler<Message<Object>> handler = msg -> {
-            Match curMatch = checkMatches(false, address, msg.body());
-            if (curMatch.doesMatch) {
-              if (curMatch.requiredAuthority != null) {
-                authorise(curMatch, sock.webUser())
-                  .onSuccess(ok -> {
-                    if (ok) {
-                      checkAddAccceptedReplyAddress(msg);
-                      deliverMessage(sock, address, msg);
-                    } else {
-                      if (debug) {
-                        LOG.debug("Outbound message for address " + address + " rejected because auth is required and socket is not authed");
-                      }
-                    }
-                  })
-                  .onFailure(LOG::error);
-
-              } else {
-                checkAddAccceptedReplyAddress(msg);
-                deliverMessage(sock, address, msg);
-              }
-            } else {
-              // outbound match failed
-              if (debug) {
-                LOG.debug("Outbound message for address " + address + " rejected because there is no inbound match");
-              }
-            }
-          };
-          MessageConsumer<?> reg = eb.consumer(address).handler(handler);
+          SharedConsumer reg = subscribe(sock, address);
           registrations.put(address, reg);
           info.handlerCount++;
-          reg.completion().onComplete(ar -> {
+          reg.consumer.completion().onComplete(ar -> {
             if (ar.succeeded()) {
               // Notify registration completed
               checkCallHook(() -> new BridgeEventImpl(BridgeEventType.REGISTERED, rawMsg, sock));
@@ -260,7 +235,21 @@ public class EventBusBridgeImpl implements Handler<SockJSSocket> {
       }, () -> replyError(sock, "rejected"));
   }
 
-  private void internalHandleUnregister(SockJSSocket sock, JsonObject rawMsg, Map<String, MessageConsumer<?>> registrations) {
+  private SharedConsumer subscribe(SockJSSocket sock, String address) {
+    Context context = vertx.getOrCreateContext();
+    Map<String, SharedConsumer> consumers = sharedConsumers.computeIfAbsent(context, ctx -> new HashMap<>());
+    SharedConsumer shared = consumers.get(address);
+    if (shared == null) {
+      shared = new SharedConsumer(context, address);
+      consumers.put(address, shared);
+      SharedConsumer registered = shared;
+      shared.consumer.completion().onFailure(err -> registered.remove());
+    }
+    shared.subscribe(sock);
+    return shared;
+  }
+
+  private void internalHandleUnregister(SockJSSocket sock, JsonObject rawMsg, Map<String, SharedConsumer> registrations) {
     checkCallHook(() -> new BridgeEventImpl(BridgeEventType.UNREGISTER, rawMsg, sock),
       () -> {
         String address = rawMsg.getString("address");
@@ -270,10 +259,10 @@ public class EventBusBridgeImpl implements Handler<SockJSSocket> {
         }
         Match match = checkMatches(false, address, null);
         if (match.doesMatch) {
-          MessageConsumer<?> registration = registrations.remove(address);
+          SharedConsumer registration = registrations.remove(address);
           if (registration != null) {
             SockInfo info = sockInfos.get(sock);
-            registration.completion().onSuccess(v -> registration.unregister());
+            registration.unsubscribe(sock);
             info.handlerCount--;
           }
         } else {
@@ -302,7 +291,7 @@ public class EventBusBridgeImpl implements Handler<SockJSSocket> {
   public void handle(final SockJSSocket sock) {
     checkCallHook(() -> new BridgeEventImpl(BridgeEventType.SOCKET_CREATED, null, sock),
       () -> {
-        Map<String, MessageConsumer<?>> registrations = new HashMap<>();
+        Map<String, SharedConsumer> registrations = new HashMap<>();
 
         sock
           .handler(data -> handleSocketData(sock, data, registrations))
@@ -326,12 +315,12 @@ public class EventBusBridgeImpl implements Handler<SockJSSocket> {
       }, sock::close);
   }
 
-  private void handleSocketClosed(SockJSSocket sock, Map<String, MessageConsumer<?>> registrations) {
+  private void handleSocketClosed(SockJSSocket sock, Map<String, SharedConsumer> registrations) {
     clearSocketState(sock, registrations);
     checkCallHook(() -> new BridgeEventImpl(BridgeEventType.SOCKET_CLOSED, null, sock));
   }
 
-  private void handleSocketException(SockJSSocket sock, Throwable err, Map<String, MessageConsumer<?>> registrations) {
+  private void handleSocketException(SockJSSocket sock, Throwable err, Map<String, SharedConsumer> registrations) {
     LOG.error("SockJSSocket exception", err);
     clearSocketState(sock, registrations);
     final JsonObject msg = new JsonObject().put("type", "err").put("failureType", "socketException");
@@ -341,14 +330,14 @@ public class EventBusBridgeImpl implements Handler<SockJSSocket> {
     checkCallHook(() -> new BridgeEventImpl(BridgeEventType.SOCKET_ERROR, msg, sock));
   }
 
-  private void clearSocketState(SockJSSocket sock, Map<String, MessageConsumer<?>> registrations) {
+  private void clearSocketState(SockJSSocket sock, Map<String, SharedConsumer> registrations) {
     // On close or exception unregister any handlers that haven't been unregistered
-    for (MessageConsumer<?> registration : registrations.values()) {
-      registration.unregister();
+    for (SharedConsumer registration : registrations.values()) {
+      registration.unsubscribe(sock);
       checkCallHook(() ->
         new BridgeEventImpl(
           BridgeEventType.UNREGISTER,
-          new JsonObject().put("type", "unregister").put("address", registration.address()),
+          new JsonObject().put("type", "unregister").put("address", registration.address),
           sock));
     }
     // ensure that no timers remain active
@@ -378,6 +367,13 @@ public class EventBusBridgeImpl implements Handler<SockJSSocket> {
   }
 
   private void deliverMessage(SockJSSocket sock, String address, Message<?> message) {
+    JsonObject envelope = createEnvelope(address, message);
+    checkCallHook(() -> new BridgeEventImpl(BridgeEventType.RECEIVE, envelope, sock),
+      () -> sock.write(buffer(envelope.encode())),
+      () -> LOG.debug("outbound message rejected by bridge event handler"));
+  }
+
+  private static JsonObject createEnvelope(String address, Message<?> message) {
     JsonObject envelope = new JsonObject().put("type", "rec").put("address", address).put("body", message.body());
     if (message.replyAddress() != null) {
       envelope.put("replyAddress", message.replyAddress());
@@ -394,9 +390,7 @@ public class EventBusBridgeImpl implements Handler<SockJSSocket> {
       }
       envelope.put("headers", headersCopy);
     }
-    checkCallHook(() -> new BridgeEventImpl(BridgeEventType.RECEIVE, envelope, sock),
-      () -> sock.write(buffer(envelope.encode())),
-      () -> LOG.debug("outbound message rejected by bridge event handler"));
+    return envelope;
   }
 
   private void doSendOrPub(boolean send, SockJSSocket sock, String address,
@@ -418,7 +412,7 @@ public class EventBusBridgeImpl implements Handler<SockJSSocket> {
     final Message<?> awaitingReply = messagesAwaitingReply.remove(address);
     Match curMatch;
     if (awaitingReply != null) {
-      curMatch = new Match(true);
+      curMatch = REPLY_MATCH;
     } else {
       curMatch = checkMatches(true, address, body);
     }
@@ -426,7 +420,7 @@ public class EventBusBridgeImpl implements Handler<SockJSSocket> {
       if (curMatch.requiredAuthority != null) {
         User webUser = sock.webUser();
         if (webUser != null) {
-          authorise(curMatch, webUser)
+          authorise(curMatch, sock)
             .onSuccess(ok -> {
               if (ok) {
                 checkAndSend(send, address, body, headers, sock, replyAddress, awaitingReply);
@@ -531,6 +525,21 @@ public class EventBusBridgeImpl implements Handler<SockJSSocket> {
     }
   }
 
+  private Future<Boolean> authorise(Match curMatch, SockJSSocket sock) {
+    // the user of a socket doesn't change, granted authorities are remembered for the lifetime of the socket
+    SockInfo info = sockInfos.get(sock);
+    if (info != null && info.grantedAuthorities.contains(curMatch.authority)) {
+      return Future.succeededFuture(true);
+    }
+    return authorise(curMatch, sock.webUser())
+      .map(ok -> {
+        if (ok && info != null) {
+          info.grantedAuthorities.add(curMatch.authority);
+        }
+        return ok;
+      });
+  }
+
   private Future<Boolean> authorise(Match curMatch, User webUser) {
     // step 1: match against the raw user, if a AuthZ handler is in the path it could have already
     //         loaded the authorizations
@@ -548,46 +557,8 @@ public class EventBusBridgeImpl implements Handler<SockJSSocket> {
       .map(res -> curMatch.requiredAuthority.match(webUser));
   }
 
-  /*
-  Empty inboundPermitted means reject everything - this is the default.
-  If at least one match is supplied and all the fields of any match match then the message inboundPermitted,
-  this means that specifying one match with a JSON empty object means everything is accepted
-   */
   private Match checkMatches(boolean inbound, String address, Object body) {
-
-    List<PermittedOptions> matches = inbound ? inboundPermitted : outboundPermitted;
-
-    for (PermittedOptions matchHolder : matches) {
-      String matchAddress = matchHolder.getAddress();
-      String matchRegex;
-      if (matchAddress == null) {
-        matchRegex = matchHolder.getAddressRegex();
-      } else {
-        matchRegex = null;
-      }
-
-      boolean addressOK;
-      if (matchAddress == null) {
-        addressOK = matchRegex == null || regexMatches(matchRegex, address);
-      } else {
-        addressOK = matchAddress.equals(address);
-      }
-
-      if (addressOK) {
-        boolean matched = structureMatches(matchHolder.getMatch(), body);
-        if (matched) {
-          String requiredAuthority = matchHolder.getRequiredAuthority();
-          return new Match(true, requiredAuthority);
-        }
-      }
-    }
-    return new Match(false);
-  }
-
-  private boolean regexMatches(String matchRegex, String address) {
-    Pattern pattern = compiledREs.computeIfAbsent(matchRegex, Pattern::compile);
-    Matcher m = pattern.matcher(address);
-    return m.matches();
+    return (inbound ? inboundPermitted : outboundPermitted).match(address, body);
   }
 
   private static void replyError(SockJSSocket sock, String err) {
@@ -595,44 +566,140 @@ public class EventBusBridgeImpl implements Handler<SockJSSocket> {
     sock.write(buffer(envelope.encode()));
   }
 
-  private static boolean structureMatches(JsonObject match, Object bodyObject) {
-    if (match == null || bodyObject == null) return true;
-
-    // Can send message other than JSON too - in which case we can't do deep matching on structure of message
-    if (bodyObject instanceof JsonObject) {
-      JsonObject body = (JsonObject) bodyObject;
-      for (String fieldName : match.fieldNames()) {
-        Object mv = match.getValue(fieldName);
-        Object bv = body.getValue(fieldName);
-        // Support deep matching
-        if (mv instanceof JsonObject) {
-          if (!structureMatches((JsonObject) mv, bv)) {
-            return false;
-          }
-        } else if (!match.getValue(fieldName).equals(body.getValue(fieldName))) {
-          return false;
+  /**
+   * An event bus consumer shared by all the sockets of a context registered to the same address. The outbound
+   * permission of a message is checked once, and when no bridge event handler can alter the envelope, the envelope is
+   * encoded and escaped once for all the sockets. Published messages are delivered to all the sockets, point to point
+   * messages to a single authorized socket, in turn.
+   */
+  private final class SharedConsumer implements Handler<Message<Object>> {
+
+    private final Context context;
+    private final String address;
+    private final MessageConsumer<Object> consumer;
+    // copy on write, a socket may unsubscribe while a message is delivered
+    private SockJSSocket[] subscribers = new SockJSSocket[0];
+    // the next socket to get a point to point message, only accessed by the context
+    private int next;
+
+    SharedConsumer(Context context, String address) {
+      this.context = context;
+      this.address = address;
+      this.consumer = eb.consumer(address, this);
+    }
+
+    void subscribe(SockJSSocket sock) {
+      SockJSSocket[] copy = Arrays.copyOf(subscribers, subscribers.length + 1);
+      copy[subscribers.length] = sock;
+      subscribers = copy;
+    }
+
+    void unsubscribe(SockJSSocket sock) {
+      int idx = -1;
+      for (int i = 0; i < subscribers.length; i++) {
+        if (subscribers[i] == sock) {
+          idx = i;
+          break;
         }
       }
-      return true;
+      if (idx == -1) {
+        return;
+      }
+      SockJSSocket[] copy = new SockJSSocket[subscribers.length - 1];
+      System.arraycopy(subscribers, 0, copy, 0, idx);
+      System.arraycopy(subscribers, idx + 1, copy, idx, copy.length - idx);
+      subscribers = copy;
+      if (copy.length == 0) {
+        remove();
+        consumer.unregister();
+      }
     }
 
-    return false;
-  }
-
-  private static class Match {
-    public final boolean doesMatch;
-    public final Authorization requiredAuthority;
+    void remove() {
+      sharedConsumers.computeIfPresent(context, (ctx, consumers) -> {
+        consumers.remove(address, this);
+        return consumers.isEmpty() ? null : consumers;
+      });
+    }
 
-    Match(boolean doesMatch, String requiredAuthority) {
-      this.doesMatch = doesMatch;
-      this.requiredAuthority = requiredAuthority == null ? null : PermissionBasedAuthorization.create(requiredAuthority);
+    @Override
+    public void handle(Message<Object> msg) {
+      Match curMatch = checkMatches(false, address, msg.body());
+      if (!curMatch.doesMatch) {
+        // outbound match failed
+        if (LOG.isDebugEnabled()) {
+          LOG.debug("Outbound message for address " + address + " rejected because there is no inbound match");
+        }
+        return;
+      }
+      SockJSSocket[] current = subscribers;
+      if (current.length == 0) {
+        return;
+      }
+      Envelope encoded = bridgeEventHandler == null ? new Envelope(buffer(createEnvelope(address, msg).encode())) : null;
+      if (msg.isSend()) {
+        // point to point, a single socket gets the message as if each socket had its own consumer
+        int start = next;
+        next = start + 1;
+        deliverToOne(current, Math.floorMod(start, current.length), current.length, msg, curMatch, encoded);
+        return;
+      }
+      for (SockJSSocket sock : current) {
+        if (curMatch.requiredAuthority != null) {
+          authorise(curMatch, sock)
+            .onSuccess(ok -> {
+              if (ok) {
+                deliver(sock, msg, encoded);
+              } else {
+                if (LOG.isDebugEnabled()) {
+                  LOG.debug("Outbound message for address " + address + " rejected because auth is required and socket is not authed");
+                }
+              }
+            })
+            .onFailure(LOG::error);
+        } else {
+          deliver(sock, msg, encoded);
+        }
+      }
     }
 
-    Match(boolean doesMatch) {
-      this.doesMatch = doesMatch;
-      this.requiredAuthority = null;
+    private void deliverToOne(SockJSSocket[] current, int idx, int remaining, Message<Object> msg, Match curMatch, Envelope encoded) {
+      if (remaining == 0) {
+        if (LOG.isDebugEnabled()) {
+          LOG.debug("Outbound message for address " + address + " rejected because auth is required and no socket is authed");
+        }
+        return;
+      }
+      SockJSSocket sock = current[idx];
+      if (curMatch.requiredAuthority == null) {
+        deliver(sock, msg, encoded);
+        return;
+      }
+      authorise(curMatch, sock)
+        .onSuccess(ok -> {
+          if (ok) {
+            deliver(sock, msg, encoded);
+          } else {
+            // try the next socket
+            deliverToOne(current, (idx + 1) % current.length, remaining - 1, msg, curMatch, encoded);
+          }
+        })
+        .onFailure(LOG::error);
     }
 
+    private void deliver(SockJSSocket sock, Message<Object> msg, Envelope encoded) {
+      // replies are only accepted once the message was delivered to an authorized socket
+      checkAddAccceptedReplyAddress(msg);
+      if (encoded != null) {
+        if (sock instanceof SockJSSession) {
+          ((SockJSSession) sock).writeEncoded(encoded.escaped(), encoded.json.length());
+        } else {
+          sock.write(encoded.json);
+        }
+      } else {
+        deliverMessage(sock, address, msg);
+      }
+    }
   }
 
   private static final class PingInfo {
@@ -643,5 +710,30 @@ public class EventBusBridgeImpl implements Handler<SockJSSocket> {
   private static final class SockInfo {
     int handlerCount;
     PingInfo pingInfo;
+    final Set<String> grantedAuthorities = new HashSet<>();
+  }
+
+  /**
+   * The envelope of a message delivered by a shared consumer, encoded once and escaped once for all the SockJS
+   * sessions.
+   */
+  private static final class Envelope {
+
+    private final Buffer json;
+    private volatile Buffer escaped;
+
+    Envelope(Buffer json) {
+      this.json = json;
+    }
+
+    Buffer escaped() {
+      Buffer e = escaped;
+      if (e == null) {
+        // computing it twice on a race is harmless
+        e = JsonCodec.encodeMessage(json);
+        escaped = e;
+      }
+      return e;
+    }
   }
 }
@@ -92,6 +92,15 @@ class EventSourceTransport extends BaseTransport {
 
     @Override
     public Future<Void> sendFrame(String body) {
+      return send(buffer("data: " + body + "\r\n\r\n"));
+    }
+
+    @Override
+    public Future<Void> sendFrame(Buffer body) {
+      return send(buffer(body.length() + 10).appendString("data: ").appendBuffer(body).appendString("\r\n\r\n"));
+    }
+
+    private Future<Void> send(Buffer buff) {
       if (LOG.isTraceEnabled()) LOG.trace("EventSource, sending frame");
       if (!headersWritten) {
         // event stream data is always UTF8
@@ -103,10 +112,6 @@ class EventSourceTransport extends BaseTransport {
         rc.response().setChunked(true).write("\r\n");
         headersWritten = true;
       }
-      String sb = "data: " +
-        body +
-        "\r\n\r\n";
-      Buffer buff = buffer(sb);
       Future<Void> fut = rc.response().write(buff);
       bytesSent += buff.length();
       if (bytesSent >= maxBytesStreaming) {
@@ -33,15 +33,15 @@
 package io.vertx.ext.web.handler.sockjs.impl;
 
 import com.fasterxml.jackson.core.JsonFactory;
-import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.io.CharTypes;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.EncodeException;
 
-import java.io.IOException;
-import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -68,53 +68,115 @@ public class JsonCodec {
 
   // This code was adapted from http://wiki.fasterxml.com/JacksonSampleQuoteChars
 
-  private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+  private static final byte[] HEX_CHARS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
   private static final int[] ESCAPE_CODES = CharTypes.get7BitOutputEscapes();
 
-  private static void writeUnicodeEscape(JsonGenerator gen, char c) throws IOException {
-    gen.writeRaw('\\');
-    gen.writeRaw('u');
-    gen.writeRaw(HEX_CHARS[(c >> 12) & 0xF]);
-    gen.writeRaw(HEX_CHARS[(c >> 8) & 0xF]);
-    gen.writeRaw(HEX_CHARS[(c >> 4) & 0xF]);
-    gen.writeRaw(HEX_CHARS[c & 0xF]);
+  public static String encode(String[] messages) throws EncodeException {
+    List<Buffer> encoded = new ArrayList<>(messages.length);
+    for (String message : messages) {
+      encoded.add(encodeMessage(message));
+    }
+    Buffer frame = encodeFrame(encoded);
+    // skip the frame type
+    return frame.getString(1, frame.length(), "US-ASCII");
   }
 
-  private static void writeShortEscape(JsonGenerator gen, char c) throws IOException {
-    gen.writeRaw('\\');
-    gen.writeRaw(c);
+  /**
+   * Encode a message as a SockJS escaped JSON string, quotes included. The result is plain ASCII.
+   * <p>
+   * Most messages need no escaping at all, in which case the bytes of the message are copied as they are.
+   *
+   * @param message the UTF-8 message
+   * @return the encoded message
+   */
+  public static Buffer encodeMessage(Buffer message) {
+    byte[] bytes = message.getBytes();
+    for (byte b : bytes) {
+      // any non US-ASCII byte is negative
+      if (b < 0 || ESCAPE_CODES[b] != 0) {
+        return encodeMessage(message.toString());
+      }
+    }
+    return Buffer.buffer(bytes.length + 2)
+      .appendByte((byte) '"')
+      .appendBytes(bytes)
+      .appendByte((byte) '"');
   }
 
-  public static String encode(String[] messages) throws EncodeException {
-    StringWriter sw = new StringWriter();
-    try (JsonGenerator gen = factory.createGenerator(sw)) {
-      gen.writeStartArray();
-      boolean first = true;
-      for (String message : messages) {
-        if (first) {
-          first = false;
-        } else {
-          gen.writeRaw(',');
+  /**
+   * Like {@link #encodeMessage(Buffer)}.
+   *
+   * @param message the message
+   * @return the encoded message
+   */
+  public static Buffer encodeMessage(String message) {
+    int len = message.length();
+    // worst case every char is unicode escaped
+    byte[] out = null;
+    int pos = 0;
+    for (int i = 0; i < len; i++) {
+      char c = message.charAt(i);
+      int code = c < 0x80 ? ESCAPE_CODES[c] : -1;
+      if (out == null) {
+        if (code == 0) {
+          continue;
         }
-        gen.writeRaw('"');
-        for (char c : message.toCharArray()) {
-          if (c >= 0x80) writeUnicodeEscape(gen, c); // use generic escaping for all non US-ASCII characters
-          else {
-            // use escape table for first 128 characters
-            int code = (c < ESCAPE_CODES.length ? ESCAPE_CODES[c] : 0);
-            if (code == 0) gen.writeRaw(c); // no escaping
-            else if (code == -1) writeUnicodeEscape(gen, c); // generic escaping
-            else writeShortEscape(gen, (char) code); // short escaping (\n \t ...)
-          }
+        // first char to escape, copy what was scanned so far
+        out = new byte[2 + i + (len - i) * 6];
+        out[pos++] = '"';
+        for (int j = 0; j < i; j++) {
+          out[pos++] = (byte) message.charAt(j);
         }
-        gen.writeRaw('"');
       }
-      gen.writeEndArray();
-      gen.close();
-      return sw.toString();
-    } catch (Exception e) {
-      throw new EncodeException("Failed to encode as JSON", e);
+      if (code == 0) {
+        out[pos++] = (byte) c; // no escaping
+      } else if (code == -1) {
+        // use generic escaping for all non US-ASCII characters and the control characters
+        out[pos++] = '\\';
+        out[pos++] = 'u';
+        out[pos++] = HEX_CHARS[(c >> 12) & 0xF];
+        out[pos++] = HEX_CHARS[(c >> 8) & 0xF];
+        out[pos++] = HEX_CHARS[(c >> 4) & 0xF];
+        out[pos++] = HEX_CHARS[c & 0xF];
+      } else {
+        // short escaping (\n \t ...)
+        out[pos++] = '\\';
+        out[pos++] = (byte) code;
+      }
+    }
+    if (out == null) {
+      // nothing to escape
+      return Buffer.buffer(len + 2)
+        .appendByte((byte) '"')
+        .appendString(message, "US-ASCII")
+        .appendByte((byte) '"');
+    }
+    out[pos++] = '"';
+    return Buffer.buffer(pos).appendBytes(out, 0, pos);
+  }
+
+  /**
+   * Join messages encoded with {@link #encodeMessage(Buffer)} into an array frame: {@code a["msg1","msg2"]}.
+   *
+   * @param encodedMessages the encoded messages
+   * @return the frame
+   */
+  public static Buffer encodeFrame(Collection<Buffer> encodedMessages) {
+    int size = 3 + encodedMessages.size();
+    for (Buffer message : encodedMessages) {
+      size += message.length();
+    }
+    Buffer frame = Buffer.buffer(size).appendString("a[");
+    boolean first = true;
+    for (Buffer message : encodedMessages) {
+      if (first) {
+        first = false;
+      } else {
+        frame.appendByte((byte) ',');
+      }
+      frame.appendBuffer(message);
     }
+    return frame.appendByte((byte) ']');
   }
 
   public static List<String> decodeValues(String messages) {
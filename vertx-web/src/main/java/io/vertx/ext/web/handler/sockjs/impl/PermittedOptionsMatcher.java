@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.ext.web.handler.sockjs.impl;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.auth.authorization.Authorization;
+import io.vertx.ext.auth.authorization.PermissionBasedAuthorization;
+import io.vertx.ext.bridge.PermittedOptions;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Matches an address and a message body against a list of {@link PermittedOptions}, the first permitted option that
+ * matches wins.
+ * <p>
+ * The permitted options are compiled once: exact addresses are looked up in a hash map, regular expressions are
+ * compiled up front and the required authorizations are created once. The permitted options applicable to an address
+ * are cached, so for a known address only the structure match of the body remains to be evaluated.
+ */
+final class PermittedOptionsMatcher {
+
+  /**
+   * Bound of the per address cache, clients choose the addresses so the cache can't grow without limit.
+   */
+  private static final int MAX_CACHED_ADDRESSES = 1024;
+
+  static final Match NO_MATCH = new Match(false);
+
+  private final Entry[] entries;
+  private final Map<String, List<Entry>> exactEntries = new HashMap<>();
+  private final Map<String, Entry[]> addressCache = new ConcurrentHashMap<>();
+
+  PermittedOptionsMatcher(List<PermittedOptions> permitted) {
+    entries = new Entry[permitted.size()];
+    for (int i = 0; i < entries.length; i++) {
+      Entry entry = new Entry(permitted.get(i));
+      entries[i] = entry;
+      if (entry.address != null) {
+        exactEntries.computeIfAbsent(entry.address, k -> new ArrayList<>()).add(entry);
+      }
+    }
+  }
+
+  /*
+  Empty permitted means reject everything - this is the default.
+  If at least one match is supplied and all the fields of any match match then the message is permitted,
+  this means that specifying one match with a JSON empty object means everything is accepted
+   */
+  Match match(String address, Object body) {
+    if (entries.length == 0) {
+      return NO_MATCH;
+    }
+    Entry[] candidates = addressCache.get(address);
+    if (candidates == null) {
+      candidates = candidates(address);
+      if (addressCache.size() >= MAX_CACHED_ADDRESSES) {
+        addressCache.clear();
+      }
+      addressCache.put(address, candidates);
+    }
+    for (Entry candidate : candidates) {
+      if (structureMatches(candidate.structure, body)) {
+        return candidate.match;
+      }
+    }
+    return NO_MATCH;
+  }
+
+  /**
+   * The entries whose address matches, in declaration order.
+   */
+  private Entry[] candidates(String address) {
+    List<Entry> exact = exactEntries.get(address);
+    List<Entry> candidates = new ArrayList<>();
+    int nextExact = 0;
+    for (Entry entry : entries) {
+      if (entry.address != null) {
+        // exact entries can only be the ones found by the lookup
+        if (exact != null && nextExact < exact.size() && exact.get(nextExact) == entry) {
+          candidates.add(entry);
+          nextExact++;
+        }
+      } else if (entry.pattern == null || entry.pattern.matcher(address).matches()) {
+        candidates.add(entry);
+      }
+    }
+    return candidates.toArray(new Entry[0]);
+  }
+
+  private static boolean structureMatches(JsonObject match, Object bodyObject) {
+    if (match == null || bodyObject == null) return true;
+
+    // Can send message other than JSON too - in which case we can't do deep matching on structure of message
+    if (bodyObject instanceof JsonObject) {
+      JsonObject body = (JsonObject) bodyObject;
+      for (String fieldName : match.fieldNames()) {
+        Object mv = match.getValue(fieldName);
+        Object bv = body.getValue(fieldName);
+        // Support deep matching
+        if (mv instanceof JsonObject) {
+          if (!structureMatches((JsonObject) mv, bv)) {
+            return false;
+          }
+        } else if (!mv.equals(bv)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    return false;
+  }
+
+  private static final class Entry {
+    private final String address;
+    private final Pattern pattern;
+    private final JsonObject structure;
+    private final Match match;
+
+    Entry(PermittedOptions options) {
+      this.address = options.getAddress();
+      this.pattern = address == null && options.getAddressRegex() != null ?
+        Pattern.compile(options.getAddressRegex()) :
+        null;
+      this.structure = options.getMatch();
+      this.match = new Match(true, options.getRequiredAuthority());
+    }
+  }
+
+  static final class Match {
+    final boolean doesMatch;
+    final String authority;
+    final Authorization requiredAuthority;
+
+    Match(boolean doesMatch, String requiredAuthority) {
+      this.doesMatch = doesMatch;
+      this.authority = requiredAuthority;
+      this.requiredAuthority = requiredAuthority == null ? null : PermissionBasedAuthorization.create(requiredAuthority);
+    }
+
+    Match(boolean doesMatch) {
+      this(doesMatch, null);
+    }
+  }
+}
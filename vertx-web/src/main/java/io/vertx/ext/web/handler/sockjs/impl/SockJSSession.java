@@ -44,6 +44,7 @@ import io.vertx.core.net.SocketAddress;
 import io.vertx.core.shareddata.LocalMap;
 import io.vertx.core.shareddata.Shareable;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.impl.TimingWheel;
 import io.vertx.ext.web.handler.sockjs.SockJSHandlerOptions;
 import io.vertx.ext.web.handler.sockjs.SockJSSocket;
 
@@ -66,18 +67,21 @@ class SockJSSession extends SockJSSocketBase implements Shareable {
   private static final Logger LOG = LoggerFactory.getLogger(SockJSSession.class);
 
   private final LocalMap<String, SockJSSession> sessions;
-  private final Deque<String> pendingWrites = new LinkedList<>();
+  // messages already escaped by the JsonCodec, ready to be joined into a frame
+  private final Deque<Buffer> pendingWrites = new ArrayDeque<>();
   private final ContextInternal context;
   private final String id;
   private final long timeout;
   private final Handler<SockJSSocket> sockHandler;
-  private final long heartbeatID;
+  private final long heartbeatInterval;
+  private TimingWheel.Timeout heartbeat;
+  private boolean heartbeatStopped;
   private final List<Completable<Void>> writeAcks = new ArrayList<>();
   private TransportListener listener;
   private boolean closed;
   private boolean openWritten;
-  private long timeoutTimerID = -1;
-  private int maxQueueSize = 64 * 1024; // Message queue size is measured in *characters* (not bytes)
+  private TimingWheel.Timeout timeoutTimer;
+  private int maxQueueSize = 64 * 1024; // Message queue size is measured in *characters* of text and bytes of buffers
   private int messagesSize;
   private InboundMessageQueue<Buffer> pendingReads;
   private Handler<Buffer> handler;
@@ -107,14 +111,31 @@ class SockJSSession extends SockJSSocketBase implements Shareable {
     initPendingReads();
 
     // Start a heartbeat
+    this.heartbeatInterval = options.getHeartbeatInterval();
+    scheduleHeartbeat();
+  }
 
-    heartbeatID = vertx.setPeriodic(options.getHeartbeatInterval(), tid -> {
+  private void scheduleHeartbeat() {
+    // sessions are many and their timers coarse, they share the timing wheel of the event loop
+    heartbeat = TimingWheel.schedule(context, heartbeatInterval, v -> {
+      synchronized (this) {
+        if (heartbeatStopped) {
+          return;
+        }
+      }
+      final TransportListener listener = this.listener;
       if (listener != null) {
         listener.sendFrame("h");
       }
+      scheduleHeartbeat();
     });
   }
 
+  private synchronized void stopHeartbeat() {
+    heartbeatStopped = true;
+    heartbeat.cancel();
+  }
+
   private void initPendingReads() {
     pendingReads = new InboundMessageQueue<>(context.executor(), context.executor()) {
       @Override
@@ -127,10 +148,10 @@ class SockJSSession extends SockJSSocketBase implements Shareable {
     };
   }
 
-  private void writeInternal(String msg, Promise<Void> promise) {
+  private void writeInternal(Buffer encoded, int size, Promise<Void> promise) {
     synchronized (this) {
-      pendingWrites.add(msg);
-      messagesSize += msg.length();
+      pendingWrites.add(encoded);
+      messagesSize += size;
       writeAcks.add(promise);
     }
 
@@ -146,6 +167,17 @@ class SockJSSession extends SockJSSocketBase implements Shareable {
 
   @Override
   public Future<Void> write(Buffer buffer) {
+    return writeEncoded(JsonCodec.encodeMessage(buffer), buffer.length());
+  }
+
+  /**
+   * Write a message already escaped with {@link JsonCodec#encodeMessage(Buffer)}, a message broadcast to several
+   * sessions is escaped once and the same buffer, which is only read, is queued by each session.
+   *
+   * @param encoded the escaped message
+   * @param size the size of the message before escaping
+   */
+  Future<Void> writeEncoded(Buffer encoded, int size) {
     final ContextInternal callerCtx = (ContextInternal) vertx.getOrCreateContext();
     final Promise<Void> promise = callerCtx.promise();
     if (isClosed()) {
@@ -156,8 +188,7 @@ class SockJSSession extends SockJSSocketBase implements Shareable {
         promise.fail(NetSocketInternal.CLOSED_EXCEPTION);
       }
     } else {
-      final String msg = buffer.toString();
-      writeInternal(msg, promise);
+      writeInternal(encoded, size, promise);
     }
     return promise.future();
   }
@@ -174,7 +205,7 @@ class SockJSSession extends SockJSSocketBase implements Shareable {
         promise.fail(NetSocketInternal.CLOSED_EXCEPTION);
       }
     } else {
-      writeInternal(text, promise);
+      writeInternal(JsonCodec.encodeMessage(text), text.length(), promise);
     }
     return promise.future();
   }
@@ -297,16 +328,16 @@ class SockJSSession extends SockJSSocketBase implements Shareable {
   }
 
   private void cancelTimer() {
-    if (timeoutTimerID != -1) {
-      vertx.cancelTimer(timeoutTimerID);
+    if (timeoutTimer != null) {
+      timeoutTimer.cancel();
     }
   }
 
   private void setTimer() {
     if (timeout != -1) {
       cancelTimer();
-      timeoutTimerID = vertx.setTimer(timeout, id1 -> {
-        vertx.cancelTimer(heartbeatID);
+      timeoutTimer = TimingWheel.schedule(context, timeout, v -> {
+        stopHeartbeat();
         final TransportListener listener = this.listener;
         if (listener == null) {
           shutdown();
@@ -321,11 +352,11 @@ class SockJSSession extends SockJSSocketBase implements Shareable {
   private void writePendingMessages() {
     final TransportListener listener = this.listener;
     if (listener != null) {
-      final String json;
+      final Buffer frame;
       final List<Completable<Void>> acks;
       synchronized (this) {
         if (!pendingWrites.isEmpty()) {
-          json = JsonCodec.encode(pendingWrites.toArray(new String[0]));
+          frame = JsonCodec.encodeFrame(pendingWrites);
           pendingWrites.clear();
           if (!writeAcks.isEmpty()) {
             acks = new ArrayList<>(writeAcks);
@@ -335,15 +366,15 @@ class SockJSSession extends SockJSSocketBase implements Shareable {
           }
           messagesSize = 0;
         } else {
-          json = null;
+          frame = null;
           acks = Collections.emptyList();
         }
       }
-      if (json != null) {
+      if (frame != null) {
         if (!acks.isEmpty()) {
-          listener.sendFrame("a" + json).onComplete((res, err) -> acks.forEach(a -> a.complete(res, err)));
+          listener.sendFrame(frame).onComplete((res, err) -> acks.forEach(a -> a.complete(res, err)));
         } else {
-          listener.sendFrame("a" + json);
+          listener.sendFrame(frame);
         }
       }
       if (drainHandler != null) {
@@ -404,12 +435,8 @@ class SockJSSession extends SockJSSocketBase implements Shareable {
   // Yes, I know it's weird but that's the way SockJS likes it.
   void shutdown() {
     super.close(); // We must call this or handlers don't get unregistered and we get a leak
-    if (heartbeatID != -1) {
-      vertx.cancelTimer(heartbeatID);
-    }
-    if (timeoutTimerID != -1) {
-      vertx.cancelTimer(timeoutTimerID);
-    }
+    stopHeartbeat();
+    cancelTimer();
     if (id != null) {
       // Can be null if websocket session
       sessions.remove(id);
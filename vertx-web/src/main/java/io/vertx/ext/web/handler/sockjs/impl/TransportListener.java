@@ -35,6 +35,9 @@ package io.vertx.ext.web.handler.sockjs.impl;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+
+import java.nio.charset.StandardCharsets;
 
 /**
  * @author <a href="http://tfox.org">Tim Fox</a>
@@ -43,6 +46,14 @@ interface TransportListener {
 
   Future<Void> sendFrame(String body);
 
+  /**
+   * Send a frame encoded by the {@link JsonCodec}, the frame is plain ASCII. Transports writing bytes should override
+   * this to avoid the round trip through a {@code String}.
+   */
+  default Future<Void> sendFrame(Buffer body) {
+    return sendFrame(body.toString(StandardCharsets.US_ASCII));
+  }
+
   void close();
 
   void sessionClosed();
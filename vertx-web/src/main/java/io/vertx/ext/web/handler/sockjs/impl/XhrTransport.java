@@ -213,6 +213,14 @@ class XhrTransport extends BaseTransport {
       return fut;
     }
 
+    @Override
+    public Future<Void> sendFrame(Buffer body) {
+      super.beforeSend();
+      Future<Void> fut = rc.response().write(buffer(body.length() + 1).appendBuffer(body).appendByte((byte) '\n'));
+      close();
+      return fut;
+    }
+
     @Override
     public void close() {
       if (LOG.isTraceEnabled()) LOG.trace("XHR poll closing listener");
@@ -247,8 +255,20 @@ class XhrTransport extends BaseTransport {
       if (!hr) {
         rc.response().write(H_BLOCK);
       }
-      String sbody = body + "\n";
-      Buffer buff = buffer(sbody);
+      return send(buffer(body + "\n"));
+    }
+
+    @Override
+    public Future<Void> sendFrame(Buffer body) {
+      boolean hr = headersWritten;
+      super.beforeSend();
+      if (!hr) {
+        rc.response().write(H_BLOCK);
+      }
+      return send(buffer(body.length() + 1).appendBuffer(body).appendByte((byte) '\n'));
+    }
+
+    private Future<Void> send(Buffer buff) {
       Future<Void> fut = rc.response().write(buff);
       bytesSent += buff.length();
       if (bytesSent >= maxBytesStreaming) {
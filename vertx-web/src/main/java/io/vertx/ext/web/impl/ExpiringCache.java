@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.ext.web.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.json.JsonObject;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * A bounded concurrent cache of asynchronously loaded values that expire.
+ * <p>
+ * Concurrent lookups of a missing key share a single load, failed loads are not cached. Each value has its own time
+ * to live, computed when it is loaded. When the cache is full, expired entries are purged, at most once per second,
+ * and then arbitrary loaded entries are evicted. Entries being loaded are never evicted, so the cache can exceed its
+ * maximum size by the number of concurrent loads.
+ * <p>
+ * The cache can be shared by all the event loops, the futures it returns always complete on the caller's context.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public final class ExpiringCache<K, V> {
+
+  private static final long PURGE_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+  private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+  private final int maxSize;
+  private final ToLongFunction<V> ttl;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final AtomicLong lastPurge = new AtomicLong(System.nanoTime() - PURGE_INTERVAL);
+
+  /**
+   * @param maxSize the maximum number of entries
+   * @param ttl the time to live in milliseconds of a loaded value, a value with a time to live {@code <= 0} is not
+   *            cached
+   */
+  public ExpiringCache(int maxSize, ToLongFunction<V> ttl) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("maxSize must be >= 1");
+    }
+    this.maxSize = maxSize;
+    this.ttl = ttl;
+  }
+
+  /**
+   * Get the value of {@code key}, loading it if it is missing or expired.
+   *
+   * @param context the context of the caller
+   * @param key the key
+   * @param loader the loader of missing values
+   * @return a future of the value completed on {@code context}
+   */
+  public Future<V> get(ContextInternal context, K key, Function<K, Future<V>> loader) {
+    long now = System.nanoTime();
+    Entry<V> entry = entries.get(key);
+    if (entry != null && !entry.isExpired(now)) {
+      hits.increment();
+      return entry.future(context);
+    }
+    misses.increment();
+    Entry<V> loading = new Entry<>();
+    if (entry != null ? entries.replace(key, entry, loading) : entries.putIfAbsent(key, loading) == null) {
+      ensureCapacity(now);
+      Future<V> future;
+      try {
+        future = loader.apply(key);
+      } catch (RuntimeException e) {
+        future = Future.failedFuture(e);
+      }
+      future.onComplete(ar -> {
+        if (ar.succeeded()) {
+          long ttlMillis = ttl.applyAsLong(ar.result());
+          if (ttlMillis > 0) {
+            loading.expiresAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+          } else {
+            entries.remove(key, loading);
+          }
+        } else {
+          entries.remove(key, loading);
+        }
+        loading.promise.handle(ar);
+      });
+      return loading.future(context);
+    }
+    // another caller is loading the value or has just loaded it
+    Entry<V> current = entries.get(key);
+    if (current != null) {
+      return current.future(context);
+    }
+    return get(context, key, loader);
+  }
+
+  /**
+   * Remove the value of a key.
+   */
+  public void invalidate(K key) {
+    entries.remove(key);
+  }
+
+  /**
+   * Remove all the values.
+   */
+  public void invalidateAll() {
+    entries.clear();
+  }
+
+  /**
+   * @return whether the cache holds an entry for {@code key}, loaded or being loaded
+   */
+  public boolean contains(K key) {
+    return entries.containsKey(key);
+  }
+
+  /**
+   * @return the maximum number of entries
+   */
+  public int maxSize() {
+    return maxSize;
+  }
+
+  /**
+   * @return the number of entries, including the expired ones not yet purged
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * @return the hits, misses, evictions and size of the cache
+   */
+  public JsonObject metrics() {
+    return new JsonObject()
+      .put("hits", hits.sum())
+      .put("misses", misses.sum())
+      .put("evictions", evictions.sum())
+      .put("size", entries.size());
+  }
+
+  private void ensureCapacity(long now) {
+    if (entries.size() <= maxSize) {
+      return;
+    }
+    // a full scan per miss would be too expensive, expired entries are purged at most once per interval
+    long last = lastPurge.get();
+    if (now - last >= PURGE_INTERVAL && lastPurge.compareAndSet(last, now)) {
+      entries.values().removeIf(entry -> entry.isExpired(now));
+      if (entries.size() <= maxSize) {
+        return;
+      }
+    }
+    // evicting an entry being loaded would start a second load of its key
+    Iterator<Entry<V>> it = entries.values().iterator();
+    while (entries.size() > maxSize && it.hasNext()) {
+      if (it.next().isLoaded()) {
+        it.remove();
+        evictions.increment();
+      }
+    }
+  }
+
+  private static final class Entry<V> {
+
+    private final Promise<V> promise = Promise.promise();
+    // 0 while loading
+    private volatile long expiresAt;
+
+    boolean isLoaded() {
+      return expiresAt != 0;
+    }
+
+    boolean isExpired(long now) {
+      long expiresAt = this.expiresAt;
+      return expiresAt != 0 && expiresAt - now <= 0;
+    }
+
+    Future<V> future(ContextInternal context) {
+      Future<V> future = promise.future();
+      if (future.isComplete()) {
+        return future.succeeded() ? context.succeededFuture(future.result()) : context.failedFuture(future.cause());
+      }
+      Promise<V> promise = context.promise();
+      future.onComplete(promise);
+      return promise.future();
+    }
+  }
+}
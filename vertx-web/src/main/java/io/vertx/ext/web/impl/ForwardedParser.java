@@ -21,6 +21,7 @@ package io.vertx.ext.web.impl;
 
 import io.netty.util.AsciiString;
 import io.netty.util.NetUtil;
+import io.vertx.core.http.HttpConnection;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.internal.logging.Logger;
 import io.vertx.core.internal.logging.LoggerFactory;
@@ -28,8 +29,9 @@ import io.vertx.core.net.HostAndPort;
 import io.vertx.core.net.SocketAddress;
 import io.vertx.ext.web.AllowForwardHeaders;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
 
 class ForwardedParser {
   private static final Logger LOG = LoggerFactory.getLogger(RouterImpl.class);
@@ -43,20 +45,26 @@ class ForwardedParser {
   private static final AsciiString X_FORWARDED_PORT = AsciiString.cached("X-Forwarded-Port");
   private static final AsciiString X_FORWARDED_FOR = AsciiString.cached("X-Forwarded-For");
 
-  private static final Pattern FORWARDED_HOST_PATTERN = Pattern.compile("host=\"?([^;,\"]+)\"?", Pattern.CASE_INSENSITIVE);
-  private static final Pattern FORWARDED_PROTO_PATTERN = Pattern.compile("proto=\"?([^;,\"]+)\"?", Pattern.CASE_INSENSITIVE);
-  private static final Pattern FORWARDED_FOR_PATTERN = Pattern.compile("for=\"?([^;,\"]+)\"?", Pattern.CASE_INSENSITIVE);
+  // indexes of the raw header values
+  private static final int FORWARDED_IDX = 0;
+  private static final int X_FORWARDED_SSL_IDX = 1;
+  private static final int X_FORWARDED_PROTO_IDX = 2;
+  private static final int X_FORWARDED_HOST_IDX = 3;
+  private static final int X_FORWARDED_PORT_IDX = 4;
+  private static final int X_FORWARDED_FOR_IDX = 5;
+
+  /**
+   * The last resolution of each connection, requests of a keep-alive connection or streams of an HTTP/2 connection
+   * sent by a proxy usually carry the same headers. A connection is served by a single event loop, the map is per
+   * thread and the connections are weakly referenced so closed connections are dropped.
+   */
+  private static final ThreadLocal<Map<HttpConnection, Resolution>> RESOLUTIONS = ThreadLocal.withInitial(WeakHashMap::new);
 
   private final HttpServerRequest delegate;
   private final AllowForwardHeaders allowForward;
 
-  private boolean calculated;
-  private HostAndPort authority;
-  private String host;
-  private int port = -1;
-  private String scheme;
+  private Resolution resolution;
   private String absoluteURI;
-  private SocketAddress remoteAddress;
 
   ForwardedParser(HttpServerRequest delegate, AllowForwardHeaders allowForward) {
     this.delegate = delegate;
@@ -64,133 +72,255 @@ class ForwardedParser {
   }
 
   public String scheme() {
-    if (!calculated)
-      calculate();
-    return scheme;
+    return resolution().scheme;
   }
 
   HostAndPort authority() {
-    if (!calculated) {
-      calculate();
-    }
-    return authority;
+    return resolution().authority;
   }
 
   boolean isSSL() {
-    if (!calculated)
-      calculate();
-
-    return scheme.equals(HTTPS_SCHEME);
+    return resolution().scheme.equals(HTTPS_SCHEME);
   }
 
   String absoluteURI() {
-    if (!calculated)
-      calculate();
-
+    if (absoluteURI == null) {
+      Resolution resolution = resolution();
+      if (resolution.host != null) {
+        absoluteURI = resolution.scheme + "://" + resolution.host + delegate.uri();
+      }
+    }
     return absoluteURI;
   }
 
   SocketAddress remoteAddress() {
-    if (!calculated)
-      calculate();
+    return resolution().remoteAddress;
+  }
 
-    return remoteAddress;
+  private Resolution resolution() {
+    if (resolution == null) {
+      resolution = resolve();
+    }
+    return resolution;
   }
 
   /**
-   * Parses the current {@code Forward} header if present.
+   * Resolves the request scheme, authority and remote address from the forward headers, or reuses the resolution of
+   * the previous request of the connection when it has the same headers.
    */
-  private void calculate() {
-    calculated = true;
-    remoteAddress = delegate.remoteAddress();
-    scheme = delegate.scheme();
-
+  private Resolution resolve() {
+    String[] headers = new String[6];
+    switch (allowForward) {
+      case X_FORWARD:
+        readXForward(headers);
+        break;
+      case FORWARD:
+        headers[FORWARDED_IDX] = delegate.getHeader(FORWARDED);
+        break;
+      case ALL:
+        readXForward(headers);
+        headers[FORWARDED_IDX] = delegate.getHeader(FORWARDED);
+        break;
+      case NONE:
+      default:
+        break;
+    }
+    String scheme = delegate.scheme();
     HostAndPort authority = delegate.authority();
-    if (authority != null) {
-      setHostAndPort(authority);
+
+    HttpConnection connection = delegate.connection();
+    if (connection == null) {
+      return calculate(scheme, authority, headers);
+    }
+    Map<HttpConnection, Resolution> resolutions = RESOLUTIONS.get();
+    Resolution resolution = resolutions.get(connection);
+    if (resolution == null || !resolution.matches(allowForward, scheme, authority, headers)) {
+      resolution = calculate(scheme, authority, headers);
+      resolutions.put(connection, resolution);
+    }
+    return resolution;
+  }
+
+  private void readXForward(String[] headers) {
+    headers[X_FORWARDED_SSL_IDX] = delegate.getHeader(X_FORWARDED_SSL);
+    headers[X_FORWARDED_PROTO_IDX] = delegate.getHeader(X_FORWARDED_PROTO);
+    headers[X_FORWARDED_HOST_IDX] = delegate.getHeader(X_FORWARDED_HOST);
+    headers[X_FORWARDED_PORT_IDX] = delegate.getHeader(X_FORWARDED_PORT);
+    headers[X_FORWARDED_FOR_IDX] = delegate.getHeader(X_FORWARDED_FOR);
+  }
+
+  private Resolution calculate(String requestScheme, HostAndPort requestAuthority, String[] headers) {
+    Calculation calc = new Calculation(requestScheme, delegate.remoteAddress());
+
+    if (requestAuthority != null) {
+      calc.setHostAndPort(requestAuthority);
     }
 
     switch (allowForward) {
       case X_FORWARD:
-        calculateXForward();
+        calculateXForward(calc, headers);
         break;
       case FORWARD:
-        calculateForward();
+        calculateForward(calc, headers[FORWARDED_IDX]);
         break;
       case ALL:
-        calculateXForward();
-        calculateForward();
+        calculateXForward(calc, headers);
+        calculateForward(calc, headers[FORWARDED_IDX]);
         break;
       case NONE:
       default:
         break;
     }
 
+    String scheme = calc.scheme;
+    int port = calc.port;
     if (((scheme.equalsIgnoreCase(HTTP_SCHEME) && port == 80) || (scheme.equalsIgnoreCase(HTTPS_SCHEME) && port == 443))) {
       port = -1;
     }
 
-    if (host != null) {
-      this.authority = HostAndPort.create(host, port);
-      host = host + (port >= 0 ? ":" + port : "");
-      absoluteURI = scheme + "://" + host + delegate.uri();
+    HostAndPort authority = null;
+    String host = null;
+    if (calc.host != null) {
+      authority = HostAndPort.create(calc.host, port);
+      host = calc.host + (port >= 0 ? ":" + port : "");
     }
+    return new Resolution(allowForward, requestScheme, requestAuthority, headers, scheme, authority, host, calc.remoteAddress);
   }
 
-  private void calculateForward() {
-    String forwarded = delegate.getHeader(FORWARDED);
-    if (forwarded != null) {
-      String forwardedToUse = forwarded.split(",")[0];
-      Matcher matcher = FORWARDED_PROTO_PATTERN.matcher(forwardedToUse);
-      if (matcher.find()) {
-        scheme = (matcher.group(1).trim());
-        port = -1;
+  /**
+   * Single pass over the first element of a {@code Forwarded} header as specified by RFC 7239: elements are separated
+   * by commas, pairs by semicolons and values are tokens or quoted strings. Parameter names are case-insensitive and
+   * the first occurrence of a parameter wins.
+   */
+  private void calculateForward(Calculation calc, String forwarded) {
+    if (forwarded == null) {
+      return;
+    }
+    String proto = null;
+    String host = null;
+    String forValue = null;
+    int len = forwarded.length();
+    int i = 0;
+    while (i < len) {
+      i = skipWhitespace(forwarded, i);
+      int nameStart = i;
+      while (i < len) {
+        char c = forwarded.charAt(i);
+        if (c == '=' || c == ';' || c == ',') {
+          break;
+        }
+        i++;
       }
-
-      matcher = FORWARDED_HOST_PATTERN.matcher(forwardedToUse);
-      if (matcher.find()) {
-        setHostAndPort(HostAndPort.parseAuthority(matcher.group(1).trim(), -1));
+      int nameEnd = i;
+      while (nameEnd > nameStart && isWhitespace(forwarded.charAt(nameEnd - 1))) {
+        nameEnd--;
       }
-
-      matcher = FORWARDED_FOR_PATTERN.matcher(forwardedToUse);
-      if (matcher.find()) {
-        remoteAddress = parseFor(matcher.group(1).trim(), remoteAddress.port());
+      if (i < len && forwarded.charAt(i) == '=') {
+        i = skipWhitespace(forwarded, i + 1);
+        String value;
+        if (i < len && forwarded.charAt(i) == '"') {
+          int end = i + 1;
+          StringBuilder sb = null;
+          while (end < len && forwarded.charAt(end) != '"') {
+            if (forwarded.charAt(end) == '\\' && end + 1 < len) {
+              if (sb == null) {
+                sb = new StringBuilder().append(forwarded, i + 1, end);
+              }
+              end++;
+            }
+            if (sb != null) {
+              sb.append(forwarded.charAt(end));
+            }
+            end++;
+          }
+          value = sb != null ? sb.toString() : forwarded.substring(i + 1, end);
+          i = end + 1;
+        } else {
+          int end = i;
+          while (end < len && forwarded.charAt(end) != ';' && forwarded.charAt(end) != ',') {
+            end++;
+          }
+          value = forwarded.substring(i, end);
+          i = end;
+        }
+        value = value.trim();
+        if (!value.isEmpty()) {
+          int nameLen = nameEnd - nameStart;
+          if (proto == null && nameLen == 5 && forwarded.regionMatches(true, nameStart, "proto", 0, 5)) {
+            proto = value;
+          } else if (host == null && nameLen == 4 && forwarded.regionMatches(true, nameStart, "host", 0, 4)) {
+            host = value;
+          } else if (forValue == null && nameLen == 3 && forwarded.regionMatches(true, nameStart, "for", 0, 3)) {
+            forValue = value;
+          }
+        }
+        // skip anything up to the next pair
+        while (i < len && forwarded.charAt(i) != ';' && forwarded.charAt(i) != ',') {
+          i++;
+        }
       }
+      if (i < len && forwarded.charAt(i) == ',') {
+        // only the first element, the one of the closest proxy to the client, is considered
+        break;
+      }
+      i++;
+    }
+
+    if (proto != null) {
+      calc.scheme = proto;
+      calc.port = -1;
+    }
+    if (host != null) {
+      calc.setHostAndPort(HostAndPort.parseAuthority(host, -1));
+    }
+    if (forValue != null) {
+      calc.remoteAddress = parseFor(forValue, calc.remoteAddress.port());
     }
   }
 
-  private void calculateXForward() {
-    String forwardedSsl = delegate.getHeader(X_FORWARDED_SSL);
+  private void calculateXForward(Calculation calc, String[] headers) {
+    String forwardedSsl = headers[X_FORWARDED_SSL_IDX];
     boolean isForwardedSslOn = forwardedSsl != null && forwardedSsl.equalsIgnoreCase("on");
 
-    String protocolHeader = delegate.getHeader(X_FORWARDED_PROTO);
+    String protocolHeader = headers[X_FORWARDED_PROTO_IDX];
     if (protocolHeader != null) {
-      scheme = protocolHeader.split(",")[0];
-      port = -1;
+      calc.scheme = firstValue(protocolHeader);
+      calc.port = -1;
     } else if (isForwardedSslOn) {
-      scheme = HTTPS_SCHEME;
-      port = -1;
+      calc.scheme = HTTPS_SCHEME;
+      calc.port = -1;
     }
 
-    String hostHeader = delegate.getHeader(X_FORWARDED_HOST);
+    String hostHeader = headers[X_FORWARDED_HOST_IDX];
     if (hostHeader != null) {
-      setHostAndPort(HostAndPort.parseAuthority(hostHeader.split(",")[0], -1));
+      calc.setHostAndPort(HostAndPort.parseAuthority(firstValue(hostHeader), -1));
     }
 
-    String portHeader = delegate.getHeader(X_FORWARDED_PORT);
+    String portHeader = headers[X_FORWARDED_PORT_IDX];
     if (portHeader != null) {
-      port = parsePort(portHeader.split(",")[0], port);
+      calc.port = parsePort(firstValue(portHeader), calc.port);
     }
 
-    String forHeader = delegate.getHeader(X_FORWARDED_FOR);
+    String forHeader = headers[X_FORWARDED_FOR_IDX];
     if (forHeader != null) {
-      remoteAddress = parseFor(forHeader.split(",")[0], remoteAddress.port());
+      calc.remoteAddress = parseFor(firstValue(forHeader), calc.remoteAddress.port());
     }
   }
 
-  private void  setHostAndPort(HostAndPort authority) {
-    host = authority.host();
-    port = authority.port();
+  private static String firstValue(String header) {
+    int idx = header.indexOf(',');
+    return idx == -1 ? header : header.substring(0, idx);
+  }
+
+  private static boolean isWhitespace(char c) {
+    return c == ' ' || c == '\t';
+  }
+
+  private static int skipWhitespace(String s, int i) {
+    while (i < s.length() && isWhitespace(s.charAt(i))) {
+      i++;
+    }
+    return i;
   }
 
   private SocketAddress parseFor(String forToParse, int defaultPort) {
@@ -226,4 +356,73 @@ class ForwardedParser {
       return defaultPort;
     }
   }
+
+  /**
+   * The mutable state of a resolution.
+   */
+  private static final class Calculation {
+
+    private String scheme;
+    private String host;
+    private int port = -1;
+    private SocketAddress remoteAddress;
+
+    Calculation(String scheme, SocketAddress remoteAddress) {
+      this.scheme = scheme;
+      this.remoteAddress = remoteAddress;
+    }
+
+    void setHostAndPort(HostAndPort authority) {
+      host = authority.host();
+      port = authority.port();
+    }
+  }
+
+  /**
+   * A resolution and the inputs it was calculated from.
+   */
+  private static final class Resolution {
+
+    private final AllowForwardHeaders allowForward;
+    private final String requestScheme;
+    private final HostAndPort requestAuthority;
+    private final String[] headers;
+
+    private final String scheme;
+    private final HostAndPort authority;
+    // host and port, when the port is not the default one
+    private final String host;
+    private final SocketAddress remoteAddress;
+
+    Resolution(AllowForwardHeaders allowForward, String requestScheme, HostAndPort requestAuthority, String[] headers,
+               String scheme, HostAndPort authority, String host, SocketAddress remoteAddress) {
+      this.allowForward = allowForward;
+      this.requestScheme = requestScheme;
+      this.requestAuthority = requestAuthority;
+      this.headers = headers;
+      this.scheme = scheme;
+      this.authority = authority;
+      this.host = host;
+      this.remoteAddress = remoteAddress;
+    }
+
+    boolean matches(AllowForwardHeaders allowForward, String requestScheme, HostAndPort requestAuthority, String[] headers) {
+      if (this.allowForward != allowForward || !Objects.equals(this.requestScheme, requestScheme)) {
+        return false;
+      }
+      if (this.requestAuthority != requestAuthority) {
+        if (this.requestAuthority == null || requestAuthority == null
+          || this.requestAuthority.port() != requestAuthority.port()
+          || !this.requestAuthority.host().equals(requestAuthority.host())) {
+          return false;
+        }
+      }
+      for (int i = 0; i < headers.length; i++) {
+        if (!Objects.equals(this.headers[i], headers[i])) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
 }
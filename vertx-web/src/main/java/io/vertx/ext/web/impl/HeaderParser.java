@@ -5,6 +5,7 @@ import io.vertx.core.internal.logging.LoggerFactory;
 import io.vertx.ext.web.ParsedHeaderValue;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -19,6 +20,72 @@ public class HeaderParser {
   private static final Comparator<ParsedHeaderValue> HEADER_SORTER =
     (ParsedHeaderValue left, ParsedHeaderValue right) -> right.weightedOrder() - left.weightedOrder();
 
+  /**
+   * Bound of a header value cache, clients choose the header values so a cache can't grow without limit.
+   */
+  private static final int MAX_CACHED_VALUES = 1024;
+
+  /**
+   * Values longer than this are unlikely to be repeated and are never cached.
+   */
+  private static final int MAX_CACHED_VALUE_LENGTH = 512;
+
+  /**
+   * Creates a cache for {@link #cached(Map, String, Function)}.
+   */
+  public static <V> Map<String, V> newCache() {
+    return new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Memoizes the result of a function of a header value. Clients send a small set of distinct values for the headers
+   * used in content negotiation, so most requests are a hash lookup. The cache is bounded, when full it is cleared.
+   * <p>
+   * The cached values are shared by all the requests, they must be immutable.
+   *
+   * @param cache  the cache created with {@link #newCache()}
+   * @param header the raw header value
+   * @param fn     the function of the header value
+   * @return the result of the function
+   */
+  public static <V> V cached(Map<String, V> cache, String header, Function<String, V> fn) {
+    if (header.length() > MAX_CACHED_VALUE_LENGTH) {
+      return fn.apply(header);
+    }
+    V value = cache.get(header);
+    if (value == null) {
+      value = fn.apply(header);
+      if (cache.size() >= MAX_CACHED_VALUES) {
+        cache.clear();
+      }
+      cache.put(header, value);
+    }
+    return value;
+  }
+
+  /**
+   * Parses and sorts a header, like {@link #sort(List)} of {@link #convertToParsedHeaderValues(String, Function)},
+   * the result is cached by raw value and is immutable.
+   *
+   * @param unparsedHeaderValue The header to parse, can be {@code null}
+   * @param objectCreator       The type to instantiate for each header
+   * @param cache               the cache created with {@link #newCache()}
+   * @return the sorted list of parsed header values
+   */
+  public static <T extends ParsedHeaderValue> List<T> parseAndSort(String unparsedHeaderValue, Function<String, T> objectCreator, Map<String, List<T>> cache) {
+    if (unparsedHeaderValue == null || unparsedHeaderValue.isEmpty()) {
+      return Collections.emptyList();
+    }
+    return cached(cache, unparsedHeaderValue, header -> {
+      List<T> values = new ArrayList<>(convertToParsedHeaderValues(header, objectCreator));
+      for (T value : values) {
+        // parse eagerly, the values are then read only and safe to share between threads
+        value.weight();
+      }
+      return Collections.unmodifiableList(sort(values));
+    });
+  }
+
   /**
    * Transforms each header value into the given ParsableHeaderValue
    *
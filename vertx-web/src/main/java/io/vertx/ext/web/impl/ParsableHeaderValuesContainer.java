@@ -1,6 +1,8 @@
 package io.vertx.ext.web.impl;
 
 import io.vertx.codegen.annotations.Nullable;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
 import io.vertx.ext.web.LanguageHeader;
 import io.vertx.ext.web.MIMEHeader;
 import io.vertx.ext.web.ParsedHeaderValue;
@@ -8,9 +10,40 @@ import io.vertx.ext.web.ParsedHeaderValues;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public class ParsableHeaderValuesContainer implements ParsedHeaderValues {
 
+  private static final Map<String, List<MIMEHeader>> ACCEPT_CACHE = HeaderParser.newCache();
+  private static final Map<String, List<ParsedHeaderValue>> ACCEPT_CHARSET_CACHE = HeaderParser.newCache();
+  private static final Map<String, List<ParsedHeaderValue>> ACCEPT_ENCODING_CACHE = HeaderParser.newCache();
+  private static final Map<String, List<LanguageHeader>> ACCEPT_LANGUAGE_CACHE = HeaderParser.newCache();
+
+  /**
+   * Parse the negotiation headers of a request, the {@code Accept*} headers are parsed once per distinct value and
+   * the parsed values are shared between requests.
+   *
+   * @param request the request
+   * @return the parsed headers
+   */
+  public static ParsableHeaderValuesContainer parse(HttpServerRequest request) {
+    String contentType = request.getHeader(HttpHeaders.CONTENT_TYPE);
+    return new ParsableHeaderValuesContainer(
+      parseAccept(request.getHeader(HttpHeaders.ACCEPT)),
+      HeaderParser.parseAndSort(request.getHeader(HttpHeaders.ACCEPT_CHARSET), ParsableHeaderValue::new, ACCEPT_CHARSET_CACHE),
+      HeaderParser.parseAndSort(request.getHeader(HttpHeaders.ACCEPT_ENCODING), ParsableHeaderValue::new, ACCEPT_ENCODING_CACHE),
+      HeaderParser.parseAndSort(request.getHeader(HttpHeaders.ACCEPT_LANGUAGE), ParsableLanguageValue::new, ACCEPT_LANGUAGE_CACHE),
+      new ParsableMIMEValue(contentType == null ? "" : contentType)
+    );
+  }
+
+  /**
+   * @return the sorted types of an {@code Accept} header, can be {@code null}
+   */
+  static List<MIMEHeader> parseAccept(String accept) {
+    return HeaderParser.parseAndSort(accept, ParsableMIMEValue::new, ACCEPT_CACHE);
+  }
+
   private final List<MIMEHeader> accept;
   private final List<ParsedHeaderValue> acceptCharset;
   private final List<ParsedHeaderValue> acceptEncoding;
@@ -50,6 +83,10 @@ public class ParsableHeaderValuesContainer implements ParsedHeaderValues {
 
   @Override
   public @Nullable MIMEHeader findBestUserAcceptedIn(List<MIMEHeader> userAccepted, Collection<MIMEHeader> in) {
+    return bestAccepted(userAccepted, in);
+  }
+
+  static @Nullable MIMEHeader bestAccepted(List<MIMEHeader> userAccepted, Collection<MIMEHeader> in) {
     for (MIMEHeader acceptableType: userAccepted) {
       MIMEHeader acceptedType = acceptableType.findMatchedBy(in);
       if (acceptedType != null) {
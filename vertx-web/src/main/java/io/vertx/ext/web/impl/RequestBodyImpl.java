@@ -25,6 +25,8 @@ import io.vertx.ext.web.MIMEHeader;
 import io.vertx.ext.web.ParsedHeaderValues;
 import io.vertx.ext.web.RoutingContext;
 
+import java.util.List;
+
 /**
  * Implementation of the Cacheable Request Body
  *
@@ -35,6 +37,9 @@ public class RequestBodyImpl implements RequestBody {
   private final RoutingContext ctx;
 
   private Buffer body;
+  // the body as received, flattened into body on first access
+  private List<Buffer> chunks;
+  private int length;
 
   // caches
   private String string;
@@ -47,15 +52,46 @@ public class RequestBodyImpl implements RequestBody {
 
   public void setBuffer(Buffer body) {
     this.body = body;
+    this.chunks = null;
     // reset caches
     string = null;
     jsonObject = null;
     jsonArray = null;
   }
 
+  public void setChunks(List<Buffer> chunks) {
+    if (chunks == null) {
+      setBuffer(null);
+    } else if (chunks.size() == 1) {
+      // nothing to assemble
+      setBuffer(chunks.get(0));
+    } else {
+      setBuffer(null);
+      int len = 0;
+      for (Buffer chunk : chunks) {
+        len += chunk.length();
+      }
+      this.chunks = chunks;
+      this.length = len;
+    }
+  }
+
+  private Buffer body() {
+    if (body == null && chunks != null) {
+      // a single copy, to the exact size
+      Buffer buffer = Buffer.buffer(length);
+      for (Buffer chunk : chunks) {
+        buffer.appendBuffer(chunk);
+      }
+      body = buffer;
+      chunks = null;
+    }
+    return body;
+  }
+
   @Override
   public @Nullable String asString() {
-    if (body == null) {
+    if (body == null && chunks == null) {
       return null;
     } else {
       if (string == null) {
@@ -65,12 +101,12 @@ public class RequestBodyImpl implements RequestBody {
           if (contentType != null) {
             String charset = contentType.parameter("charset");
             if (charset != null) {
-              string = body.toString(charset);
+              string = body().toString(charset);
               return string;
             }
           }
         }
-        string = body.toString();
+        string = body().toString();
       }
       return string;
     }
@@ -78,23 +114,23 @@ public class RequestBodyImpl implements RequestBody {
 
   @Override
   public @Nullable String asString(String encoding) {
-    if (body == null) {
+    if (body == null && chunks == null) {
       return null;
     } else {
-      return body.toString(encoding);
+      return body().toString(encoding);
     }
   }
 
   @Override
   public @Nullable JsonObject asJsonObject(int maxAllowedLength) {
-    if (body == null) {
+    if (body == null && chunks == null) {
       return null;
     } else {
       if (jsonObject == null) {
-        if (maxAllowedLength >= 0 && body.length() > maxAllowedLength) {
+        if (maxAllowedLength >= 0 && length() > maxAllowedLength) {
           throw new IllegalStateException("RoutingContext body size exceeds the allowed limit");
         }
-        jsonObject = (JsonObject) Json.decodeValue(body);
+        jsonObject = (JsonObject) Json.decodeValue(body());
       }
       return jsonObject;
     }
@@ -102,14 +138,14 @@ public class RequestBodyImpl implements RequestBody {
 
   @Override
   public @Nullable JsonArray asJsonArray(int maxAllowedLength) {
-    if (body == null) {
+    if (body == null && chunks == null) {
       return null;
     } else {
       if (jsonArray == null) {
-        if (maxAllowedLength >= 0 && body.length() > maxAllowedLength) {
+        if (maxAllowedLength >= 0 && length() > maxAllowedLength) {
           throw new IllegalStateException("RoutingContext body size exceeds the allowed limit");
         }
-        jsonArray = (JsonArray) Json.decodeValue(body);
+        jsonArray = (JsonArray) Json.decodeValue(body());
       }
       return jsonArray;
     }
@@ -117,28 +153,27 @@ public class RequestBodyImpl implements RequestBody {
 
   @Override
   public <R> @Nullable R asPojo(Class<R> clazz, int maxAllowedLength) {
-    if (body == null) {
+    if (body == null && chunks == null) {
       return null;
     } else {
-      if (maxAllowedLength >= 0 && body.length() > maxAllowedLength) {
+      if (maxAllowedLength >= 0 && length() > maxAllowedLength) {
         throw new IllegalStateException("RoutingContext body size exceeds the allowed limit");
       }
-      return Json.decodeValue(body, clazz);
+      return Json.decodeValue(body(), clazz);
     }
   }
 
   @Override
   public @Nullable Buffer buffer() {
-    return body;
+    return body();
   }
 
   @Override
   public int length() {
-    if (body == null) {
-      return -1;
-    } else {
+    if (body != null) {
       return body.length();
     }
+    return chunks == null ? -1 : length;
   }
 
   @Override
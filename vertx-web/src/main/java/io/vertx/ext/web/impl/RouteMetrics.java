@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.ext.web.impl;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The per route metrics of a router: for each route and each of its handlers, the number of calls, the number of
+ * errors and a latency histogram.
+ * <p>
+ * Each event loop records in its own {@link Recorder}, the recorders are merged when a snapshot is taken. The
+ * histograms are log-linear, like HDR histograms: the values are recorded in microseconds with a relative precision of
+ * {@code 1/8}.
+ * <p>
+ * The latency of a handler is the time between its call and the time it calls {@link io.vertx.ext.web.RoutingContext#next()}
+ * or the response ends, so it includes the asynchronous work of the handler but not the work of the handlers after it.
+ * The latency of a route is the time between the call of its first handler and the time the routing leaves it.
+ */
+final class RouteMetrics {
+
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  // ~12 days in microseconds
+  private static final int MAX_EXPONENT = 39;
+  private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+  private static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+  private static final String[] PERCENTILE_NAMES = { "p50", "p90", "p99", "p999" };
+
+  private final Map<Object, Recorder> recorders = new ConcurrentHashMap<>();
+
+  /**
+   * @return the recorder of the caller's event loop
+   */
+  Recorder recorder() {
+    Context context = Vertx.currentContext();
+    Object key = context != null ? ((ContextInternal) context).nettyEventLoop() : this;
+    Recorder recorder = recorders.get(key);
+    if (recorder == null) {
+      recorder = recorders.computeIfAbsent(key, k -> new Recorder());
+    }
+    return recorder;
+  }
+
+  /**
+   * @return the merged metrics of all the event loops
+   */
+  JsonObject snapshot() {
+    Map<RouteImpl, Merged> routes = new IdentityHashMap<>();
+    for (Recorder recorder : recorders.values()) {
+      recorder.routes.forEach((route, routeRecorder) -> routes.computeIfAbsent(route, r -> new Merged()).add(routeRecorder));
+    }
+    // routes ordered like the router does
+    List<RouteImpl> sorted = new ArrayList<>(routes.keySet());
+    sorted.sort(Comparator.comparingInt(RouteImpl::order));
+    JsonArray json = new JsonArray();
+    for (RouteImpl route : sorted) {
+      Merged merged = routes.get(route);
+      JsonArray methods = new JsonArray();
+      for (HttpMethod method : route.methods()) {
+        methods.add(method.name());
+      }
+      JsonObject entry = new JsonObject()
+        .put("name", route.getName())
+        .put("order", route.order())
+        .put("methods", methods);
+      merged.route.toJson(entry);
+      JsonArray handlers = new JsonArray();
+      for (int i = 0; i < merged.handlers.size(); i++) {
+        handlers.add(merged.handlers.get(i).toJson(new JsonObject().put("index", i)));
+      }
+      json.add(entry.put("handlers", handlers));
+    }
+    return new JsonObject().put("routes", json);
+  }
+
+  /**
+   * The metrics recorded by an event loop.
+   */
+  static final class Recorder {
+
+    private final Map<RouteImpl, RouteRecorder> routes = new ConcurrentHashMap<>();
+
+    RouteRecorder route(RouteImpl route) {
+      RouteRecorder recorder = routes.get(route);
+      if (recorder == null) {
+        recorder = routes.computeIfAbsent(route, r -> new RouteRecorder());
+      }
+      return recorder;
+    }
+  }
+
+  static final class RouteRecorder {
+
+    final Histogram route = new Histogram();
+    private volatile Histogram[] handlers = new Histogram[0];
+
+    Histogram handler(int index) {
+      Histogram[] handlers = this.handlers;
+      if (index < handlers.length) {
+        return handlers[index];
+      }
+      return grow(index);
+    }
+
+    private synchronized Histogram grow(int index) {
+      Histogram[] handlers = this.handlers;
+      if (index >= handlers.length) {
+        Histogram[] copy = new Histogram[index + 1];
+        System.arraycopy(handlers, 0, copy, 0, handlers.length);
+        for (int i = handlers.length; i < copy.length; i++) {
+          copy[i] = new Histogram();
+        }
+        this.handlers = handlers = copy;
+      }
+      return handlers[index];
+    }
+  }
+
+  /**
+   * A latency histogram with its error count, written by a single event loop and read by snapshots.
+   */
+  static final class Histogram {
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    void record(long nanos, boolean error) {
+      long micros = Math.max(nanos / 1000, 0);
+      buckets.incrementAndGet(bucket(micros));
+      sum.addAndGet(micros);
+      if (micros > max.get()) {
+        max.accumulateAndGet(micros, Math::max);
+      }
+      if (error) {
+        errors.incrementAndGet();
+      }
+    }
+
+    static final class Snapshot {
+
+      private final long[] buckets = new long[BUCKETS];
+      private long errors;
+      private long sum;
+      private long max;
+
+      void add(Histogram histogram) {
+        for (int i = 0; i < BUCKETS; i++) {
+          buckets[i] += histogram.buckets.get(i);
+        }
+        errors += histogram.errors.get();
+        sum += histogram.sum.get();
+        max = Math.max(max, histogram.max.get());
+      }
+
+      JsonObject toJson(JsonObject json) {
+        long count = 0;
+        for (long bucket : buckets) {
+          count += bucket;
+        }
+        JsonObject latency = new JsonObject()
+          .put("mean", count == 0 ? 0.0 : millis(sum) / count)
+          .put("max", millis(max));
+        for (int i = 0; i < PERCENTILES.length; i++) {
+          latency.put(PERCENTILE_NAMES[i], millis(Math.min(percentile(count, PERCENTILES[i]), max)));
+        }
+        return json
+          .put("count", count)
+          .put("errors", errors)
+          .put("latency", latency);
+      }
+
+      private long percentile(long count, double percentile) {
+        if (count == 0) {
+          return 0;
+        }
+        long rank = Math.max((long) Math.ceil(count * percentile / 100), 1);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+          seen += buckets[i];
+          if (seen >= rank) {
+            return highestValue(i);
+          }
+        }
+        return max;
+      }
+
+      private static double millis(long micros) {
+        return micros / 1000.0;
+      }
+    }
+  }
+
+  static int bucket(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int exponent = Math.min(63 - Long.numberOfLeadingZeros(value), MAX_EXPONENT);
+    int sub = (int) (Math.min(value >>> (exponent - SUB_BUCKET_BITS), 2 * SUB_BUCKETS - 1) & (SUB_BUCKETS - 1));
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+  }
+
+  static long highestValue(int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+    int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+    int sub = bucket % SUB_BUCKETS;
+    long width = 1L << (exponent - SUB_BUCKET_BITS);
+    return ((SUB_BUCKETS + sub) * width) + width - 1;
+  }
+
+  private static final class Merged {
+
+    private final Histogram.Snapshot route = new Histogram.Snapshot();
+    private final List<Histogram.Snapshot> handlers = new ArrayList<>();
+
+    void add(RouteRecorder recorder) {
+      route.add(recorder.route);
+      Histogram[] histograms = recorder.handlers;
+      for (int i = 0; i < histograms.length; i++) {
+        while (handlers.size() <= i) {
+          handlers.add(new Histogram.Snapshot());
+        }
+        handlers.get(i).add(histograms[i]);
+      }
+    }
+  }
+}
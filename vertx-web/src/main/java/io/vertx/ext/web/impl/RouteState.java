@@ -16,6 +16,7 @@
 package io.vertx.ext.web.impl;
 
 import io.vertx.core.Handler;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.internal.logging.Logger;
@@ -42,6 +43,9 @@ final class RouteState {
 
   private static final Logger LOG = LoggerFactory.getLogger(RouteState.class);
 
+  private static final Object ACCEPT_ANY = new Object();
+  private static final Object NOT_ACCEPTABLE = new Object();
+
 
   enum Priority {
     PLATFORM,
@@ -104,6 +108,10 @@ final class RouteState {
   private final boolean exactPath;
   private final Router subRouter;
 
+  // content negotiation results by raw header value, a state never changes its consumes/produces once it is matched
+  private final Map<String, Boolean> consumesCache = HeaderParser.newCache();
+  private final Map<String, Object> producesCache = HeaderParser.newCache();
+
   private RouteState(RouteImpl route, Map<String, Object> metadata, String path, String name, int order, boolean enabled, Set<HttpMethod> methods, Set<MIMEHeader> consumes, boolean emptyBodyPermittedWithConsumes, Set<MIMEHeader> produces, List<Handler<RoutingContext>> contextHandlers, List<Handler<RoutingContext>> failureHandlers, boolean added, Pattern pattern, List<String> groups, boolean useNormalizedPath, Set<String> namedGroupsInRegex, Pattern virtualHostPattern, boolean pathEndsWithSlash, boolean exclusive, boolean exactPath, Router subRouter) {
     this.route = route;
     this.metadata = metadata;
@@ -1156,21 +1164,31 @@ final class RouteState {
 
     if (!isEmpty(consumes)) {
       // Can this route consume the specified content type
-      MIMEHeader contentType = context.parsedHeaders().contentType();
-      MIMEHeader consumal = contentType.findMatchedBy(consumes);
-      if (consumal == null && !(contentType.rawValue().isEmpty() && emptyBodyPermittedWithConsumes)) {
+      String contentType = request.getHeader(HttpHeaders.CONTENT_TYPE);
+      if (contentType == null) {
+        contentType = "";
+      }
+      boolean consumable;
+      if (contentType.contains("boundary=")) {
+        // multipart boundaries are unique, don't pollute the cache with them
+        consumable = consumes(contentType);
+      } else {
+        consumable = HeaderParser.cached(consumesCache, contentType, this::consumes);
+      }
+      if (!consumable) {
         return 415;
       }
     }
     if (!isEmpty(produces)) {
-      List<MIMEHeader> acceptableTypes = context.parsedHeaders().accept();
-      if(!acceptableTypes.isEmpty()) {
-        MIMEHeader selectedAccept = context.parsedHeaders().findBestUserAcceptedIn(acceptableTypes, produces);
-        if (selectedAccept != null) {
-          context.setAcceptableContentType(selectedAccept.rawValue());
-        } else {
+      String accept = request.getHeader(HttpHeaders.ACCEPT);
+      if (accept != null) {
+        Object selectedAccept = HeaderParser.cached(producesCache, accept, this::produces);
+        if (selectedAccept == NOT_ACCEPTABLE) {
           return 406;
         }
+        if (selectedAccept != ACCEPT_ANY) {
+          context.setAcceptableContentType((String) selectedAccept);
+        }
       }
     }
     if (!virtualHostMatches(context.request())) {
@@ -1179,6 +1197,29 @@ final class RouteState {
     return 0;
   }
 
+  /**
+   * Computed from the raw header, which is the key of the cached result, the parsed headers of the context may be stale
+   * when a handler rewrote the header before rerouting.
+   */
+  private boolean consumes(String rawContentType) {
+    MIMEHeader contentType = new ParsableMIMEValue(rawContentType);
+    MIMEHeader consumal = contentType.findMatchedBy(consumes);
+    return consumal != null || (rawContentType.isEmpty() && emptyBodyPermittedWithConsumes);
+  }
+
+  /**
+   * @return the raw value of the selected type, {@link #ACCEPT_ANY} when the request accepts any type or
+   * {@link #NOT_ACCEPTABLE}
+   */
+  private Object produces(String accept) {
+    List<MIMEHeader> acceptableTypes = ParsableHeaderValuesContainer.parseAccept(accept);
+    if (acceptableTypes.isEmpty()) {
+      return ACCEPT_ANY;
+    }
+    MIMEHeader selectedAccept = ParsableHeaderValuesContainer.bestAccepted(acceptableTypes, produces);
+    return selectedAccept != null ? selectedAccept.rawValue() : NOT_ACCEPTABLE;
+  }
+
   private boolean pathMatches(String mountPoint, RoutingContext ctx) {
     final boolean rootRouter = mountPoint == null;
     final boolean pathEndsWithSlash;
@@ -22,6 +22,8 @@ import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.internal.logging.Logger;
 import io.vertx.core.internal.logging.LoggerFactory;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.AllowForwardHeaders;
 import io.vertx.ext.web.Route;
 import io.vertx.ext.web.Router;
@@ -41,6 +43,7 @@ public class RouterImpl implements Router {
   private final Vertx vertx;
 
   private volatile RouterState state;
+  private volatile RouteMetrics routeMetrics;
 
   public RouterImpl(Vertx vertx) {
     this.vertx = vertx;
@@ -287,6 +290,26 @@ public class RouterImpl implements Router {
     return this;
   }
 
+  @Override
+  public synchronized Router routeMetrics(boolean enabled) {
+    if (!enabled) {
+      routeMetrics = null;
+    } else if (routeMetrics == null) {
+      routeMetrics = new RouteMetrics();
+    }
+    return this;
+  }
+
+  @Override
+  public JsonObject routeMetricsSnapshot() {
+    RouteMetrics metrics = routeMetrics;
+    return metrics != null ? metrics.snapshot() : new JsonObject().put("routes", new JsonArray());
+  }
+
+  RouteMetrics routeMetrics() {
+    return routeMetrics;
+  }
+
   public AllowForwardHeaders getAllowForward() {
     return state.getAllowForward();
   }
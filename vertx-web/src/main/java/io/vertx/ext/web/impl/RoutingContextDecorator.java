@@ -2,6 +2,7 @@ package io.vertx.ext.web.impl;
 
 import io.vertx.codegen.annotations.Nullable;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
@@ -16,6 +17,7 @@ import java.nio.charset.Charset;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 
 /**
  * Decorate a {@link RoutingContext} and simply delegate all method calls to the decorated handler
@@ -253,11 +255,31 @@ public class RoutingContextDecorator implements RoutingContextInternal {
     decoratedContext.setBody(body);
   }
 
+  @Override
+  public void setBody(List<Buffer> chunks) {
+    decoratedContext.setBody(chunks);
+  }
+
   @Override
   public void setSession(Session session) {
     decoratedContext.setSession(session);
   }
 
+  @Override
+  public void setBodyEndFunction(Function<Buffer, Future<Void>> bodyEndFunction) {
+    decoratedContext.setBodyEndFunction(bodyEndFunction);
+  }
+
+  @Override
+  public Future<Void> end(String chunk) {
+    return decoratedContext.end(chunk);
+  }
+
+  @Override
+  public Future<Void> end(Buffer buffer) {
+    return decoratedContext.end(buffer);
+  }
+
   @Override
   public int restIndex() {
     return decoratedContext.restIndex();
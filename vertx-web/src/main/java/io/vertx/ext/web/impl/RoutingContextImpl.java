@@ -32,6 +32,7 @@ import io.vertx.ext.web.handler.impl.UserHolder;
 import java.nio.charset.Charset;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static io.vertx.ext.web.handler.impl.SessionHandlerImpl.SESSION_USER_HOLDER_KEY;
@@ -63,6 +64,7 @@ public class RoutingContextImpl extends RoutingContextImplBase {
   private List<FileUpload> fileUploads;
   private Session session;
   private UserContext identity;
+  private Function<Buffer, Future<Void>> bodyEndFunction;
 
   private volatile boolean isSessionAccessed = false;
   private volatile boolean endHandlerCalled = false;
@@ -100,26 +102,6 @@ public class RoutingContextImpl extends RoutingContextImplBase {
     }
   }
 
-  private String ensureNotNull(String string) {
-    return string == null ? "" : string;
-  }
-
-  private void fillParsedHeaders(HttpServerRequest request) {
-    String accept = request.getHeader(HttpHeaders.ACCEPT);
-    String acceptCharset = request.getHeader(HttpHeaders.ACCEPT_CHARSET);
-    String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
-    String acceptLanguage = request.getHeader(HttpHeaders.ACCEPT_LANGUAGE);
-    String contentType = ensureNotNull(request.getHeader(HttpHeaders.CONTENT_TYPE));
-
-    parsedHeaders = new ParsableHeaderValuesContainer(
-      HeaderParser.sort(HeaderParser.convertToParsedHeaderValues(accept, ParsableMIMEValue::new)),
-      HeaderParser.sort(HeaderParser.convertToParsedHeaderValues(acceptCharset, ParsableHeaderValue::new)),
-      HeaderParser.sort(HeaderParser.convertToParsedHeaderValues(acceptEncoding, ParsableHeaderValue::new)),
-      HeaderParser.sort(HeaderParser.convertToParsedHeaderValues(acceptLanguage, ParsableLanguageValue::new)),
-      new ParsableMIMEValue(contentType)
-    );
-  }
-
   @Override
   public HttpServerRequest request() {
     return request;
@@ -293,6 +275,11 @@ public class RoutingContextImpl extends RoutingContextImplBase {
     this.body.setBuffer(body);
   }
 
+  @Override
+  public void setBody(List<Buffer> chunks) {
+    this.body.setChunks(chunks);
+  }
+
   @Override
   public List<FileUpload> fileUploads() {
     if (fileUploads == null) {
@@ -327,6 +314,30 @@ public class RoutingContextImpl extends RoutingContextImplBase {
     }
   }
 
+  @Override
+  public void setBodyEndFunction(Function<Buffer, Future<Void>> bodyEndFunction) {
+    this.bodyEndFunction = bodyEndFunction;
+  }
+
+  @Override
+  public Future<Void> end(String chunk) {
+    if (bodyEndFunction != null) {
+      return end(Buffer.buffer(chunk));
+    }
+    return response().end(chunk);
+  }
+
+  @Override
+  public Future<Void> end(Buffer buffer) {
+    Function<Buffer, Future<Void>> function = bodyEndFunction;
+    if (function != null) {
+      // called once, the function ends the response itself
+      bodyEndFunction = null;
+      return function.apply(buffer);
+    }
+    return response().end(buffer);
+  }
+
   @Override
   public Session session() {
     this.isSessionAccessed = true;
@@ -359,7 +370,7 @@ public class RoutingContextImpl extends RoutingContextImplBase {
   @Override
   public ParsableHeaderValuesContainer parsedHeaders() {
     if (parsedHeaders == null) {
-      fillParsedHeaders(request);
+      parsedHeaders = ParsableHeaderValuesContainer.parse(request);
     }
     return parsedHeaders;
   }
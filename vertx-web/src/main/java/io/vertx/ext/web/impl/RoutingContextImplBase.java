@@ -69,6 +69,18 @@ public abstract class RoutingContextImplBase implements RoutingContextInternal {
 
   protected Set<MIMEHeader> allowedContentTypes = new HashSet<>();
 
+  // per route metrics, null when disabled
+  private final RouteMetrics metrics;
+  private RouteMetrics.Recorder metricsRecorder;
+  private RouteState metricsRoute;
+  private long metricsRouteStart;
+  private boolean metricsRouteFailed;
+  // index of the running handler, -1 when none or for failure handlers
+  private int metricsHandler = -1;
+  private long metricsHandlerStart;
+  private boolean metricsHandlerFailed;
+  private boolean metricsEndHandler;
+
   RoutingContextImplBase(String mountPoint, Set<RouteImpl> routes, Router currentRouter) {
     this.mountPoint = mountPoint;
     this.routes = routes;
@@ -76,6 +88,7 @@ public abstract class RoutingContextImplBase implements RoutingContextInternal {
     this.securityAudit = SecurityAudit.NOOP;
 
     this.currentRouter = currentRouter;
+    this.metrics = currentRouter instanceof RouterImpl ? ((RouterImpl) currentRouter).routeMetrics() : null;
     resetMatchFailure();
   }
 
@@ -151,15 +164,24 @@ public abstract class RoutingContextImplBase implements RoutingContextInternal {
 
   boolean iterateNext() {
     boolean failed = failed();
+    if (metrics != null) {
+      metricsHandlerExit(System.nanoTime(), false);
+    }
     if (currentRoute != null) { // Handle multiple handlers inside route object
       try {
         if (!failed && currentRoute.hasNextContextHandler(this)) {
-          CURRENT_ROUTE_NEXT_HANDLER_INDEX.incrementAndGet(this);
+          int index = CURRENT_ROUTE_NEXT_HANDLER_INDEX.incrementAndGet(this);
           resetMatchFailure();
+          if (metrics != null) {
+            metricsEnter(currentRoute, index - 1);
+          }
           currentRoute.handleContext(this);
           return true;
         } else if (failed && currentRoute.hasNextFailureHandler(this)) {
           CURRENT_ROUTE_NEXT_FAILURE_HANDLER_INDEX.incrementAndGet(this);
+          if (metrics != null) {
+            metricsEnter(currentRoute, -1);
+          }
           currentRoute.handleFailure(this);
           return true;
         }
@@ -190,9 +212,15 @@ public abstract class RoutingContextImplBase implements RoutingContextInternal {
             }
             if (failed && currentRoute.hasNextFailureHandler(this)) {
               CURRENT_ROUTE_NEXT_FAILURE_HANDLER_INDEX.incrementAndGet(this);
+              if (metrics != null) {
+                metricsEnter(routeState, -1);
+              }
               routeState.handleFailure(this);
             } else if (currentRoute.hasNextContextHandler(this)) {
               CURRENT_ROUTE_NEXT_HANDLER_INDEX.incrementAndGet(this);
+              if (metrics != null) {
+                metricsEnter(routeState, 0);
+              }
               routeState.handleContext(this);
             } else {
               continue;
@@ -228,9 +256,59 @@ public abstract class RoutingContextImplBase implements RoutingContextInternal {
         return true;
       }
     }
+    if (metrics != null) {
+      // the routing leaves this router
+      metricsRouteExit(System.nanoTime(), false);
+    }
     return false;
   }
 
+  private void metricsEnter(RouteState route, int handler) {
+    long now = System.nanoTime();
+    if (route != metricsRoute) {
+      metricsRouteExit(now, false);
+      metricsRoute = route;
+      metricsRouteStart = now;
+      metricsRouteFailed = failed();
+    }
+    metricsHandler = handler;
+    metricsHandlerStart = now;
+    metricsHandlerFailed = failed();
+    if (!metricsEndHandler) {
+      metricsEndHandler = true;
+      addEndHandler(ar -> {
+        // the response ended, or the connection was closed before
+        boolean error = ar.failed() || response().getStatusCode() >= 500;
+        long end = System.nanoTime();
+        metricsHandlerExit(end, error);
+        metricsRouteExit(end, error);
+      });
+    }
+  }
+
+  private void metricsHandlerExit(long now, boolean error) {
+    if (metricsHandler != -1) {
+      boolean failed = error || (!metricsHandlerFailed && failed());
+      metricsRecorder().route(metricsRoute.getRoute()).handler(metricsHandler).record(now - metricsHandlerStart, failed);
+      metricsHandler = -1;
+    }
+  }
+
+  private void metricsRouteExit(long now, boolean error) {
+    if (metricsRoute != null) {
+      boolean failed = error || (!metricsRouteFailed && failed());
+      metricsRecorder().route(metricsRoute.getRoute()).route.record(now - metricsRouteStart, failed);
+      metricsRoute = null;
+    }
+  }
+
+  private RouteMetrics.Recorder metricsRecorder() {
+    if (metricsRecorder == null) {
+      metricsRecorder = metrics.recorder();
+    }
+    return metricsRecorder;
+  }
+
   private void handleInHandlerRuntimeFailure(RouterImpl router, boolean failed, Throwable t) {
     if (!failed) {
       if (LOG.isTraceEnabled()) {
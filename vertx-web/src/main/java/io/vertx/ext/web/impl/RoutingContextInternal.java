@@ -17,12 +17,16 @@ package io.vertx.ext.web.impl;
 
 import io.vertx.codegen.annotations.CacheReturn;
 import io.vertx.codegen.annotations.Nullable;
+import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.ext.auth.audit.SecurityAudit;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.Session;
 
+import java.util.List;
+import java.util.function.Function;
+
 /**
  * Internal methods that are not expected or prime to be in the public API
  *
@@ -81,6 +85,14 @@ public interface RoutingContextInternal extends RoutingContext {
    */
   void setBody(Buffer body);
 
+  /**
+   * Set the body from the chunks it was received in. Used by the {@link io.vertx.ext.web.handler.BodyHandler}, the
+   * chunks are only copied into a single buffer when the buffer is accessed.
+   *
+   * @param chunks  the chunks of the body, in order
+   */
+  void setBody(List<Buffer> chunks);
+
   /**
    * Set the session. Used by the {@link io.vertx.ext.web.handler.SessionHandler}.
    *
@@ -88,6 +100,15 @@ public interface RoutingContextInternal extends RoutingContext {
    */
   void setSession(Session session);
 
+  /**
+   * Set the function ending the response in place of {@link #end(Buffer)}, {@link #end(String)} and
+   * {@link #json(Object)}, it is called once with the full body. Used by the
+   * {@link io.vertx.ext.web.handler.ConditionalResponseHandler}.
+   *
+   * @param bodyEndFunction  the function, or {@code null} to end the response directly
+   */
+  void setBodyEndFunction(Function<Buffer, Future<Void>> bodyEndFunction);
+
   int restIndex();
 
   boolean normalizedMatch();
@@ -18,6 +18,7 @@ package io.vertx.ext.web.impl;
 
 import io.vertx.codegen.annotations.Nullable;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.Vertx;
@@ -31,6 +32,7 @@ import java.nio.charset.Charset;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
 /**
  * @author <a href="http://tfox.org">Tim Fox</a>
@@ -167,6 +169,21 @@ public class RoutingContextWrapper extends RoutingContextImplBase {
     inner.setSession(session);
   }
 
+  @Override
+  public void setBodyEndFunction(Function<Buffer, Future<Void>> bodyEndFunction) {
+    inner.setBodyEndFunction(bodyEndFunction);
+  }
+
+  @Override
+  public Future<Void> end(String chunk) {
+    return inner.end(chunk);
+  }
+
+  @Override
+  public Future<Void> end(Buffer buffer) {
+    return inner.end(buffer);
+  }
+
   @Override
   public Session session() {
     return inner.session();
@@ -232,6 +249,11 @@ public class RoutingContextWrapper extends RoutingContextImplBase {
     inner.setBody(body);
   }
 
+  @Override
+  public void setBody(List<Buffer> chunks) {
+    inner.setBody(chunks);
+  }
+
   @Override
   public List<FileUpload> fileUploads() {
     return inner.fileUploads();
@@ -25,63 +25,70 @@ import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.util.Arrays;
 
 public class Signature {
   private static final Logger LOG = LoggerFactory.getLogger(Signature.class);
   private static final String algorithm = "HmacSHA256";
 
-  private final Mac mac;
+  private final SecretKeySpec key;
+  // a Mac is not thread safe, each thread reuses its own instead of locking a shared one
+  private final ThreadLocal<Mac> mac;
 
   public Signature(final String secret) {
+    if (secret.length() <= 8) {
+      LOG.warn("Signing secret is very short (<= 8 bytes)");
+    }
+    key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), algorithm);
+    // fail fast on an invalid key
+    Mac initial = newMac();
+    mac = ThreadLocal.withInitial(this::newMac);
+    mac.set(initial);
+  }
+
+  private Mac newMac() {
     try {
-      if (secret.length() <= 8) {
-        LOG.warn("Signing secret is very short (<= 8 bytes)");
-      }
-      mac = Mac.getInstance(algorithm);
-      mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), algorithm));
+      Mac mac = Mac.getInstance(algorithm);
+      mac.init(key);
+      return mac;
     } catch (NoSuchAlgorithmException | InvalidKeyException e) {
       throw new RuntimeException(e);
     }
   }
 
+  /**
+   * @return the base64url encoded signature of {@code data}
+   */
+  public String signature(String data) {
+    return Utils.base64UrlEncode(mac.get().doFinal(data.getBytes(StandardCharsets.US_ASCII)));
+  }
+
+  /**
+   * @return whether {@code signature} is the signature of {@code data}, in constant time
+   */
+  public boolean verify(String data, String signature) {
+    return MessageDigest.isEqual(
+      signature(data).getBytes(StandardCharsets.US_ASCII),
+      signature.getBytes(StandardCharsets.US_ASCII)
+    );
+  }
+
   public String sign(String data) {
-    final String signature;
-    synchronized (mac) {
-      signature = Utils.base64UrlEncode(mac.doFinal(data.getBytes(StandardCharsets.US_ASCII)));
-    }
-    return data + "." + signature;
+    return data + "." + signature(data);
   }
 
   public boolean verify(String signedData) {
-    String[] parts = signedData.split("\\.");
-    if (parts.length < 2) {
+    int idx = signedData.lastIndexOf('.');
+    if (idx == -1) {
       // There is no signature on this data
       return false;
     }
-
-    final String signature = parts[parts.length - 1];
-    final String[] dataParts = Arrays.copyOfRange(parts,0, parts.length - 1);
-    final String data = String.join(".", dataParts);
-    final String calculatedSignature;
-
-    synchronized (mac) {
-      calculatedSignature = Utils.base64UrlEncode(mac.doFinal(data.getBytes(StandardCharsets.US_ASCII)));
-    }
-
-    return MessageDigest.isEqual(
-      calculatedSignature.getBytes(StandardCharsets.US_ASCII),
-      signature.getBytes(StandardCharsets.US_ASCII)
-    );
+    return verify(signedData.substring(0, idx), signedData.substring(idx + 1));
   }
 
   public String parse(String signedData) {
     if (!verify(signedData)) {
       return null;
     }
-
-    String[] parts = signedData.split("\\.");
-    final String[] dataParts = Arrays.copyOfRange(parts,0, parts.length - 1);
-    return String.join(".", dataParts);
+    return signedData.substring(0, signedData.lastIndexOf('.'));
   }
 }
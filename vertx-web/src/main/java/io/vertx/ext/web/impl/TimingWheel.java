@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.ext.web.impl;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.Handler;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.shareddata.LocalMap;
+import io.vertx.core.shareddata.Shareable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A hashed timing wheel for the coarse grained timeouts of the web handlers: session timeouts, heartbeats, request
+ * timeouts...
+ * <p>
+ * There is one wheel per event loop. Scheduling and cancelling a timeout is {@code O(1)} and doesn't create a Vert.x
+ * timer, the wheel itself only ticks while it holds timeouts. Timeouts have the resolution of a tick
+ * ({@value #TICK_MILLIS} ms) and never fire early.
+ * <p>
+ * Buckets are only touched from the event loop thread, timeouts scheduled or cancelled from another thread are handed
+ * over to the event loop. A cancelled timeout is unlinked from its bucket and releases its handler right away.
+ */
+public final class TimingWheel {
+
+  /**
+   * Duration of a tick in milliseconds.
+   */
+  public static final long TICK_MILLIS = 100;
+
+  private static final String WHEELS_MAP_NAME = "__vertx.web.timingWheels";
+  private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(TICK_MILLIS);
+  private static final int WHEEL_SIZE = 512;
+  private static final int MASK = WHEEL_SIZE - 1;
+
+  /**
+   * Schedule a timeout on the wheel of the event loop of {@code context}, the {@code handler} is called on
+   * {@code context}.
+   *
+   * @param context the context of the handler
+   * @param delay   the delay in milliseconds
+   * @param handler the handler
+   * @return the timeout, to cancel it
+   */
+  public static Timeout schedule(ContextInternal context, long delay, Handler<Void> handler) {
+    return of(context).schedule0(context, delay, handler);
+  }
+
+  /**
+   * @return the wheel of the event loop of {@code context}
+   */
+  public static TimingWheel of(ContextInternal context) {
+    LocalMap<String, Wheels> map = context.owner().sharedData().getLocalMap(WHEELS_MAP_NAME);
+    Wheels wheels = map.get(WHEELS_MAP_NAME);
+    if (wheels == null) {
+      Wheels candidate = new Wheels();
+      wheels = map.putIfAbsent(WHEELS_MAP_NAME, candidate);
+      if (wheels == null) {
+        wheels = candidate;
+      }
+    }
+    return wheels.wheels.computeIfAbsent(context.nettyEventLoop(), TimingWheel::new);
+  }
+
+  private final EventExecutor eventLoop;
+  private final Timeout[] buckets = new Timeout[WHEEL_SIZE];
+  private final long startTime = System.nanoTime();
+  private final Runnable tickTask = this::tick;
+  private long currentTick;
+  private int size;
+  private boolean ticking;
+
+  private TimingWheel(EventExecutor eventLoop) {
+    this.eventLoop = eventLoop;
+  }
+
+  /**
+   * @return the number of scheduled timeouts, only accurate on the event loop thread
+   */
+  public int size() {
+    return size;
+  }
+
+  private Timeout schedule0(ContextInternal context, long delay, Handler<Void> handler) {
+    Timeout timeout = new Timeout(this, context, Math.max(delay, 0), handler);
+    if (eventLoop.inEventLoop()) {
+      add(timeout);
+    } else {
+      eventLoop.execute(() -> add(timeout));
+    }
+    return timeout;
+  }
+
+  private long elapsedTicks() {
+    return (System.nanoTime() - startTime) / TICK_NANOS;
+  }
+
+  private void add(Timeout timeout) {
+    if (timeout.cancelled) {
+      return;
+    }
+    if (!ticking) {
+      // idle wheel, catch up with the clock
+      currentTick = elapsedTicks();
+    }
+    // round up and count the current partial tick, so a timeout never fires before its delay
+    long ticks = (timeout.delay + TICK_MILLIS - 1) / TICK_MILLIS;
+    timeout.deadline = Math.max(elapsedTicks(), currentTick) + ticks + 1;
+    link(timeout, (int) (timeout.deadline & MASK));
+    if (!ticking) {
+      ticking = true;
+      scheduleTick();
+    }
+  }
+
+  private void link(Timeout timeout, int idx) {
+    Timeout head = buckets[idx];
+    timeout.next = head;
+    if (head != null) {
+      head.prev = timeout;
+    }
+    buckets[idx] = timeout;
+    timeout.bucket = idx;
+    size++;
+  }
+
+  private void remove(Timeout timeout) {
+    if (timeout.prev != null) {
+      timeout.prev.next = timeout.next;
+    } else {
+      buckets[timeout.bucket] = timeout.next;
+    }
+    if (timeout.next != null) {
+      timeout.next.prev = timeout.prev;
+    }
+    timeout.prev = null;
+    timeout.next = null;
+    timeout.bucket = -1;
+    size--;
+  }
+
+  private void unlink(Timeout timeout) {
+    if (timeout.bucket != -1) {
+      remove(timeout);
+    }
+  }
+
+  private void scheduleTick() {
+    long nextTickTime = (currentTick + 1) * TICK_NANOS;
+    long delay = Math.max(nextTickTime - (System.nanoTime() - startTime), 0);
+    eventLoop.schedule(tickTask, delay, TimeUnit.NANOSECONDS);
+  }
+
+  private void tick() {
+    try {
+      long target = elapsedTicks();
+      while (currentTick < target && size > 0) {
+        currentTick++;
+        expire(currentTick);
+      }
+      currentTick = target;
+    } finally {
+      if (size > 0) {
+        scheduleTick();
+      } else {
+        ticking = false;
+      }
+    }
+  }
+
+  private void expire(long tick) {
+    int idx = (int) (tick & MASK);
+    // detach the bucket before firing, the handlers may cancel or schedule timeouts of this bucket
+    Timeout head = buckets[idx];
+    buckets[idx] = null;
+    for (Timeout timeout = head; timeout != null; timeout = timeout.next) {
+      timeout.bucket = -1;
+      size--;
+    }
+    Timeout timeout = head;
+    while (timeout != null) {
+      Timeout next = timeout.next;
+      timeout.prev = null;
+      timeout.next = null;
+      if (!timeout.cancelled) {
+        if (timeout.deadline <= tick) {
+          timeout.fire(eventLoop);
+        } else {
+          // due in a later revolution
+          link(timeout, idx);
+        }
+      }
+      timeout = next;
+    }
+  }
+
+  /**
+   * A scheduled timeout.
+   */
+  public static final class Timeout {
+
+    private final TimingWheel wheel;
+    private final ContextInternal context;
+    private final long delay;
+    private volatile Handler<Void> handler;
+    private volatile boolean cancelled;
+    // owned by the event loop
+    private long deadline;
+    private int bucket = -1;
+    private Timeout prev;
+    private Timeout next;
+
+    private Timeout(TimingWheel wheel, ContextInternal context, long delay, Handler<Void> handler) {
+      this.wheel = wheel;
+      this.context = context;
+      this.delay = delay;
+      this.handler = handler;
+    }
+
+    /**
+     * Cancel the timeout, the handler won't be called unless it is already running.
+     *
+     * @return {@code false} when the timeout was already cancelled
+     */
+    public boolean cancel() {
+      if (cancelled) {
+        return false;
+      }
+      cancelled = true;
+      // release the handler and what it captures even before the timeout is unlinked
+      handler = null;
+      if (wheel.eventLoop.inEventLoop()) {
+        wheel.unlink(this);
+      } else {
+        wheel.eventLoop.execute(() -> wheel.unlink(this));
+      }
+      return true;
+    }
+
+    private void fire(EventExecutor eventLoop) {
+      Handler<Void> handler = this.handler;
+      if (handler == null) {
+        // cancelled from another thread
+        return;
+      }
+      try {
+        if (context.isEventLoopContext() && context.nettyEventLoop() == eventLoop) {
+          context.dispatch(null, handler);
+        } else {
+          context.runOnContext(handler);
+        }
+      } catch (Throwable t) {
+        context.reportException(t);
+      }
+    }
+  }
+
+  private static final class Wheels implements Shareable {
+    private final Map<EventExecutor, TimingWheel> wheels = new ConcurrentHashMap<>();
+  }
+}
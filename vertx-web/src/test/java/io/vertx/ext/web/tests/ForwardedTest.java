@@ -474,6 +474,32 @@ public class ForwardedTest extends WebTestBase {
     testRequest("Forwarded", "proto=https");
   }
 
+  @Test
+  public void testForwardedQuotedPairs() throws Exception {
+    router.allowForward(FORWARD).route("/").handler(rc -> {
+      assertEquals("https", rc.request().scheme());
+      assertEquals("example.com:8443", rc.request().authority().toString());
+      assertEquals("[2001:db8:cafe::17]", rc.request().remoteAddress().host());
+      assertEquals(4711, rc.request().remoteAddress().port());
+      assertEquals("https://example.com:8443/", rc.request().absoluteURI());
+      rc.end();
+    });
+
+    testRequest("Forwarded", "by=unknown; For=\"[2001:db8:cafe::17]:4711\" ;proto=https;host=\"example.com:8443\", for=192.0.2.43;proto=http");
+  }
+
+  @Test
+  public void testForwardedSameConnection() throws Exception {
+    router.allowForward(ALL).route("/").handler(rc -> rc.end(rc.request().scheme() + " " + rc.request().remoteAddress().host()));
+
+    // the requests share the connection, a previous resolution must only be reused for the same headers
+    for (int i = 0; i < 2; i++) {
+      testRequest(HttpMethod.GET, "/", req -> req.putHeader("Forwarded", "for=1.2.3.4;proto=https"), 200, "OK", "https 1.2.3.4");
+      testRequest(HttpMethod.GET, "/", req -> req.putHeader("Forwarded", "for=5.6.7.8"), 200, "OK", "http 5.6.7.8");
+      testRequest(HttpMethod.GET, "/", req -> req.putHeader("X-Forwarded-For", "5.6.7.8"), 200, "OK", "http 5.6.7.8");
+      testRequest(HttpMethod.GET, "/", 200, "OK", "http 127.0.0.1");
+    }
+  }
 
   private void testRequest(String... headers) throws Exception {
     testRequest(HttpMethod.GET, "/", req -> {
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.ext.web.tests;
+
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RoutingContext;
+import org.junit.Test;
+
+public class RouteMetricsTest extends WebTestBase {
+
+  @Test
+  public void testDisabled() throws Exception {
+    router.route().handler(rc -> rc.response().end());
+    testRequest(HttpMethod.GET, "/", 200, "OK");
+    assertEquals(new JsonObject().put("routes", new JsonArray()), router.routeMetricsSnapshot());
+  }
+
+  @Test
+  public void testRouteAndHandlerMetrics() throws Exception {
+    router.routeMetrics(true);
+    router.route().setName("first").handler(RoutingContext::next).handler(rc -> vertx.setTimer(50, id -> rc.next()));
+    router.get("/ok").handler(rc -> rc.response().end());
+    router.get("/fail").handler(rc -> rc.fail(500));
+
+    for (int i = 0; i < 3; i++) {
+      testRequest(HttpMethod.GET, "/ok", 200, "OK");
+    }
+    testRequest(HttpMethod.GET, "/fail", 500, "Internal Server Error");
+    waitUntil(() -> routeCount(1) == 3 && routeCount(2) == 1);
+
+    JsonArray routes = router.routeMetricsSnapshot().getJsonArray("routes");
+    assertEquals(3, routes.size());
+
+    JsonObject first = routes.getJsonObject(0);
+    assertEquals("first", first.getString("name"));
+    assertEquals(4L, first.getLong("count").longValue());
+    assertEquals(0L, first.getLong("errors").longValue());
+    JsonArray handlers = first.getJsonArray("handlers");
+    assertEquals(2, handlers.size());
+    assertEquals(4L, handlers.getJsonObject(1).getLong("count").longValue());
+    // the second handler waits for a timer before calling next
+    assertTrue(handlers.getJsonObject(1).getJsonObject("latency").getDouble("p50") >= 50);
+    assertTrue(first.getJsonObject("latency").getDouble("max") >= 50);
+
+    JsonObject ok = routes.getJsonObject(1);
+    assertEquals("/ok", ok.getString("name"));
+    assertEquals(new JsonArray().add("GET"), ok.getJsonArray("methods"));
+    assertEquals(0L, ok.getLong("errors").longValue());
+
+    JsonObject fail = routes.getJsonObject(2);
+    assertEquals("/fail", fail.getString("name"));
+    assertEquals(1L, fail.getLong("errors").longValue());
+    assertEquals(1L, fail.getJsonArray("handlers").getJsonObject(0).getLong("errors").longValue());
+
+    router.routeMetrics(false);
+    assertEquals(0, router.routeMetricsSnapshot().getJsonArray("routes").size());
+  }
+
+  private long routeCount(int index) {
+    JsonArray routes = router.routeMetricsSnapshot().getJsonArray("routes");
+    return routes.size() > index ? routes.getJsonObject(index).getLong("count") : 0;
+  }
+}
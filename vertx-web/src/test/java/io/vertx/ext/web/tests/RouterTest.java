@@ -1049,6 +1049,18 @@ public class RouterTest extends WebTestBase {
       res -> assertEquals("text/html", res.getHeader("Accept")));
   }
 
+  @Test
+  public void testConsumesRewrittenContentType() throws Exception {
+    router.route("/rewrite").consumes("text/json").handler(rc -> {
+      rc.request().headers().set("Content-Type", "text/html");
+      rc.reroute("/target");
+    });
+    router.route("/target").consumes("text/html").handler(rc -> rc.response().end());
+    testRequestWithContentType(HttpMethod.GET, "/rewrite", "text/json", 200, "OK");
+    // the result cached for the rewritten header is computed from that header
+    testRequestWithContentType(HttpMethod.GET, "/target", "text/html", 200, "OK");
+  }
+
   @Test
   public void testConsumesWithParameterKey() throws Exception {
     router.route().consumes("text/html;boo").handler(rc -> rc.response().end());
@@ -1235,6 +1247,21 @@ public class RouterTest extends WebTestBase {
     testRequestWithAccepts(HttpMethod.GET, "/foo", "application/blah", 406, "Not Acceptable");
   }
 
+  @Test
+  public void testProducesRepeatedAccepts() throws Exception {
+    router.route().produces("text/html").produces("application/json").handler(rc -> {
+      rc.response().setStatusMessage(rc.getAcceptableContentType());
+      rc.response().end();
+    });
+    // the negotiation result of an Accept value is reused, it must not leak to other values
+    for (int i = 0; i < 3; i++) {
+      testRequestWithAccepts(HttpMethod.GET, "/foo", "text/html, application/json;q=0.5", 200, "text/html");
+      testRequestWithAccepts(HttpMethod.GET, "/foo", "text/html;q=0.5, application/json", 200, "application/json");
+      testRequestWithAccepts(HttpMethod.GET, "/foo", "text/json", 406, "Not Acceptable");
+      testRequest(HttpMethod.GET, "/foo", 200, "OK");
+    }
+  }
+
   @Test
   public void testProducesWithQParameterIgnored() throws Exception {
     router.route().produces("text/html;q").produces("text/html;q=0.1").handler(rc -> rc.response().end());
@@ -16,13 +16,16 @@
 
 package io.vertx.ext.web.tests.handler;
 
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.MultiMap;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.OpenOptions;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.RequestOptions;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.WriteStream;
 import io.vertx.ext.web.FileUpload;
 import io.vertx.ext.web.Route;
 import io.vertx.ext.web.RoutingContext;
@@ -275,6 +278,80 @@ public class BodyHandlerTest extends WebTestBase {
     sendFileUploadRequest(fileData, 200, "OK");
   }
 
+  @Test
+  public void testBodyBufferChunked() throws Exception {
+    Buffer part1 = TestUtils.randomBuffer(4096);
+    Buffer part2 = TestUtils.randomBuffer(4096);
+    router.route().handler(rc -> {
+      assertEquals(8192, rc.body().length());
+      assertEquals(Buffer.buffer().appendBuffer(part1).appendBuffer(part2), rc.body().buffer());
+      rc.response().end();
+    });
+    testRequest(HttpMethod.POST, "/", req -> {
+      req.setChunked(true);
+      req.write(part1);
+      req.write(part2);
+    }, 200, "OK", null);
+  }
+
+  @Test
+  public void testFileUploadStreamed() throws Exception {
+    File dir = tempUploads.newFolder();
+    String destination = new File(dir, "streamed.dat").getPath();
+    router.clear();
+    router.route().handler(BodyHandler.create()
+      .setUploadStreamHandler(upload -> vertx.fileSystem()
+        .open(destination, new OpenOptions())
+        .map(file -> (WriteStream<Buffer>) file)));
+    Buffer fileData = TestUtils.randomBuffer(20000);
+    router.route().handler(rc -> {
+      // streamed uploads are not tracked as file uploads
+      assertEquals(0, rc.fileUploads().size());
+      assertEquals(fileData, vertx.fileSystem().readFileBlocking(destination));
+      rc.response().end();
+    });
+    sendFileUploadRequest(fileData, 200, "OK");
+  }
+
+  @Test
+  public void testFileUploadStreamedPartTooBig() throws Exception {
+    AtomicBoolean ended = new AtomicBoolean();
+    router.clear();
+    router.route().handler(BodyHandler.create()
+      .setUploadPartLimit(10000)
+      .setUploadStreamHandler(upload -> Future.succeededFuture(new WriteStream<Buffer>() {
+        @Override
+        public WriteStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+          return this;
+        }
+        @Override
+        public Future<Void> write(Buffer data) {
+          return Future.succeededFuture();
+        }
+        @Override
+        public Future<Void> end() {
+          ended.set(true);
+          return Future.succeededFuture();
+        }
+        @Override
+        public WriteStream<Buffer> setWriteQueueMaxSize(int maxSize) {
+          return this;
+        }
+        @Override
+        public boolean writeQueueFull() {
+          return false;
+        }
+        @Override
+        public WriteStream<Buffer> drainHandler(Handler<Void> handler) {
+          return this;
+        }
+      })));
+    router.route().handler(rc -> fail("Should not be called"));
+    sendFileUploadRequest(TestUtils.randomBuffer(20000), 413, "Request Entity Too Large");
+    // the destination is not left open
+    waitUntil(ended::get);
+  }
+
   @Test
   public void testFileUploadTooBig() throws Exception {
     router.clear();
@@ -205,6 +205,27 @@ public class CORSHandlerTest extends WebTestBase {
     }, resp -> checkHeaders(resp, "http://vertx.io", "PUT,DELETE", null, null, null, String.valueOf(maxAge)), 204, "No Content", null);
   }
 
+  @Test
+  public void testPreflightConfigurationChange() throws Exception {
+    CorsHandler handler = CorsHandler.create().addOrigin("http://vertx.io").allowedMethod(HttpMethod.PUT);
+    router.route().handler(handler);
+    router.route().handler(context -> context.response().end());
+    for (int i = 0; i < 2; i++) {
+      testRequest(HttpMethod.OPTIONS, "/", req -> {
+        req.headers().add("origin", "http://vertx.io");
+        req.headers().add("access-control-request-method", "PUT");
+      }, resp -> checkHeaders(resp, "http://vertx.io", "PUT", null, null), 204, "No Content", null);
+      testRequest(HttpMethod.GET, "/", req -> req.headers().add("origin", "http://foo.io"), resp -> checkHeaders(resp, null, null, null, null), 403, "CORS Rejected - Invalid origin", null);
+    }
+    // the cached decisions and preflight headers must follow the configuration
+    handler.addOrigin("http://foo.io").allowedMethod(HttpMethod.DELETE).maxAgeSeconds(60);
+    testRequest(HttpMethod.OPTIONS, "/", req -> {
+      req.headers().add("origin", "http://vertx.io");
+      req.headers().add("access-control-request-method", "DELETE");
+    }, resp -> checkHeaders(resp, "http://vertx.io", "PUT,DELETE", null, null, null, "60"), 204, "No Content", null);
+    testRequest(HttpMethod.GET, "/", req -> req.headers().add("origin", "http://foo.io"), resp -> checkHeaders(resp, "http://foo.io", null, null, null), 200, "OK", null);
+  }
+
   @Test
   public void testRealRequestAllowCredentials() throws Exception {
     Set<HttpMethod> allowedMethods = new LinkedHashSet<>(Arrays.asList(HttpMethod.PUT, HttpMethod.DELETE));
@@ -371,6 +371,51 @@ public class CSRFHandlerTest extends WebTestBase {
     }, null, 200, "OK", null);
   }
 
+  @Test
+  public void testStatelessWithSession() throws Exception {
+    router.route().handler(SessionHandler.create(LocalSessionStore.create(vertx)));
+    router.route().handler(CSRFHandler.create(vertx, "Abracadabra").setStateless(true));
+    router.route().handler(rc -> {
+      // nothing is stored in the session
+      assertNull(rc.session().get(CSRFHandler.DEFAULT_HEADER_NAME));
+      rc.response().end();
+    });
+
+    testRequest(HttpMethod.GET, "/", null, resp -> {
+      storeCookies(resp);
+      assertEquals(2, cookieJar.size());
+    }, 200, "OK", null);
+    // the token is still valid, it is not sent again
+    testRequest(HttpMethod.GET, "/", req -> req.putHeader("cookie", encodeCookies()),
+      resp -> assertEquals(0, resp.headers().getAll("set-cookie").size()), 200, "OK", null);
+    // the token can be used until it expires
+    for (int i = 0; i < 2; i++) {
+      testRequest(HttpMethod.POST, "/", req -> {
+        req.putHeader("cookie", encodeCookies());
+        req.putHeader(CSRFHandler.DEFAULT_HEADER_NAME, cookieJar.get(CSRFHandler.DEFAULT_COOKIE_NAME));
+      }, null, 200, "OK", null);
+    }
+    // but only with the session it was issued for
+    String token = cookieJar.get(CSRFHandler.DEFAULT_COOKIE_NAME);
+    testRequest(HttpMethod.POST, "/", req -> {
+      req.putHeader("cookie", CSRFHandler.DEFAULT_COOKIE_NAME + "=" + token);
+      req.putHeader(CSRFHandler.DEFAULT_HEADER_NAME, token);
+    }, null, 403, "Forbidden", null);
+  }
+
+  @Test
+  public void testStatelessExpired() throws Exception {
+    router.route().handler(CSRFHandler.create(vertx, "Abracadabra").setStateless(true).setTimeout(1));
+    router.route().handler(rc -> rc.response().end());
+
+    testRequest(HttpMethod.GET, "/", null, this::storeCookies, 200, "OK", null);
+    Thread.sleep(10);
+    testRequest(HttpMethod.POST, "/", req -> {
+      req.putHeader("cookie", encodeCookies());
+      req.putHeader(CSRFHandler.DEFAULT_HEADER_NAME, cookieJar.get(CSRFHandler.DEFAULT_COOKIE_NAME));
+    }, null, 403, "Forbidden", null);
+  }
+
   @Test
   public void testMultipleGetWithSessionSameToken() throws Exception {
     router.route().handler(BodyHandler.create());
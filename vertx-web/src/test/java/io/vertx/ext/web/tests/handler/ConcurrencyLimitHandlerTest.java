@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.ext.web.tests.handler;
+
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.handler.ConcurrencyLimitHandler;
+import io.vertx.ext.web.tests.WebTestBase;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class ConcurrencyLimitHandlerTest extends WebTestBase {
+
+  @Test
+  public void testRejectOverLimit() throws Exception {
+    ConcurrencyLimitHandler handler = ConcurrencyLimitHandler.create(1)
+      .setAdaptive(false)
+      .setRetryAfter(3);
+    AtomicReference<RoutingContext> pending = new AtomicReference<>();
+    router.route().handler(handler);
+    router.route("/slow").handler(pending::set);
+    router.route("/fast").handler(rc -> rc.response().end());
+
+    CountDownLatch latch = new CountDownLatch(1);
+    client.request(HttpMethod.GET, "/slow")
+      .compose(HttpClientRequest::send)
+      .onComplete(onSuccess(resp -> {
+        assertEquals(200, resp.statusCode());
+        latch.countDown();
+      }));
+    waitUntil(() -> pending.get() != null);
+    assertEquals(1, handler.inFlight());
+
+    testRequest(HttpMethod.GET, "/fast", null, resp -> assertEquals("3", resp.getHeader("Retry-After")), 503, "Service Unavailable", null);
+
+    pending.get().response().end();
+    awaitLatch(latch);
+    waitUntil(() -> handler.inFlight() == 0);
+    testRequest(HttpMethod.GET, "/fast", 200, "OK");
+  }
+
+  @Test
+  public void testLimitShrinksOnOverload() throws Exception {
+    ConcurrencyLimitHandler handler = ConcurrencyLimitHandler.create(100);
+    router.route().handler(handler);
+    router.route().handler(rc -> vertx.setTimer(30, id -> rc.fail(503)));
+
+    // enough samples for a few windows
+    for (int i = 0; i < 40; i++) {
+      testRequest(HttpMethod.GET, "/", 503, "Service Unavailable");
+    }
+    assertTrue(handler.limit() < 100);
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.ext.web.tests.handler;
+
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.handler.ConditionalResponseHandler;
+import io.vertx.ext.web.tests.WebTestBase;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class ConditionalResponseHandlerTest extends WebTestBase {
+
+  @Test
+  public void testHashedETag() throws Exception {
+    router.route().handler(ConditionalResponseHandler.create());
+    router.route().handler(rc -> rc.json(new JsonObject().put("hello", "world")));
+
+    AtomicReference<String> etag = new AtomicReference<>();
+    testRequest(HttpMethod.GET, "/", null, resp -> {
+      etag.set(resp.getHeader("ETag"));
+      assertNotNull(etag.get());
+      assertTrue(etag.get().matches("\"[0-9a-f]+-[0-9a-f]+\""));
+    }, 200, "OK", "{\"hello\":\"world\"}");
+    // the same body gets the same tag
+    testRequest(HttpMethod.GET, "/", null, resp -> assertEquals(etag.get(), resp.getHeader("ETag")), 200, "OK", null);
+    testRequest(HttpMethod.GET, "/", req -> req.putHeader("If-None-Match", etag.get()), resp -> {
+      assertEquals(etag.get(), resp.getHeader("ETag"));
+    }, 304, "Not Modified", null);
+    testRequest(HttpMethod.GET, "/", req -> req.putHeader("If-None-Match", "\"other\", " + etag.get()), null, 304, "Not Modified", null);
+    testRequest(HttpMethod.GET, "/", req -> req.putHeader("If-None-Match", "\"other\""), null, 200, "OK", "{\"hello\":\"world\"}");
+  }
+
+  @Test
+  public void testNoCache() throws Exception {
+    router.route().handler(ConditionalResponseHandler.create());
+    router.route().handler(rc -> rc.end("hello"));
+
+    AtomicReference<String> etag = new AtomicReference<>();
+    testRequest(HttpMethod.GET, "/", null, resp -> etag.set(resp.getHeader("ETag")), 200, "OK", "hello");
+    testRequest(HttpMethod.GET, "/", req -> {
+      req.putHeader("If-None-Match", etag.get());
+      req.putHeader("Cache-Control", "no-cache");
+    }, null, 200, "OK", "hello");
+  }
+
+  @Test
+  public void testNotModifiedOnlyForSuccess() throws Exception {
+    router.get("/").handler(ConditionalResponseHandler.create());
+    router.get("/").handler(rc -> rc.response().setStatusCode(404).end());
+    router.post("/post").handler(ConditionalResponseHandler.create());
+    router.post("/post").handler(rc -> rc.end("hello"));
+
+    testRequest(HttpMethod.GET, "/", req -> req.putHeader("If-None-Match", "*"), resp -> assertNull(resp.getHeader("ETag")), 404, "Not Found", null);
+    testRequest(HttpMethod.POST, "/post", req -> req.putHeader("If-None-Match", "*"), resp -> assertNull(resp.getHeader("ETag")), 200, "OK", "hello");
+  }
+
+  @Test
+  public void testVersionTag() throws Exception {
+    AtomicInteger produced = new AtomicInteger();
+    router.route().handler(ConditionalResponseHandler.create().versionTag(rc -> "v1"));
+    router.route().handler(rc -> {
+      produced.incrementAndGet();
+      rc.end("hello");
+    });
+
+    testRequest(HttpMethod.GET, "/", null, resp -> assertEquals("\"v1\"", resp.getHeader("ETag")), 200, "OK", "hello");
+    testRequest(HttpMethod.GET, "/", req -> req.putHeader("If-None-Match", "\"v1\""), resp -> {
+      assertEquals("\"v1\"", resp.getHeader("ETag"));
+    }, 304, "Not Modified", null);
+    // the body was not produced for the conditional request
+    assertEquals(1, produced.get());
+  }
+}
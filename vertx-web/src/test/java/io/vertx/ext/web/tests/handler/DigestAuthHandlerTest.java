@@ -36,7 +36,6 @@ import java.util.concurrent.atomic.AtomicReference;
 public class DigestAuthHandlerTest extends WebTestBase {
 
   private static final MessageDigest MD5;
-  private static final String DEFAULT_NONCE_MAP_NAME = "htdigest.nonces";
 
   static {
     try {
@@ -52,26 +51,16 @@ public class DigestAuthHandlerTest extends WebTestBase {
   }
 
   @Test
-  public void checkNoncesCleanup() throws Exception {
-    router.clear();
-    HtdigestAuth authProvider = HtdigestAuth.create(vertx);
-    /* set nonceExpireTimeout to a negative value so the cached nonces must be deleted as soon as a new request
-     * is done
-     */
-    router.route("/dir/*").handler(DigestAuthHandler.create(vertx, authProvider, -100));
-    int initialNoncesSize = vertx.sharedData().getLocalMap(DEFAULT_NONCE_MAP_NAME).size();
-    /* Now make some new requests without authentication: for each new request a new nonce is generated
-     * and the old one is expired so the final nonces size must be equal to the initial one + 1
-     */
-    int numRequests = 5;
-    for (int i = 0; i < numRequests; ++i) {
-      testRequest(HttpMethod.GET, "/dir/index.html", null, null, 401, "Unauthorized", null);
-    }
-    int finalNoncesSize = vertx.sharedData().getLocalMap(DEFAULT_NONCE_MAP_NAME).size();
-    assertEquals(initialNoncesSize + 1, finalNoncesSize);
+  public void checkNonceExpired() throws Exception {
+    // the nonce expires before the client authenticates
+    doLogin("testrealm@host.com", 200, 1000, 401, "Unauthorized", null);
   }
 
   private void doLogin(String realm) throws Exception {
+    doLogin(realm, DigestAuthHandler.DEFAULT_NONCE_EXPIRE_TIMEOUT, 0, 200, "OK", "Welcome to the protected resource!");
+  }
+
+  private void doLogin(String realm, long nonceExpireTimeout, long delay, int statusCode, String statusMessage, String responseBody) throws Exception {
     router.clear();
     Handler<RoutingContext> handler = rc -> {
       assertNotNull(rc.user());
@@ -80,7 +69,7 @@ public class DigestAuthHandlerTest extends WebTestBase {
     };
 
     HtdigestAuth authProvider = HtdigestAuth.create(vertx);
-    router.route("/dir/*").handler(DigestAuthHandler.create(vertx, authProvider));
+    router.route("/dir/*").handler(DigestAuthHandler.create(vertx, authProvider, nonceExpireTimeout));
 
     router.route("/dir/index.html").handler(handler);
 
@@ -98,6 +87,10 @@ public class DigestAuthHandlerTest extends WebTestBase {
       opaque.set(wwwAuth.substring(pos, endOfVariable(wwwAuth, pos, '\"')));
     }, 401, "Unauthorized", null);
 
+    if (delay > 0) {
+      Thread.sleep(delay);
+    }
+
     // Now try again with credentials
     testRequest(HttpMethod.GET, "/dir/index.html", req -> {
       // rebuild the response value
@@ -106,8 +99,8 @@ public class DigestAuthHandlerTest extends WebTestBase {
       req.putHeader("Authorization", "Digest username=\"Mufasa\", realm=\"testrealm@host.com\", nonce=\"" + nonce.get() + "\", uri=\"/dir/index.html\", qop=auth, nc=00000001, cnonce=\"0a4f113b\", response=\"" + response + "\", opaque=\"" + opaque.get() + "\"");
     }, resp -> {
       String wwwAuth = resp.headers().get("WWW-Authenticate");
-      assertNull(wwwAuth);
-    }, 200, "OK", "Welcome to the protected resource!");
+      assertEquals(statusCode != 200, wwwAuth != null);
+    }, statusCode, statusMessage, responseBody);
   }
 
   private static int endOfVariable(String header, int pos, char delim) {
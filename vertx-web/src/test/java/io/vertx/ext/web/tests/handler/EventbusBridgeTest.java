@@ -620,6 +620,75 @@ public class EventbusBridgeTest extends WebTestBase {
     testUnregister("someaddress");
   }
 
+  @Test
+  public void testSharedRegistrationFanOut() throws Exception {
+    router.route("/eventbus/*").subRouter(
+      sockJS.bridge(allAccessOptions));
+
+    CountDownLatch latch = new CountDownLatch(1);
+    BridgeClient client1 = new BridgeClient(super.wsClient, transport);
+    BridgeClient client2 = new BridgeClient(super.wsClient, transport);
+    AtomicInteger received1 = new AtomicInteger();
+    AtomicInteger received2 = new AtomicInteger();
+
+    client1.handler((address, received) -> {
+      assertEquals("foobar", received.getValue("body"));
+      if (received1.incrementAndGet() == 1) {
+        // the second client stays registered after the first one leaves
+        client1.unregister(addr)
+          .onComplete(onSuccess(v -> vertx.setTimer(200, tid -> vertx.eventBus().publish(addr, "foobar"))));
+      } else {
+        fail("Should not receive after unregister");
+      }
+    });
+    client2.handler((address, received) -> {
+      assertEquals("foobar", received.getValue("body"));
+      if (received2.incrementAndGet() == 2) {
+        vertx.setTimer(200, tid -> {
+          assertEquals(1, received1.get());
+          latch.countDown();
+        });
+      }
+    });
+
+    client1.connect(websocketURI)
+      .compose(v -> client1.register(addr))
+      .compose(v -> client2.connect(websocketURI))
+      .compose(v -> client2.register(addr))
+      .onComplete(onSuccess(v -> vertx.setTimer(200, tid -> vertx.eventBus().publish(addr, "foobar"))));
+
+    awaitLatch(latch);
+  }
+
+  @Test
+  public void testSharedRegistrationSendToOne() throws Exception {
+    router.route("/eventbus/*").subRouter(
+      sockJS.bridge(allAccessOptions));
+
+    CountDownLatch latch = new CountDownLatch(1);
+    BridgeClient client1 = new BridgeClient(super.wsClient, transport);
+    BridgeClient client2 = new BridgeClient(super.wsClient, transport);
+    AtomicInteger received = new AtomicInteger();
+
+    client1.handler((address, msg) -> received.incrementAndGet());
+    client2.handler((address, msg) -> received.incrementAndGet());
+
+    client1.connect(websocketURI)
+      .compose(v -> client1.register(addr))
+      .compose(v -> client2.connect(websocketURI))
+      .compose(v -> client2.register(addr))
+      .onComplete(onSuccess(v -> vertx.setTimer(200, tid -> {
+        vertx.eventBus().send(addr, "foobar");
+        vertx.setTimer(200, tid2 -> {
+          // a point to point message is not broadcast
+          assertEquals(1, received.get());
+          latch.countDown();
+        });
+      })));
+
+    awaitLatch(latch);
+  }
+
   @Test
   public void testInvalidType() throws Exception {
     router.route("/eventbus/*").subRouter(
@@ -69,6 +69,39 @@ public class JWTAuthHandlerTest extends WebTestBase {
 
   }
 
+  @Test
+  public void testTokenCache() throws Exception {
+    JWTAuthHandler jwtHandler = JWTAuthHandler.create(authProvider).tokenCache(16, 60_000);
+    router.route("/protected/*").handler(jwtHandler);
+    router.route("/protected/somepage").handler(rc -> {
+      assertEquals("paulo", rc.user().attributes().getJsonObject("accessToken").getString("sub"));
+      // must not leak to the next request
+      rc.user().attributes().put("seen", true);
+      rc.response().end("Welcome to the protected resource!");
+    });
+    router.route("/protected/seen").handler(rc -> rc.response().end(String.valueOf(rc.user().attributes().containsKey("seen"))));
+
+    final String token = authProvider.generateToken(new JsonObject().put("sub", "paulo"), new JWTOptions().setExpiresInSeconds(60));
+
+    for (int i = 0; i < 3; i++) {
+      testRequest(HttpMethod.GET, "/protected/somepage", req -> req.putHeader("Authorization", "Bearer " + token), 200, "OK", "Welcome to the protected resource!");
+    }
+    testRequest(HttpMethod.GET, "/protected/seen", req -> req.putHeader("Authorization", "Bearer " + token), 200, "OK", "false");
+    JsonObject metrics = jwtHandler.tokenCacheMetrics();
+    assertEquals(1L, (long) metrics.getLong("misses"));
+    assertEquals(3L, (long) metrics.getLong("hits"));
+    assertEquals(1, (int) metrics.getInteger("size"));
+
+    // a bad token is never cached
+    testRequest(HttpMethod.GET, "/protected/somepage", req -> req.putHeader("Authorization", "Bearer x" + token), 401, "Unauthorized", null);
+    assertEquals(1, (int) jwtHandler.tokenCacheMetrics().getInteger("size"));
+
+    jwtHandler.invalidateToken(token);
+    assertEquals(0, (int) jwtHandler.tokenCacheMetrics().getInteger("size"));
+    testRequest(HttpMethod.GET, "/protected/somepage", req -> req.putHeader("Authorization", "Bearer " + token), 200, "OK", "Welcome to the protected resource!");
+    assertEquals(3L, (long) jwtHandler.tokenCacheMetrics().getLong("misses"));
+  }
+
   @Test
   public void testLoginFail() throws Exception {
 
@@ -16,13 +16,20 @@
 
 package io.vertx.ext.web.tests.handler;
 
+import io.vertx.core.Context;
 import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.handler.LoggerFormat;
 import io.vertx.ext.web.handler.LoggerHandler;
+import io.vertx.ext.web.handler.impl.LoggerHandlerImpl;
 import io.vertx.ext.web.tests.WebTestBase;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 /**
  *
@@ -84,6 +91,127 @@ public class LoggerHandlerTest extends WebTestBase {
     latch.await();
   }
 
+  @Test
+  public void testLoggerTemplate() throws Exception {
+    List<String> messages = new CopyOnWriteArrayList<>();
+    LoggerHandler logger = new LoggerHandlerImpl(LoggerFormat.TEMPLATE) {
+      @Override
+      protected void doLog(int status, String message) {
+        messages.add(message);
+      }
+    }.template("%h %l %u %t \"%r\" %>s %b %{X-Foo}o 100%%");
+    router.route().handler(logger);
+    router.route().handler(rc -> rc.response().putHeader("X-Foo", "bar").end("hello"));
+    testRequest(HttpMethod.GET, "/somedir?a=b", 200, "OK");
+    assertEquals(1, messages.size());
+    assertTrue(messages.get(0), messages.get(0).matches(
+      "\\S+ - - \\[[^\\]]+\\] \"GET /somedir\\?a=b HTTP/1\\.1\" 200 5 bar 100%"));
+  }
+
+  @Test
+  public void testLoggerJsonTemplate() throws Exception {
+    List<String> messages = new CopyOnWriteArrayList<>();
+    LoggerHandler logger = new LoggerHandlerImpl(LoggerFormat.TEMPLATE) {
+      @Override
+      protected void doLog(int status, String message) {
+        messages.add(message);
+      }
+    }.jsonTemplate(Arrays.asList("%m", "%U", "%q", "%s", "%B", "%b", "%D", "%u", "%{X-Foo}i"));
+    router.route().handler(logger);
+    router.route().handler(rc -> rc.response().end());
+    testRequest(HttpMethod.GET, "/somedir?a=b", req -> req.putHeader("X-Foo", "\"quoted\""), 200, "OK", null);
+    assertEquals(1, messages.size());
+    JsonObject json = new JsonObject(messages.get(0));
+    assertEquals("GET", json.getString("method"));
+    assertEquals("/somedir", json.getString("path"));
+    assertEquals("a=b", json.getString("query"));
+    assertEquals(200, (int) json.getInteger("status"));
+    assertEquals(0, (int) json.getInteger("bytes"));
+    assertTrue(json.containsKey("bytesCLF"));
+    assertNull(json.getInteger("bytesCLF"));
+    assertTrue(json.getLong("durationMicros") >= 0);
+    assertTrue(json.containsKey("user"));
+    assertNull(json.getString("user"));
+    assertEquals("\"quoted\"", json.getString("X-Foo"));
+  }
+
+  @Test
+  public void testLoggerInvalidTemplate() {
+    LoggerHandler logger = LoggerHandler.create(LoggerFormat.TEMPLATE);
+    for (String template : Arrays.asList("%h %Z", "%{X-Foo", "%{X-Foo}s", "%")) {
+      try {
+        logger.template(template);
+        fail(template);
+      } catch (IllegalArgumentException e) {
+        // OK
+      }
+    }
+    try {
+      logger.jsonTemplate(Arrays.asList("status"));
+      fail();
+    } catch (IllegalArgumentException e) {
+      // OK
+    }
+    try {
+      LoggerHandler.create().template("%h");
+      fail();
+    } catch (IllegalStateException e) {
+      // OK
+    }
+  }
+
+  @Test
+  public void testLoggerAsync() throws Exception {
+    List<String> messages = new CopyOnWriteArrayList<>();
+    CountDownLatch logged = new CountDownLatch(3);
+    LoggerHandler logger = new LoggerHandlerImpl(LoggerFormat.TINY) {
+      @Override
+      protected void doLog(int status, String message) {
+        assertFalse(Context.isOnEventLoopThread());
+        messages.add(message);
+        logged.countDown();
+      }
+    }.setAsync(16, false);
+    router.route().handler(logger);
+    router.route().handler(rc -> rc.response().end());
+    for (int i = 0; i < 3; i++) {
+      testRequest(HttpMethod.GET, "/somedir" + i, 200, "OK");
+    }
+    assertTrue(logged.await(10, TimeUnit.SECONDS));
+    for (int i = 0; i < 3; i++) {
+      assertTrue(messages.get(i).startsWith("GET /somedir" + i + " 200"));
+    }
+    assertEquals(0, logger.droppedMessages());
+  }
+
+  @Test
+  public void testLoggerAsyncDropsWhenFull() throws Exception {
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    LoggerHandler logger = new LoggerHandlerImpl(LoggerFormat.TINY) {
+      @Override
+      protected void doLog(int status, String message) {
+        blocked.countDown();
+        try {
+          release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    }.setAsync(1, false);
+    router.route().handler(logger);
+    router.route().handler(rc -> rc.response().end());
+    testRequest(HttpMethod.GET, "/somedir", 200, "OK");
+    // the worker is now stuck logging the first message
+    assertTrue(blocked.await(10, TimeUnit.SECONDS));
+    // the second one fills the queue and the others are dropped
+    for (int i = 0; i < 3; i++) {
+      testRequest(HttpMethod.GET, "/somedir", 200, "OK");
+    }
+    assertEquals(2, logger.droppedMessages());
+    release.countDown();
+  }
+
   private void testLogger(LoggerHandler logger) throws Exception {
     router.route().handler(logger);
     router.route().handler(rc -> rc.response().end());
@@ -22,6 +22,7 @@ import org.junit.Test;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 public class MultiAuthorizationHandlerTest extends WebTestBase {
@@ -167,6 +168,56 @@ public class MultiAuthorizationHandlerTest extends WebTestBase {
       403, "Forbidden", "Forbidden");
   }
 
+  @Test
+  public void testJWTAuthenticationWithAuthorizationCache() throws Exception {
+    AtomicInteger fetches = new AtomicInteger();
+    AuthorizationProvider provider = createProvider("authzProvider1", RoleBasedAuthorization.create("role1"));
+    AuthorizationHandler authorizationHandler = AuthorizationHandler.create(RoleBasedAuthorization.create("role1"))
+      .addAuthorizationProvider(new AuthorizationProvider() {
+        @Override
+        public String getId() {
+          return provider.getId();
+        }
+
+        @Override
+        public Future<Void> getAuthorizations(User user) {
+          fetches.incrementAndGet();
+          return provider.getAuthorizations(user);
+        }
+      })
+      .authorizationCache(16, 60_000);
+
+    router.route("/protected/*").handler(JWTAuthHandler.create(authProvider));
+    router.route("/protected/*").handler(authorizationHandler);
+    router.route("/protected/page1").handler(rc -> rc.response().end("Welcome"));
+
+    String token = authProvider.generateToken(new JsonObject().put("sub", "paulo"), new JWTOptions());
+    for (int i = 0; i < 3; i++) {
+      testRequest(HttpMethod.GET, "/protected/page1", req -> req.putHeader("Authorization", "Bearer " + token), 200, "OK", "Welcome");
+    }
+    assertEquals(1, fetches.get());
+
+    // a new token of the same user has its own entry, its claims may differ
+    String newToken = authProvider.generateToken(new JsonObject().put("sub", "paulo").put("jti", "2"), new JWTOptions());
+    testRequest(HttpMethod.GET, "/protected/page1", req -> req.putHeader("Authorization", "Bearer " + newToken), 200, "OK", "Welcome");
+    assertEquals(2, fetches.get());
+
+    // invalidating the subject removes the entries of both tokens
+    authorizationHandler.invalidateAuthorizations("paulo");
+    testRequest(HttpMethod.GET, "/protected/page1", req -> req.putHeader("Authorization", "Bearer " + token), 200, "OK", "Welcome");
+    testRequest(HttpMethod.GET, "/protected/page1", req -> req.putHeader("Authorization", "Bearer " + newToken), 200, "OK", "Welcome");
+    assertEquals(4, fetches.get());
+
+    // another user has its own entry
+    String otherToken = authProvider.generateToken(new JsonObject().put("sub", "julien"), new JWTOptions());
+    testRequest(HttpMethod.GET, "/protected/page1", req -> req.putHeader("Authorization", "Bearer " + otherToken), 200, "OK", "Welcome");
+    assertEquals(5, fetches.get());
+
+    authorizationHandler.invalidateAuthorizations();
+    testRequest(HttpMethod.GET, "/protected/page1", req -> req.putHeader("Authorization", "Bearer " + token), 200, "OK", "Welcome");
+    assertEquals(6, fetches.get());
+  }
+
   private AuthorizationProvider createProvider(String id, Authorization authorization) {
     Set<Authorization> _authorizations = new HashSet<>();
     _authorizations.add(authorization);
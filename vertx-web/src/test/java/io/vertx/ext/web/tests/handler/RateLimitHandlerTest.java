@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2011-2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.ext.web.tests.handler;
+
+import io.vertx.core.Future;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.auth.User;
+import io.vertx.ext.auth.authentication.AuthenticationProvider;
+import io.vertx.ext.auth.authentication.TokenCredentials;
+import io.vertx.ext.web.handler.APIKeyHandler;
+import io.vertx.ext.web.handler.RateLimitHandler;
+import io.vertx.ext.web.handler.RateLimitStore;
+import io.vertx.ext.web.tests.WebTestBase;
+import org.junit.Test;
+
+public class RateLimitHandlerTest extends WebTestBase {
+
+  @Test
+  public void testRateLimit() throws Exception {
+    router.route().handler(RateLimitHandler.create(2, 60_000));
+    router.route().handler(rc -> rc.response().end());
+
+    testRequest(HttpMethod.GET, "/", null, resp -> {
+      assertEquals("2", resp.getHeader("RateLimit-Limit"));
+      assertEquals("1", resp.getHeader("RateLimit-Remaining"));
+      assertEquals("2;w=60", resp.getHeader("RateLimit-Policy"));
+      assertNotNull(resp.getHeader("RateLimit-Reset"));
+    }, 200, "OK", null);
+    testRequest(HttpMethod.GET, "/", null, resp -> assertEquals("0", resp.getHeader("RateLimit-Remaining")), 200, "OK", null);
+    testRequest(HttpMethod.GET, "/", null, resp -> {
+      // a token every 30 seconds
+      long retryAfter = Long.parseLong(resp.getHeader("Retry-After"));
+      assertTrue(retryAfter > 0 && retryAfter <= 30);
+    }, 429, "Too Many Requests", null);
+  }
+
+  @Test
+  public void testRateLimitRefill() throws Exception {
+    router.route().handler(RateLimitHandler.create(10, 1000).setBurst(1).setHeaders(false));
+    router.route().handler(rc -> rc.response().end());
+
+    testRequest(HttpMethod.GET, "/", null, resp -> assertNull(resp.getHeader("RateLimit-Remaining")), 200, "OK", null);
+    testRequest(HttpMethod.GET, "/", 429, "Too Many Requests");
+    // a token every 100 ms
+    Thread.sleep(150);
+    testRequest(HttpMethod.GET, "/", 200, "OK");
+  }
+
+  @Test
+  public void testRateLimitPerKey() throws Exception {
+    AuthenticationProvider authProvider = credentials -> {
+      String token = ((TokenCredentials) credentials).getToken();
+      if ("a".equals(token) || "b".equals(token)) {
+        return Future.succeededFuture(User.fromName(token));
+      }
+      return Future.failedFuture("Unknown API key");
+    };
+    router.route().handler(APIKeyHandler.create(authProvider));
+    router.route().handler(RateLimitHandler.create(1, 60_000).keyByApiKey(RateLimitHandler.DEFAULT_API_KEY_HEADER));
+    router.route().handler(rc -> rc.response().end());
+
+    testRequest(HttpMethod.GET, "/", req -> req.putHeader("X-API-KEY", "a"), 200, "OK", null);
+    testRequest(HttpMethod.GET, "/", req -> req.putHeader("X-API-KEY", "a"), 429, "Too Many Requests", null);
+    testRequest(HttpMethod.GET, "/", req -> req.putHeader("X-API-KEY", "b"), 200, "OK", null);
+    testRequest(HttpMethod.GET, "/", req -> req.putHeader("X-API-KEY", "c"), 401, "Unauthorized", null);
+  }
+
+  @Test
+  public void testRateLimitUnauthenticatedApiKey() throws Exception {
+    router.route().handler(RateLimitHandler.create(1, 60_000).keyByApiKey(RateLimitHandler.DEFAULT_API_KEY_HEADER));
+    router.route().handler(rc -> rc.response().end());
+
+    // a new key per request doesn't get a new bucket, unauthenticated requests are limited per address
+    testRequest(HttpMethod.GET, "/", req -> req.putHeader("X-API-KEY", "a"), 200, "OK", null);
+    testRequest(HttpMethod.GET, "/", req -> req.putHeader("X-API-KEY", "b"), 429, "Too Many Requests", null);
+  }
+
+  @Test
+  public void testRateLimitMaxKeys() throws Exception {
+    router.route().handler(RateLimitHandler.create(1, 60_000).setMaxKeys(1).keyBy(rc -> rc.request().getHeader("key")));
+    router.route().handler(rc -> rc.response().end());
+
+    // two keys of the same shard, a shard holds a single key
+    String first = "k0";
+    String second = null;
+    for (int i = 1; second == null; i++) {
+      if (shard("custom:k" + i) == shard("custom:" + first)) {
+        second = "k" + i;
+      }
+    }
+    String secondKey = second;
+    testRequest(HttpMethod.GET, "/", req -> req.putHeader("key", first), 200, "OK", null);
+    testRequest(HttpMethod.GET, "/", req -> req.putHeader("key", first), 429, "Too Many Requests", null);
+    // a new key is admitted, it evicts the least recently used bucket
+    testRequest(HttpMethod.GET, "/", req -> req.putHeader("key", secondKey), 200, "OK", null);
+    testRequest(HttpMethod.GET, "/", req -> req.putHeader("key", secondKey), 429, "Too Many Requests", null);
+    // the evicted key starts again with a full bucket
+    testRequest(HttpMethod.GET, "/", req -> req.putHeader("key", first), 200, "OK", null);
+  }
+
+  private static int shard(String key) {
+    int h = key.hashCode();
+    return (h ^ (h >>> 16)) & 15;
+  }
+
+  @Test
+  public void testRateLimitStore() throws Exception {
+    RateLimitStore store = RateLimitStore.create(vertx);
+    // two handlers sharing their quotas, like two nodes
+    router.route("/a").handler(RateLimitHandler.create(4, 60_000).store("test", store).setSyncInterval(20));
+    router.route("/b").handler(RateLimitHandler.create(4, 60_000).store("test", store).setSyncInterval(20));
+    router.route().handler(rc -> rc.response().end());
+
+    testRequest(HttpMethod.GET, "/b", 200, "OK");
+    Thread.sleep(200);
+    for (int i = 0; i < 3; i++) {
+      testRequest(HttpMethod.GET, "/a", 200, "OK");
+    }
+    // let both handlers synchronize, each one is charged with the requests admitted by the other
+    Thread.sleep(200);
+    testRequest(HttpMethod.GET, "/a", 429, "Too Many Requests");
+    testRequest(HttpMethod.GET, "/b", 429, "Too Many Requests");
+  }
+}
@@ -17,12 +17,18 @@
 package io.vertx.ext.web.tests.handler;
 
 import io.vertx.core.http.HttpMethod;
+import io.vertx.core.internal.ContextInternal;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.TimeoutHandler;
+import io.vertx.ext.web.impl.TimingWheel;
 import io.vertx.ext.web.tests.WebTestBase;
 import org.junit.Test;
 
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * @author <a href="http://tfox.org">Tim Fox</a>
@@ -39,6 +45,22 @@ public class TimeoutHandlerTest extends WebTestBase {
     testRequest(HttpMethod.GET, "/", 503, "Service Unavailable");
   }
 
+  @Test
+  public void testTimeoutNotEarly() throws Exception {
+    long timeout = 250;
+    AtomicLong start = new AtomicLong();
+    router.route().handler(rc -> {
+      start.set(System.nanoTime());
+      rc.next();
+    });
+    router.route().handler(TimeoutHandler.create(timeout));
+    router.route().handler(rc -> {
+      // Don't end it
+    });
+    testRequest(HttpMethod.GET, "/", 503, "Service Unavailable");
+    assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start.get()) >= timeout);
+  }
+
   @Test
   public void testTimeoutWithCustomEndHandler() throws Exception {
     long timeout = 500;
@@ -68,6 +90,24 @@ public class TimeoutHandlerTest extends WebTestBase {
     Thread.sleep(1000); // Let timer kick in, if it's going to
   }
 
+  @Test
+  public void testTimeoutReleasedOnEnd() throws Exception {
+    AtomicReference<ContextInternal> context = new AtomicReference<>();
+    router.route().handler(rc -> {
+      context.set((ContextInternal) rc.vertx().getOrCreateContext());
+      rc.next();
+    });
+    router.route().handler(TimeoutHandler.create(60_000));
+    router.route().handler(rc -> rc.response().end());
+    testRequest(HttpMethod.GET, "/", 200, "OK");
+    // the timeout and its routing context are released when the request ends, not when it expires
+    AtomicInteger size = new AtomicInteger(-1);
+    waitUntil(() -> {
+      context.get().runOnContext(v -> size.set(TimingWheel.of(context.get()).size()));
+      return size.get() == 0;
+    });
+  }
+
   @Test
   public void testTimeoutWithReroute() throws Exception {
     router.route().handler(TimeoutHandler.create(500));
@@ -0,0 +1,32 @@
+package io.vertx.ext.web.tests.handler.sockjs;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.handler.sockjs.impl.JsonCodec;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
+public class JsonCodecTest {
+
+  @Test
+  public void testEncodeNoEscaping() {
+    assertEquals("\"hello world\"", JsonCodec.encodeMessage("hello world").toString());
+    assertEquals("\"hello world\"", JsonCodec.encodeMessage(Buffer.buffer("hello world")).toString());
+  }
+
+  @Test
+  public void testEncodeEscaping() {
+    String expected = "\"a\\\"b\\\\c\\nd\\u00e9\\u20ac\\u0001\"";
+    assertEquals(expected, JsonCodec.encodeMessage("a\"b\\c\nd\u00e9\u20ac\u0001").toString());
+    assertEquals(expected, JsonCodec.encodeMessage(Buffer.buffer("a\"b\\c\nd\u00e9\u20ac\u0001")).toString());
+  }
+
+  @Test
+  public void testEncodeFrame() {
+    Buffer frame = JsonCodec.encodeFrame(Arrays.asList(JsonCodec.encodeMessage("x"), JsonCodec.encodeMessage("\u00e9")));
+    assertEquals("a[\"x\",\"\\u00e9\"]", frame.toString());
+    assertEquals("[\"x\",\"\\u00e9\"]", JsonCodec.encode(new String[]{"x", "\u00e9"}));
+  }
+}
@@ -0,0 +1,66 @@
+package io.vertx.ext.web.tests.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.ext.web.impl.ExpiringCache;
+import io.vertx.ext.web.tests.WebTestBase;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ExpiringCacheTest extends WebTestBase {
+
+  @Test
+  public void testEvictionKeepsLoadingEntries() {
+    ContextInternal context = (ContextInternal) vertx.getOrCreateContext();
+    ExpiringCache<String, String> cache = new ExpiringCache<>(1, value -> 60_000);
+    AtomicInteger loads = new AtomicInteger();
+    Promise<String> pending = Promise.promise();
+
+    cache.get(context, "a", key -> {
+      loads.incrementAndGet();
+      return pending.future();
+    });
+    cache.get(context, "b", key -> {
+      loads.incrementAndGet();
+      return Future.succeededFuture("b");
+    });
+    // the cache is full but "a" is still loading
+    cache.get(context, "a", key -> {
+      loads.incrementAndGet();
+      return Future.succeededFuture("a");
+    });
+    assertEquals(2, loads.get());
+
+    pending.complete("a");
+    cache.get(context, "c", key -> {
+      loads.incrementAndGet();
+      return Future.succeededFuture("c");
+    });
+    assertEquals(3, loads.get());
+    assertEquals(1, cache.size());
+    assertEquals(2L, (long) cache.metrics().getLong("evictions"));
+  }
+
+  @Test
+  public void testConcurrentLoadsShareTheValue() {
+    ContextInternal context = (ContextInternal) vertx.getOrCreateContext();
+    ExpiringCache<String, String> cache = new ExpiringCache<>(16, value -> 60_000);
+    AtomicInteger loads = new AtomicInteger();
+    Promise<String> pending = Promise.promise();
+    waitFor(3);
+    for (int i = 0; i < 3; i++) {
+      cache.get(context, "a", key -> {
+        loads.incrementAndGet();
+        return pending.future();
+      }).onComplete(onSuccess(value -> {
+        assertEquals("v", value);
+        complete();
+      }));
+    }
+    pending.complete("v");
+    await();
+    assertEquals(1, loads.get());
+  }
+}
@@ -0,0 +1,107 @@
+package io.vertx.ext.web.tests.impl;
+
+import io.vertx.core.Context;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.ext.web.impl.TimingWheel;
+import io.vertx.ext.web.tests.WebTestBase;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TimingWheelTest extends WebTestBase {
+
+  @Test
+  public void testTimeoutFiresOnContextNotEarly() {
+    ContextInternal context = (ContextInternal) vertx.getOrCreateContext();
+    context.runOnContext(v -> {
+      long start = System.currentTimeMillis();
+      TimingWheel.schedule(context, 250, v2 -> {
+        assertSame(context, vertx.getOrCreateContext());
+        assertTrue(System.currentTimeMillis() - start >= 250);
+        testComplete();
+      });
+    });
+    await();
+  }
+
+  @Test
+  public void testCancelledTimeoutDoesNotFire() {
+    ContextInternal context = (ContextInternal) vertx.getOrCreateContext();
+    AtomicInteger fired = new AtomicInteger();
+    context.runOnContext(v -> {
+      TimingWheel.Timeout timeout = TimingWheel.schedule(context, 100, v2 -> fired.incrementAndGet());
+      assertTrue(timeout.cancel());
+      assertFalse(timeout.cancel());
+      TimingWheel.schedule(context, 300, v2 -> {
+        assertEquals(0, fired.get());
+        testComplete();
+      });
+    });
+    await();
+  }
+
+  @Test
+  public void testCancelRemovesTimeout() {
+    ContextInternal context = (ContextInternal) vertx.getOrCreateContext();
+    context.runOnContext(v -> {
+      TimingWheel wheel = TimingWheel.of(context);
+      int size = wheel.size();
+      TimingWheel.Timeout timeout = TimingWheel.schedule(context, 60_000, v2 -> fail());
+      assertEquals(size + 1, wheel.size());
+      timeout.cancel();
+      assertEquals(size, wheel.size());
+      testComplete();
+    });
+    await();
+  }
+
+  @Test
+  public void testCancelFromAnotherThreadRemovesTimeout() throws Exception {
+    ContextInternal context = (ContextInternal) vertx.getOrCreateContext();
+    TimingWheel.Timeout timeout = TimingWheel.schedule(context, 60_000, v -> fail());
+    timeout.cancel();
+    // both the schedule and the cancel are handed over to the event loop, in order
+    context.runOnContext(v -> {
+      assertEquals(0, TimingWheel.of(context).size());
+      testComplete();
+    });
+    await();
+  }
+
+  @Test
+  public void testScheduleFromAnotherThread() {
+    ContextInternal context = (ContextInternal) vertx.getOrCreateContext();
+    // scheduled from the test thread, handed over to the event loop
+    TimingWheel.schedule(context, 100, v -> {
+      assertTrue(Context.isOnEventLoopThread());
+      testComplete();
+    });
+    await();
+  }
+
+  @Test
+  public void testHandlerCancelsTimeoutOfSameBucket() {
+    ContextInternal context = (ContextInternal) vertx.getOrCreateContext();
+    AtomicInteger fired = new AtomicInteger();
+    context.runOnContext(v -> {
+      TimingWheel.Timeout[] timeouts = new TimingWheel.Timeout[2];
+      // same delay on the same tick, both timeouts land in the same bucket
+      timeouts[0] = TimingWheel.schedule(context, 100, v2 -> {
+        fired.incrementAndGet();
+        timeouts[1].cancel();
+      });
+      timeouts[1] = TimingWheel.schedule(context, 100, v2 -> {
+        fired.incrementAndGet();
+        timeouts[0].cancel();
+      });
+      TimingWheel.schedule(context, 100, v2 -> fired.incrementAndGet());
+      // the wheel keeps ticking
+      TimingWheel.schedule(context, 300, v2 -> {
+        assertEquals(2, fired.get());
+        assertEquals(0, TimingWheel.of(context).size());
+        testComplete();
+      });
+    });
+    await();
+  }
+}